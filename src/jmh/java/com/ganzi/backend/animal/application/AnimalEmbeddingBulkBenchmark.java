@@ -0,0 +1,193 @@
+package com.ganzi.backend.animal.application;
+
+import com.ganzi.backend.animal.domain.Animal;
+import com.ganzi.backend.animal.domain.AnimalType;
+import com.ganzi.backend.animal.domain.ProcessState;
+import com.ganzi.backend.animal.domain.repository.AnimalEmbeddingFailureRepository;
+import com.ganzi.backend.animal.domain.repository.AnimalEmbeddingRepository;
+import com.ganzi.backend.animal.domain.repository.AnimalRepository;
+import com.ganzi.backend.animal.infrastructure.client.UpstageEmbeddingClient;
+import com.ganzi.backend.animal.infrastructure.mapper.AnimalEmbeddingMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 동물 임베딩 일괄 생성 처리량 비교. 로컬 스텁 서버가 호출마다 latency-ms만큼 지연한 뒤 입력 수만큼 벡터를 돌려줍니다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=AnimalEmbeddingBulkBenchmark
+ * </pre>
+ * batchSize=1, maxInFlight=1이 기존(동물마다 한 번씩 순차 호출) 방식과 같습니다. DB 저장은 제외하고 API 호출 파이프라인만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AnimalEmbeddingBulkBenchmark {
+
+    @Param({"1000"})
+    private int animals;
+
+    @Param({"4096"})
+    private int dimension;
+
+    @Param({"50"})
+    private int latencyMs;
+
+    @Param({"1", "64"})
+    private int batchSize;
+
+    @Param({"1", "4"})
+    private int maxInFlight;
+
+    private HttpServer server;
+    private ExecutorService batchExecutor;
+    private AnimalEmbeddingService service;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/solar/embeddings", this::respond);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        // 처리율 제한 없이, 동시 호출 상한은 maxInFlight로 고정
+        UpstageEmbeddingClient client = new UpstageEmbeddingClient(new RestTemplate(), new SimpleMeterRegistry(),
+                "http://127.0.0.1:" + server.getAddress().getPort(), "benchmark", "/solar/embeddings", "stub",
+                0, 1, maxInFlight, maxInFlight, maxInFlight, 1, 0, 0);
+
+        List<Animal> catalog = new ArrayList<>();
+        for (int i = 0; i < animals; i++) {
+            catalog.add(Animal.builder()
+                    .desertionNo(String.format("%08d", i))
+                    .breedName("말티즈")
+                    .animalType(AnimalType.DOG)
+                    .status(ProcessState.PROTECTING)
+                    .build());
+        }
+        batchExecutor = Executors.newFixedThreadPool(maxInFlight);
+        service = new AnimalEmbeddingService(animalRepository(catalog), embeddingRepository(), failureRepository(), client,
+                new AnimalEmbeddingMapper(), event -> { }, new TransactionTemplate(new NoOpTransactionManager()),
+                batchExecutor, batchSize, maxInFlight);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batchExecutor.shutdownNow();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public int generateAll() {
+        return service.generateAllEmbeddings(EmbeddingGenerationMode.ALL);
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        // 요청 JSON의 input 배열 원소 수만큼 벡터를 돌려준다
+        int inputs = Math.max(1, body.split("품종", -1).length - 1);
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        StringBuilder vector = new StringBuilder("[");
+        for (int i = 0; i < dimension; i++) {
+            vector.append(i == 0 ? "" : ",").append("0.01");
+        }
+        vector.append(']');
+        StringBuilder response = new StringBuilder("{\"model\":\"stub\",\"data\":[");
+        for (int i = 0; i < inputs; i++) {
+            response.append(i == 0 ? "" : ",").append("{\"embedding\":").append(vector).append('}');
+        }
+        response.append("]}");
+
+        byte[] bytes = response.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static AnimalRepository animalRepository(List<Animal> catalog) {
+        return (AnimalRepository) Proxy.newProxyInstance(AnimalRepository.class.getClassLoader(),
+                new Class<?>[]{AnimalRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findPageAfter")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    String after = (String) args[0];
+                    int limit = ((Pageable) args[1]).getPageSize();
+                    return catalog.stream()
+                            .filter(animal -> animal.getDesertionNo().compareTo(after) > 0)
+                            .limit(limit)
+                            .toList();
+                });
+    }
+
+    private static AnimalEmbeddingRepository embeddingRepository() {
+        return (AnimalEmbeddingRepository) Proxy.newProxyInstance(AnimalEmbeddingRepository.class.getClassLoader(),
+                new Class<?>[]{AnimalEmbeddingRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllById" -> List.of();
+                    case "saveAll" -> args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static AnimalEmbeddingFailureRepository failureRepository() {
+        return (AnimalEmbeddingFailureRepository) Proxy.newProxyInstance(
+                AnimalEmbeddingFailureRepository.class.getClassLoader(),
+                new Class<?>[]{AnimalEmbeddingFailureRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "deleteAllByIdInBatch" -> null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.ganzi.backend.animal.application;
+
+import com.ganzi.backend.animal.domain.Animal;
+import com.ganzi.backend.animal.domain.AnimalImage;
+import com.ganzi.backend.animal.domain.AnimalType;
+import com.ganzi.backend.animal.domain.NeuterStatus;
+import com.ganzi.backend.animal.domain.ProcessState;
+import com.ganzi.backend.animal.domain.Sex;
+import com.ganzi.backend.animal.infrastructure.persistence.AnimalJdbcRepository;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+/**
+ * 동기화 한 페이지(1000건, 동물당 이미지 3장) 저장 처리량(rows/s) 비교.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=AnimalSyncWriteBenchmark
+ * </pre>
+ * perRow는 기존 경로(existsById + saveAll의 merge SELECT + 건별 INSERT, 이미지는 IDENTITY라 건별 INSERT 후 키 조회)를,
+ * batched는 IN 쿼리 한 번 + AnimalJdbcRepository의 JDBC 배치를 재현합니다.
+ * 인메모리 H2라 왕복 비용이 거의 없으므로, 네트워크를 거치는 MySQL에서는 차이가 더 커집니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnimalSyncWriteBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final int IMAGES_PER_ANIMAL = 3;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private AnimalJdbcRepository animalJdbcRepository;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:animal_sync_write;MODE=MySQL;DB_CLOSE_DELAY=-1", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        animalJdbcRepository = new AnimalJdbcRepository(jdbcTemplate);
+        try (Statement statement = dataSource.getConnection().createStatement()) {
+            statement.execute("CREATE TABLE animals ("
+                    + "desertion_no VARCHAR(20) PRIMARY KEY, rfid_code VARCHAR(255), breed_name VARCHAR(255), "
+                    + "animal_type VARCHAR(20), age VARCHAR(255), sex VARCHAR(20), neuter_status VARCHAR(20), "
+                    + "weight VARCHAR(255), color VARCHAR(255), found_date VARCHAR(255), found_place VARCHAR(255), "
+                    + "notice_start_date VARCHAR(255), notice_end_date VARCHAR(255), status VARCHAR(20), "
+                    + "shelter_name VARCHAR(255), shelter_tel VARCHAR(255), shelter_address VARCHAR(255), "
+                    + "province VARCHAR(255), city VARCHAR(255), special_mark VARCHAR(255), health_info VARCHAR(255), "
+                    + "vaccination VARCHAR(255), health_check VARCHAR(255), personality VARCHAR(255), fingerprint VARCHAR(64), "
+                    + "created_at TIMESTAMP, updated_at TIMESTAMP)");
+            statement.execute("CREATE TABLE animal_images ("
+                    + "id BIGINT AUTO_INCREMENT PRIMARY KEY, desertion_no VARCHAR(20), image_url VARCHAR(255), "
+                    + "image_order INT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = dataSource.getConnection().createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public int perRow() {
+        List<Animal> page = nextPage();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int saved = 0;
+        for (Animal animal : page) {
+            if (exists(animal.getDesertionNo())) {
+                continue;
+            }
+            // saveAll은 할당 키 엔티티를 merge하므로 INSERT 전에 다시 SELECT
+            exists(animal.getDesertionNo());
+            animalJdbcRepository.insertAll(List.of(animal));
+            jdbcTemplate.update("DELETE FROM animal_images WHERE desertion_no = ?", animal.getDesertionNo());
+            for (AnimalImage image : animal.getImages()) {
+                GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+                jdbcTemplate.update(connection -> {
+                    PreparedStatement ps = connection.prepareStatement("INSERT INTO animal_images "
+                            + "(desertion_no, image_url, image_order, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                            Statement.RETURN_GENERATED_KEYS);
+                    ps.setString(1, animal.getDesertionNo());
+                    ps.setString(2, image.getImageUrl());
+                    ps.setInt(3, image.getImageOrder());
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                    return ps;
+                }, keyHolder);
+            }
+            saved++;
+        }
+        return saved;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public int batched() {
+        List<Animal> page = nextPage();
+        List<String> desertionNos = page.stream().map(Animal::getDesertionNo).toList();
+        String placeholders = String.join(",", Collections.nCopies(desertionNos.size(), "?"));
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT desertion_no FROM animals WHERE desertion_no IN (" + placeholders + ")",
+                String.class, desertionNos.toArray()));
+        List<Animal> animalsToSave = new ArrayList<>();
+        for (Animal animal : page) {
+            if (existing.add(animal.getDesertionNo())) {
+                animalsToSave.add(animal);
+            }
+        }
+        animalJdbcRepository.insertAll(animalsToSave);
+        return animalsToSave.size();
+    }
+
+    private boolean exists(String desertionNo) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM animals WHERE desertion_no = ?", Integer.class, desertionNo);
+        return count != null && count > 0;
+    }
+
+    private List<Animal> nextPage() {
+        List<Animal> page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            String desertionNo = Long.toString(sequence++);
+            Animal animal = Animal.builder()
+                    .desertionNo(desertionNo)
+                    .breedName("말티즈")
+                    .animalType(AnimalType.DOG)
+                    .age("2023(년생)")
+                    .sex(Sex.MALE)
+                    .neuterStatus(NeuterStatus.YES)
+                    .weight("3.5")
+                    .foundDate("20241101")
+                    .noticeStartDate("20241102")
+                    .noticeEndDate("20241112")
+                    .status(ProcessState.PROTECTING)
+                    .shelterName("강남동물보호센터")
+                    .shelterTel("02-1234-5678")
+                    .shelterAddress("서울시 강남구 테헤란로 123")
+                    .province("서울특별시")
+                    .build();
+            List<String> imageUrls = new ArrayList<>(IMAGES_PER_ANIMAL);
+            for (int image = 0; image < IMAGES_PER_ANIMAL; image++) {
+                imageUrls.add("https://example.com/" + desertionNo + "/" + image + ".jpg");
+            }
+            animal.addImages(imageUrls);
+            page.add(animal);
+        }
+        return page;
+    }
+}
@@ -0,0 +1,104 @@
+package com.ganzi.backend.recommendation.application.index;
+
+import com.ganzi.backend.global.embedding.EmbeddingVectors;
+import com.ganzi.backend.recommendation.application.scoring.DotProductKernel;
+import com.ganzi.backend.recommendation.application.scoring.DotProductKernels;
+import com.ganzi.backend.recommendation.application.scoring.TopKSelector;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * HNSW 근사 검색과 전수 스코어링의 질의당 지연 비교.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=HnswIndexBenchmark
+ * </pre>
+ * 근사 검색의 recall은 {@code HnswIndexTest}에서 검증합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HnswIndexBenchmark {
+
+    private static final int QUERY_POOL = 64;
+
+    @Param({"256"})
+    private int dimension;
+
+    @Param({"50000"})
+    private int rows;
+
+    @Param({"10"})
+    private int k;
+
+    @Param({"50", "100", "200"})
+    private int ef;
+
+    private DotProductKernel kernel;
+    private float[][] catalog;
+    private float[][] queries;
+    private HnswIndex index;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        kernel = DotProductKernels.best();
+        catalog = new float[rows][];
+        index = new HnswIndex(kernel, dimension, 16, 200);
+        for (int row = 0; row < rows; row++) {
+            catalog[row] = unitVector(random);
+            index.add(Integer.toString(row), catalog[row]);
+        }
+        queries = new float[QUERY_POOL][];
+        for (int i = 0; i < QUERY_POOL; i++) {
+            queries[i] = unitVector(random);
+        }
+    }
+
+    @Benchmark
+    public int[] bruteForceSearch() {
+        return bruteForce(nextQuery()).sortedIds();
+    }
+
+    @Benchmark
+    public List<String> hnswSearch() {
+        return index.search(nextQuery(), k, ef);
+    }
+
+    private float[] nextQuery() {
+        cursor = (cursor + 1) % QUERY_POOL;
+        return queries[cursor];
+    }
+
+    private TopKSelector bruteForce(float[] query) {
+        TopKSelector selector = new TopKSelector(k);
+        for (int row = 0; row < rows; row++) {
+            selector.offer(row, kernel.dot(query, catalog[row], 0, dimension));
+        }
+        return selector;
+    }
+
+    private float[] unitVector(Random random) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        EmbeddingVectors.normalizeInPlace(vector);
+        return vector;
+    }
+}
@@ -0,0 +1,97 @@
+package com.ganzi.backend.recommendation.application.scoring;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 카탈로그 전체(rows x dimension)를 한 번 스캔하는 비용 비교.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=DotProductBenchmark
+ * </pre>
+ * legacyCosine은 정규화 도입 전 RecommendationService.cosineSimilarity와 동일한 구현입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DotProductBenchmark {
+
+    @Param({"4096"})
+    private int dimension;
+
+    @Param({"2048"})
+    private int rows;
+
+    private float[] query;
+    private float[] matrix;
+    private DotProductKernel scalar;
+    private DotProductKernel vector;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        query = new float[dimension];
+        matrix = new float[rows * dimension];
+        for (int i = 0; i < query.length; i++) {
+            query[i] = (float) random.nextGaussian();
+        }
+        for (int i = 0; i < matrix.length; i++) {
+            matrix[i] = (float) random.nextGaussian();
+        }
+        scalar = DotProductKernels.scalar();
+        vector = DotProductKernels.best();
+    }
+
+    @Benchmark
+    public void legacyCosine(Blackhole blackhole) {
+        for (int row = 0; row < rows; row++) {
+            blackhole.consume(cosineSimilarity(query, matrix, row * dimension));
+        }
+    }
+
+    @Benchmark
+    public void scalarDot(Blackhole blackhole) {
+        scan(scalar, blackhole);
+    }
+
+    @Benchmark
+    public void vectorApiDot(Blackhole blackhole) {
+        scan(vector, blackhole);
+    }
+
+    private void scan(DotProductKernel kernel, Blackhole blackhole) {
+        for (int row = 0; row < rows; row++) {
+            blackhole.consume(kernel.dot(query, matrix, row * dimension, dimension));
+        }
+    }
+
+    private double cosineSimilarity(float[] a, float[] b, int offset) {
+        double dot = 0.0;
+        double normA = 0.0;
+        double normB = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            float bi = b[offset + i];
+            dot += a[i] * bi;
+            normA += a[i] * a[i];
+            normB += bi * bi;
+        }
+        if (normA == 0.0 || normB == 0.0) {
+            return 0.0;
+        }
+        return dot / (Math.sqrt(normA) * Math.sqrt(normB));
+    }
+}
@@ -0,0 +1,139 @@
+package com.ganzi.backend.user.application;
+
+import com.ganzi.backend.global.embedding.EmbeddingStorageFormat;
+import com.ganzi.backend.global.embedding.EmbeddingVectorCodec;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * computeUserEmbedding의 동물 임베딩 조회 방식 비교 (단건 조회 루프 vs IN 청크 조회).
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=UserEmbeddingFetchBenchmark
+ * </pre>
+ * 인메모리 H2라 왕복 비용이 거의 없으므로, 네트워크를 거치는 MySQL에서는 차이가 더 커집니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserEmbeddingFetchBenchmark {
+
+    private static final int CATALOG_SIZE = 5000;
+
+    @Param({"10", "100", "1000"})
+    private int interactions;
+
+    @Param({"4096"})
+    private int dimension;
+
+    private Connection connection;
+    private List<String> desertionNos;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:user_embedding_fetch;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE animal_embeddings ("
+                    + "desertion_no VARCHAR(20) PRIMARY KEY, embedding BLOB, norm DOUBLE)");
+        }
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO animal_embeddings (desertion_no, embedding, norm) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < CATALOG_SIZE; i++) {
+                float[] vector = new float[dimension];
+                for (int d = 0; d < dimension; d++) {
+                    vector[d] = (float) random.nextGaussian();
+                }
+                insert.setString(1, "A" + i);
+                insert.setBytes(2, EmbeddingVectorCodec.encode(vector, EmbeddingStorageFormat.FLOAT32));
+                insert.setDouble(3, 1.0);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        List<String> all = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            all.add("A" + i);
+        }
+        Collections.shuffle(all, random);
+        desertionNos = all.subList(0, interactions);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public float[] findByIdLoop() throws SQLException {
+        float[] sum = new float[dimension];
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT desertion_no, embedding, norm FROM animal_embeddings WHERE desertion_no = ?")) {
+            for (String desertionNo : desertionNos) {
+                select.setString(1, desertionNo);
+                try (ResultSet rs = select.executeQuery()) {
+                    accumulate(rs, sum);
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float[] findAllByIdChunked() throws SQLException {
+        float[] sum = new float[dimension];
+        int chunkSize = UserInterestService.EMBEDDING_FETCH_CHUNK_SIZE;
+        for (int from = 0; from < desertionNos.size(); from += chunkSize) {
+            List<String> chunk = desertionNos.subList(from, Math.min(from + chunkSize, desertionNos.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            try (PreparedStatement select = connection.prepareStatement(
+                    "SELECT desertion_no, embedding, norm FROM animal_embeddings WHERE desertion_no IN (" + placeholders + ")")) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    select.setString(i + 1, chunk.get(i));
+                }
+                try (ResultSet rs = select.executeQuery()) {
+                    accumulate(rs, sum);
+                }
+            }
+        }
+        return sum;
+    }
+
+    private void accumulate(ResultSet rs, float[] sum) throws SQLException {
+        while (rs.next()) {
+            float[] vector = EmbeddingVectorCodec.decode(rs.getBytes(2));
+            double scale = rs.getDouble(3);
+            for (int i = 0; i < vector.length; i++) {
+                sum[i] += (float) (vector[i] * scale);
+            }
+        }
+    }
+}
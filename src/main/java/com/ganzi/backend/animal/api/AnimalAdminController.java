@@ -1,12 +1,20 @@
 package com.ganzi.backend.animal.api;
 
 import com.ganzi.backend.animal.api.doc.AnimalAdminControllerDoc;
+import com.ganzi.backend.animal.api.dto.response.AnimalSyncRunDetailResponse;
+import com.ganzi.backend.animal.api.dto.response.AnimalSyncRunResponse;
+import com.ganzi.backend.animal.application.AnimalSyncRunService;
 import com.ganzi.backend.animal.application.AnimalSyncService;
+import com.ganzi.backend.animal.domain.AnimalSyncMode;
 import com.ganzi.backend.global.code.dto.ApiResponse;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -15,18 +23,39 @@ import org.springframework.web.bind.annotation.RestController;
 public class AnimalAdminController implements AnimalAdminControllerDoc {
 
     private final AnimalSyncService animalSyncService;
+    private final AnimalSyncRunService animalSyncRunService;
 
     @Override
     @PostMapping("/sync/initial")
-    public ResponseEntity<ApiResponse<String>> syncInitial() {
-        animalSyncService.syncAbandonedAnimals();
+    public ResponseEntity<ApiResponse<String>> syncInitial(
+            @RequestParam(defaultValue = "UPSERT") AnimalSyncMode mode
+    ) {
+        animalSyncService.syncAbandonedAnimals(mode);
         return ResponseEntity.ok(ApiResponse.onSuccess("초기 동기화가 완료되었습니다."));
     }
 
     @Override
     @PostMapping("/sync/daily")
-    public ResponseEntity<ApiResponse<String>> syncDaily() {
-        animalSyncService.dailySync();
+    public ResponseEntity<ApiResponse<String>> syncDaily(
+            @RequestParam(defaultValue = "UPSERT") AnimalSyncMode mode
+    ) {
+        animalSyncService.dailySync(mode);
         return ResponseEntity.ok(ApiResponse.onSuccess("일일 동기화가 완료되었습니다."));
     }
+
+    @Override
+    @GetMapping("/sync/runs")
+    public ResponseEntity<ApiResponse<List<AnimalSyncRunResponse>>> getSyncRuns(
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.onSuccess(animalSyncRunService.getRecentRuns(size)));
+    }
+
+    @Override
+    @GetMapping("/sync/runs/{runId}")
+    public ResponseEntity<ApiResponse<AnimalSyncRunDetailResponse>> getSyncRun(
+            @PathVariable Long runId
+    ) {
+        return ResponseEntity.ok(ApiResponse.onSuccess(animalSyncRunService.getRunDetail(runId)));
+    }
 }
@@ -8,7 +8,7 @@ import com.ganzi.backend.animal.application.AnimalService;
 import com.ganzi.backend.global.code.dto.ApiResponse;
 import com.ganzi.backend.global.security.userdetails.CustomUserDetails;
 import com.ganzi.backend.user.api.dto.RecordInterestRequest;
-import com.ganzi.backend.user.application.UserInterestService;
+import com.ganzi.backend.user.application.UserInterestWriteBuffer;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -34,7 +34,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AnimalController implements AnimalControllerDoc {
 
     private final AnimalService animalService;
-    private final UserInterestService userInterestService;
+    private final UserInterestWriteBuffer userInterestWriteBuffer;
 
     @Override
     @GetMapping
@@ -62,7 +62,9 @@ public class AnimalController implements AnimalControllerDoc {
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         Long userId = userDetails.getUser().getId();
-        userInterestService.recordInterest(userId, request.desertionNo(), request.dwellTimeSeconds());
+        // 저장은 버퍼에서 비동기로 하므로 없는 동물은 여기서 404로 돌려준다
+        animalService.validateAnimalExists(request.desertionNo());
+        userInterestWriteBuffer.add(userId, request.desertionNo(), request.dwellTimeSeconds());
         return ResponseEntity.ok(ApiResponse.onSuccess(null));
     }
 
@@ -1,12 +1,15 @@
 package com.ganzi.backend.animal.api;
 
 import com.ganzi.backend.animal.api.doc.AnimalEmbeddingAdminControllerDoc;
+import com.ganzi.backend.animal.application.AnimalEmbeddingMigrationService;
 import com.ganzi.backend.animal.application.AnimalEmbeddingService;
+import com.ganzi.backend.animal.application.EmbeddingGenerationMode;
 import com.ganzi.backend.global.code.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -15,10 +18,21 @@ import org.springframework.web.bind.annotation.RestController;
 public class AnimalEmbeddingAdminController implements AnimalEmbeddingAdminControllerDoc {
 
     private final AnimalEmbeddingService embeddingService;
+    private final AnimalEmbeddingMigrationService embeddingMigrationService;
 
     @PostMapping("/generate")
-    public ResponseEntity<ApiResponse<String>> generateAll() {
-        embeddingService.generateAllEmbeddingsAsync();
+    public ResponseEntity<ApiResponse<String>> generateAll(
+            @RequestParam(defaultValue = "CHANGED") EmbeddingGenerationMode mode
+    ) {
+        embeddingService.generateAllEmbeddingsAsync(mode);
+
+        return ResponseEntity.accepted()
+                .body(ApiResponse.onSuccess(null));
+    }
+
+    @PostMapping("/migrate")
+    public ResponseEntity<ApiResponse<String>> migrateLegacyJson() {
+        embeddingMigrationService.migrateLegacyJsonAsync();
 
         return ResponseEntity.accepted()
                 .body(ApiResponse.onSuccess(null));
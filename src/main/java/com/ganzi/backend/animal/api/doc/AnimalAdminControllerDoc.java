@@ -1,8 +1,13 @@
 package com.ganzi.backend.animal.api.doc;
 
+import com.ganzi.backend.animal.api.dto.response.AnimalSyncRunDetailResponse;
+import com.ganzi.backend.animal.api.dto.response.AnimalSyncRunResponse;
+import com.ganzi.backend.animal.domain.AnimalSyncMode;
 import com.ganzi.backend.global.code.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
 
 @Tag(name = "유기동물 관리", description = "유기동물 데이터 동기화 관리 API (관리자용)")
@@ -21,9 +26,23 @@ public interface AnimalAdminControllerDoc {
                     - 기간: 최근 7일
                     - 페이지 크기: 1000건씩
                     - 중복 체크: 구조번호(desertionNo) 기준으로 중복 제거
+                    
+                    ### 동기화 모드 (mode)
+                    - UPSERT(기본): 신규 동물을 저장하고, 공공 API 내용(fingerprint)이 바뀐 기존 동물도 갱신
+                    - INSERT_ONLY: 신규 동물만 저장하고, 기존 동물은 보호 종료 상태만 반영
+                    
+                    ### 중단된 동기화 재개
+                    - 페이지 조회는 실패 시 지수 백오프로 재시도하고, 그래도 실패하면 실행이 FAILED로 남음
+                    - 다음 동기화는 미완료 실행을 먼저 원래 기간으로 재개해 저장하지 못한 페이지만 처리
+                    - 재개가 실패해도 이번 기간의 동기화는 그대로 진행
+                    - 최대 시도 횟수(기본 3회)에 도달한 실행은 ABANDONED로 남기고 더 이상 재개하지 않음
+                    - 다른 동기화가 진행 중이면 409(ANIMAL409)를 반환
                     """
     )
-    ResponseEntity<ApiResponse<String>> syncInitial();
+    ResponseEntity<ApiResponse<String>> syncInitial(
+            @Parameter(description = "동기화 모드 (UPSERT, INSERT_ONLY / 기본값: UPSERT)")
+            AnimalSyncMode mode
+    );
 
     @Operation(
             summary = "수동 일일 동기화 실행",
@@ -35,10 +54,55 @@ public interface AnimalAdminControllerDoc {
                     - 페이지 크기: 1000건씩
                     - 중복 체크: 구조번호(desertionNo) 기준으로 중복 제거
                     
+                    ### 동기화 모드 (mode)
+                    - UPSERT(기본): 신규 동물을 저장하고, 공공 API 내용(fingerprint)이 바뀐 기존 동물도 갱신
+                    - INSERT_ONLY: 신규 동물만 저장하고, 기존 동물은 보호 종료 상태만 반영
+                    
                     ### 자동 스케줄
                     - 매일 새벽 3시에 자동으로 동일한 동기화가 실행
                     - 수동 실행은 긴급 상황이나 보완 용도
+                    
+                    ### 중단된 동기화 재개
+                    - 페이지 조회는 실패 시 지수 백오프로 재시도하고, 그래도 실패하면 실행이 FAILED로 남음
+                    - 다음 동기화는 미완료 실행을 먼저 원래 기간으로 재개해 저장하지 못한 페이지만 처리
+                    - 재개가 실패해도 이번 기간의 동기화는 그대로 진행
+                    - 최대 시도 횟수(기본 3회)에 도달한 실행은 ABANDONED로 남기고 더 이상 재개하지 않음
+                    - 다른 동기화가 진행 중이면 409(ANIMAL409)를 반환
+                    """
+    )
+    ResponseEntity<ApiResponse<String>> syncDaily(
+            @Parameter(description = "동기화 모드 (UPSERT, INSERT_ONLY / 기본값: UPSERT)")
+            AnimalSyncMode mode
+    );
+
+    @Operation(
+            summary = "동기화 실행 이력 조회",
+            description = """
+                    최근 동기화 실행 목록을 최신순으로 조회합니다.
+                    
+                    ### 응답 항목
+                    - 동기화 종류(INITIAL, DAILY), 모드, 기간
+                    - 상태(RUNNING, COMPLETED, FAILED, ABANDONED), 시도 횟수, 실패 사유
+                    - 전체 건수, 마지막 페이지, 1페이지부터 연속으로 완료한 마지막 페이지, 완료 페이지 수, 저장 건수
+                    """
+    )
+    ResponseEntity<ApiResponse<List<AnimalSyncRunResponse>>> getSyncRuns(
+            @Parameter(description = "조회 개수 (기본값: 20, 최대: 100)")
+            int size
+    );
+
+    @Operation(
+            summary = "동기화 실행 상세 조회",
+            description = """
+                    동기화 실행 하나와 페이지별 처리 기록을 조회합니다.
+                    
+                    ### 페이지별 기록
+                    - 받은 건수, 저장 건수
+                    - 조회 시도 횟수, 조회 시간(ms, 재시도 대기 포함), 저장 시간(ms)
                     """
     )
-    ResponseEntity<ApiResponse<String>> syncDaily();
+    ResponseEntity<ApiResponse<AnimalSyncRunDetailResponse>> getSyncRun(
+            @Parameter(description = "동기화 실행 ID", example = "1")
+            Long runId
+    );
 }
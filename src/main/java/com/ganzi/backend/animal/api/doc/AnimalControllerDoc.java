@@ -121,6 +121,19 @@ public interface AnimalControllerDoc {
             @PathVariable String desertionNo
     );
 
+    @Operation(
+            summary = "관심(조회) 기록",
+            description = """
+                    로그인한 사용자가 유기동물 상세를 본 기록과 체류 시간을 남깁니다.
+                    
+                    ### 처리 방식
+                    - 구조번호가 존재하는지 확인한 뒤 저장 대기열에 넣고 바로 응답
+                    - 실제 저장과 사용자 임베딩 반영은 저장 주기(기본 1초)마다 비동기로 처리
+                    
+                    ### 에러
+                    - 존재하지 않는 구조번호: 404 (ANIMAL404)
+                    """
+    )
     ResponseEntity<ApiResponse<Void>> recordUserInterest(
             @Valid @RequestBody RecordInterestRequest request,
             @AuthenticationPrincipal CustomUserDetails userDetails
@@ -1,7 +1,9 @@
 package com.ganzi.backend.animal.api.doc;
 
+import com.ganzi.backend.animal.application.EmbeddingGenerationMode;
 import com.ganzi.backend.global.code.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 
@@ -19,18 +21,46 @@ public interface AnimalEmbeddingAdminControllerDoc {
                     ### 처리 내용
                     - Animal 엔티티의 주요 특성(품종, 성별, 나이, 색상, 체중, 발견 장소, 특징 등)을 텍스트로 구성
                     - Upstage 임베딩 API에 배치 단위(예: 64개 이하)로 요청
-                    - 응답으로 받은 벡터를 JSON 문자열 형태로 animal_embeddings 테이블에 저장
+                    - 응답으로 받은 벡터를 L2 정규화하여 바이너리(float32 little-endian) 형태로, 원래 크기(norm)와 함께 animal_embeddings 테이블에 저장
                     - Animal과 1:1 관계(구조번호 desertionNo 기준)로 매핑
+                    - 입력 텍스트의 SHA-256 해시와 모델명을 함께 저장
+                    
+                    ### 생성 모드 (mode)
+                    - CHANGED(기본): 저장된 입력 해시·모델명과 다른 동물만 임베딩하고 나머지는 API 호출 없이 건너뜀
+                    - MISSING: 임베딩 행이 없는 동물만 임베딩
+                    - ALL: 모든 동물을 다시 임베딩
+                    - FAILED: 이전 실행에서 재시도 후에도 실패해 animal_embedding_failures에 남은 동물만 다시 임베딩
                     
                     ### 실행 시점
                     - 초기 데이터 동기화가 완료된 후, 추천 기능을 활성화하기 전에 1회 실행
-                    - 추천 로직 개선 또는 임베딩 모델 변경 시 재실행
-                    - 신규 동물에 대한 임베딩이 누락된 경우 재생성 용도
+                    - 임베딩 입력 구성 또는 임베딩 모델 변경 시 재실행 (CHANGED로 변경분만 처리)
+                    - 신규 동물에 대한 임베딩이 누락된 경우 재생성 용도 (MISSING)
                     
                     ### 유의 사항
-                    - 전체 동물 데이터를 순회하며 순차적으로 임베딩을 생성하므로, 데이터 양에 따라 시간이 소요될 수 있습니다.
+                    - 구조번호 순으로 페이지를 읽으며 여러 배치를 동시에 호출하지만, 데이터 양에 따라 시간이 소요될 수 있습니다.
                     - Upstage API 호출은 내부적으로 배치 단위로 나누어 진행되어, 요청당 최대 처리 개수 제한을 넘지 않도록 합니다.
+                    - 호출은 초당 요청 수 제한을 따르며, 429/5xx/타임아웃은 지수 백오프로 재시도하고 동시 호출 수를 자동으로 줄였다 늘립니다.
+                    """
+    )
+    ResponseEntity<ApiResponse<String>> generateAll(
+            @Parameter(description = "생성 대상 (CHANGED, MISSING, ALL, FAILED / 기본값: CHANGED)")
+            EmbeddingGenerationMode mode
+    );
+
+    @Operation(
+            summary = "레거시 임베딩 포맷 이관",
+            description = """
+                    embedding_json(TEXT) 컬럼 또는 정규화 이전 바이너리로 저장된 기존 임베딩을
+                    정규화된 바이너리 embedding 컬럼으로 이관합니다.
+                    
+                    ### 처리 내용
+                    - JSON 컬럼만 있거나 normalized 플래그가 없는 행을 구조번호 순으로 200건씩 조회
+                    - 벡터를 L2 정규화해 바이너리로 저장하고 norm을 함께 기록하며, JSON 컬럼은 비움
+                    - 페이지마다 별도 트랜잭션으로 커밋되어 중단되더라도 재실행 시 남은 행만 처리
+                    
+                    ### 유의 사항
+                    - 서버 기동 시에도 자동으로 1회 실행되며, 이관 전 행은 조회 시 JSON 파싱·정규화를 거쳐 사용합니다.
                     """
     )
-    ResponseEntity<ApiResponse<String>> generateAll();
+    ResponseEntity<ApiResponse<String>> migrateLegacyJson();
 }
@@ -0,0 +1,43 @@
+package com.ganzi.backend.animal.api.dto.response;
+
+import com.ganzi.backend.animal.domain.AnimalSyncPageLog;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Schema(description = "유기동물 동기화 페이지별 처리 기록")
+@Builder
+public record AnimalSyncPageResponse(
+        @Schema(description = "페이지 번호")
+        int pageNo,
+
+        @Schema(description = "조회 건수")
+        int itemCount,
+
+        @Schema(description = "신규 저장 및 갱신 건수")
+        int savedCount,
+
+        @Schema(description = "조회 시도 횟수")
+        int fetchAttempts,
+
+        @Schema(description = "조회 소요 시간 (ms, 재시도 대기 포함)")
+        long fetchMillis,
+
+        @Schema(description = "저장 소요 시간 (ms)")
+        long saveMillis,
+
+        @Schema(description = "저장 완료 시각")
+        LocalDateTime completedAt
+) {
+    public static AnimalSyncPageResponse from(AnimalSyncPageLog pageLog) {
+        return AnimalSyncPageResponse.builder()
+                .pageNo(pageLog.getPageNo())
+                .itemCount(pageLog.getItemCount())
+                .savedCount(pageLog.getSavedCount())
+                .fetchAttempts(pageLog.getFetchAttempts())
+                .fetchMillis(pageLog.getFetchMillis())
+                .saveMillis(pageLog.getSaveMillis())
+                .completedAt(pageLog.getCreatedAt())
+                .build();
+    }
+}
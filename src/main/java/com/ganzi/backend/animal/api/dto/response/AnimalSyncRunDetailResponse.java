@@ -0,0 +1,14 @@
+package com.ganzi.backend.animal.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "유기동물 동기화 실행 상세")
+public record AnimalSyncRunDetailResponse(
+        @Schema(description = "실행 기록")
+        AnimalSyncRunResponse run,
+
+        @Schema(description = "페이지별 처리 기록 (페이지 번호 순)")
+        List<AnimalSyncPageResponse> pages
+) {
+}
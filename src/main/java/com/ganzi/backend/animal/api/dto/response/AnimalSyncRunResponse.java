@@ -0,0 +1,76 @@
+package com.ganzi.backend.animal.api.dto.response;
+
+import com.ganzi.backend.animal.domain.AnimalSyncRun;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Schema(description = "유기동물 동기화 실행 기록")
+@Builder
+public record AnimalSyncRunResponse(
+        @Schema(description = "실행 ID")
+        Long runId,
+
+        @Schema(description = "동기화 종류 (INITIAL, DAILY)")
+        String syncType,
+
+        @Schema(description = "동기화 모드 (UPSERT, INSERT_ONLY)")
+        String mode,
+
+        @Schema(description = "조회 시작일")
+        LocalDate startDate,
+
+        @Schema(description = "조회 종료일")
+        LocalDate endDate,
+
+        @Schema(description = "상태 (RUNNING, COMPLETED, FAILED)")
+        String status,
+
+        @Schema(description = "공공 API totalCount")
+        Integer totalCount,
+
+        @Schema(description = "마지막 페이지 번호")
+        Integer lastPageNo,
+
+        @Schema(description = "1페이지부터 빠짐없이 저장을 마친 마지막 페이지")
+        int lastCompletedPageNo,
+
+        @Schema(description = "저장을 마친 페이지 수")
+        int completedPages,
+
+        @Schema(description = "신규 저장 및 갱신 건수")
+        int savedCount,
+
+        @Schema(description = "실행 시도 횟수 (재개 포함)")
+        int attempts,
+
+        @Schema(description = "실패 사유")
+        String failureReason,
+
+        @Schema(description = "시작 시각")
+        LocalDateTime startedAt,
+
+        @Schema(description = "종료 시각")
+        LocalDateTime finishedAt
+) {
+    public static AnimalSyncRunResponse from(AnimalSyncRun run) {
+        return AnimalSyncRunResponse.builder()
+                .runId(run.getId())
+                .syncType(run.getSyncType().name())
+                .mode(run.getMode().name())
+                .startDate(run.getStartDate())
+                .endDate(run.getEndDate())
+                .status(run.getStatus().name())
+                .totalCount(run.getTotalCount())
+                .lastPageNo(run.getLastPageNo())
+                .lastCompletedPageNo(run.getLastCompletedPageNo())
+                .completedPages(run.getCompletedPages())
+                .savedCount(run.getSavedCount())
+                .attempts(run.getAttempts())
+                .failureReason(run.getFailureReason())
+                .startedAt(run.getCreatedAt())
+                .finishedAt(run.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.ganzi.backend.animal.application;
+
+import com.ganzi.backend.animal.domain.AnimalChangeLog;
+import java.util.List;
+
+/**
+ * 동물 변경 피드 구독자. consumerName()별로 체크포인트가 저장되며,
+ * onChanges가 예외 없이 끝난 경우에만 체크포인트가 전진하므로 같은 변경을 다시 받을 수 있습니다. (at-least-once)
+ */
+public interface AnimalChangeConsumer {
+
+    String consumerName();
+
+    void onChanges(List<AnimalChangeLog> changes);
+}
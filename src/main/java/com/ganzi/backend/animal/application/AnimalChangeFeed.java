@@ -0,0 +1,156 @@
+package com.ganzi.backend.animal.application;
+
+import com.ganzi.backend.animal.domain.AnimalChangeCheckpoint;
+import com.ganzi.backend.animal.domain.AnimalChangeLog;
+import com.ganzi.backend.animal.domain.repository.AnimalChangeCheckpointRepository;
+import com.ganzi.backend.animal.domain.repository.AnimalChangeLogRepository;
+import com.ganzi.backend.animal.infrastructure.persistence.AnimalChangeLogJdbcRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 동기화가 남긴 동물 변경 로그를 구독자({@link AnimalChangeConsumer})에게 sequence 순으로 전달하는 프로세스 내 변경 피드.
+ * <p>
+ * 변경 로그는 동물 행과 같은 트랜잭션에서 기록되므로 커밋된 변경만 전달됩니다.
+ * poll-interval-ms마다 구독자별 체크포인트 이후의 로그를 batch-size건씩 읽어 전용 animalChangeFeedExecutor에서 전달하며,
+ * 재시작하면 체크포인트부터 이어서 처리합니다.
+ * IDENTITY sequence는 커밋 순서와 어긋날 수 있으므로 기록 후 settle-ms가 지난 로그만 읽어 늦게 커밋된 로그를 건너뛰지 않습니다.
+ */
+@Slf4j
+@Service
+public class AnimalChangeFeed {
+
+    private final AnimalChangeLogRepository changeLogRepository;
+    private final AnimalChangeCheckpointRepository checkpointRepository;
+    private final AnimalChangeLogJdbcRepository changeLogJdbcRepository;
+    private final List<AnimalChangeConsumer> consumers;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final int batchSize;
+    private final long settleMillis;
+    private final int retentionDays;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public AnimalChangeFeed(
+            AnimalChangeLogRepository changeLogRepository,
+            AnimalChangeCheckpointRepository checkpointRepository,
+            AnimalChangeLogJdbcRepository changeLogJdbcRepository,
+            List<AnimalChangeConsumer> consumers,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("animalChangeFeedExecutor") Executor executor,
+            @Value("${animal.change-feed.batch-size:500}") int batchSize,
+            @Value("${animal.change-feed.settle-ms:10000}") long settleMillis,
+            @Value("${animal.change-feed.retention-days:30}") int retentionDays
+    ) {
+        this.changeLogRepository = changeLogRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.changeLogJdbcRepository = changeLogJdbcRepository;
+        this.consumers = consumers;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.settleMillis = settleMillis;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 변경 로그를 기록합니다. 호출자의 트랜잭션에 참여하므로 동물 행과 함께 커밋되거나 롤백됩니다.
+     */
+    public void append(List<AnimalChangeLog> changes) {
+        changeLogJdbcRepository.appendAll(changes);
+    }
+
+    @Scheduled(fixedDelayString = "${animal.change-feed.poll-interval-ms:5000}")
+    public void poll() {
+        if (consumers.isEmpty() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    consumers.forEach(this::drain);
+                } finally {
+                    draining.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            log.warn("animalChangeFeedExecutor 포화로 동물 변경 피드 전달을 다음 주기로 미룹니다.");
+        }
+    }
+
+    /**
+     * 구독자의 체크포인트 이후 정착된 로그를 모두 전달하고 전달한 건수를 반환합니다.
+     * 구독자가 실패하면 해당 배치의 체크포인트를 남기지 않고 다음 주기에 같은 배치부터 다시 전달합니다.
+     */
+    public int drain(AnimalChangeConsumer consumer) {
+        String name = consumer.consumerName();
+        long after = lastSequence(name);
+        int delivered = 0;
+        while (true) {
+            LocalDateTime settledAt = LocalDateTime.now().minusNanos(settleMillis * 1_000_000L);
+            List<AnimalChangeLog> changes = changeLogRepository.findSettledAfter(after, settledAt,
+                    PageRequest.of(0, batchSize));
+            if (changes.isEmpty()) {
+                break;
+            }
+            try {
+                consumer.onChanges(changes);
+            } catch (Exception e) {
+                log.warn("동물 변경 피드 전달 실패 - consumer: {}, sequence: {}~{}",
+                        name, changes.getFirst().getSequence(), changes.getLast().getSequence(), e);
+                break;
+            }
+            after = changes.getLast().getSequence();
+            saveCheckpoint(name, after);
+            delivered += changes.size();
+        }
+        if (delivered > 0) {
+            log.info("동물 변경 피드 전달 - consumer: {}, 건수: {}, 체크포인트: {}", name, delivered, after);
+        }
+        return delivered;
+    }
+
+    /**
+     * 모든 구독자가 처리했고 retention-days가 지난 로그를 삭제합니다. 체크포인트가 없는 구독자가 있으면 삭제하지 않습니다.
+     */
+    @Scheduled(cron = "${animal.change-feed.prune-cron:0 0 5 * * *}")
+    public void prune() {
+        long consumed = Long.MAX_VALUE;
+        for (AnimalChangeConsumer consumer : consumers) {
+            consumed = Math.min(consumed, lastSequence(consumer.consumerName()));
+        }
+        if (consumers.isEmpty() || consumed == 0) {
+            return;
+        }
+        long target = consumed;
+        Integer deleted = transactionTemplate.execute(status -> changeLogRepository.deleteConsumedBefore(
+                target, LocalDateTime.now().minusDays(retentionDays)));
+        log.info("동물 변경 로그 정리 - 삭제: {}, 기준 sequence: {}", deleted, target);
+    }
+
+    private long lastSequence(String consumer) {
+        return checkpointRepository.findById(consumer)
+                .map(AnimalChangeCheckpoint::getLastSequence)
+                .orElse(0L);
+    }
+
+    private void saveCheckpoint(String consumer, long sequence) {
+        transactionTemplate.executeWithoutResult(status -> {
+            AnimalChangeCheckpoint checkpoint = checkpointRepository.findById(consumer)
+                    .orElseGet(() -> AnimalChangeCheckpoint.of(consumer));
+            checkpoint.advanceTo(sequence);
+            checkpointRepository.save(checkpoint);
+        });
+    }
+}
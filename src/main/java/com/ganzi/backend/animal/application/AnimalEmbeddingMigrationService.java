@@ -0,0 +1,86 @@
+package com.ganzi.backend.animal.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ganzi.backend.animal.domain.AnimalEmbedding;
+import com.ganzi.backend.animal.domain.repository.AnimalEmbeddingRepository;
+import com.ganzi.backend.global.embedding.EmbeddingVectorReader;
+import com.ganzi.backend.global.embedding.EmbeddingVectors;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * embeddingJson(TEXT) 또는 정규화 이전 포맷으로 저장된 기존 동물 임베딩을
+ * 정규화된 바이너리 포맷으로 이관합니다. 페이지마다 별도 트랜잭션으로 커밋하므로 중간에 중단되어도 다음 실행에서 이어서 진행됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnimalEmbeddingMigrationService {
+
+    private static final int PAGE_SIZE = 200;
+
+    private final AnimalEmbeddingRepository embeddingRepository;
+    private final EmbeddingVectorReader embeddingVectorReader;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async("embeddingExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        migrateLegacyJson();
+    }
+
+    @Async("embeddingExecutor")
+    public void migrateLegacyJsonAsync() {
+        migrateLegacyJson();
+    }
+
+    public int migrateLegacyJson() {
+        String after = "";
+        int migrated = 0;
+        while (true) {
+            String cursor = after;
+            MigrationPage page = transactionTemplate.execute(status -> migratePage(cursor));
+            if (page == null || page.lastDesertionNo() == null) {
+                break;
+            }
+            migrated += page.migrated();
+            after = page.lastDesertionNo();
+        }
+        if (migrated > 0) {
+            log.info("동물 임베딩 포맷 이관 완료 - {}건", migrated);
+        }
+        return migrated;
+    }
+
+    private MigrationPage migratePage(String after) {
+        List<AnimalEmbedding> embeddings = embeddingRepository.findLegacyFormatAfter(after, PageRequest.of(0, PAGE_SIZE));
+        if (embeddings.isEmpty()) {
+            return new MigrationPage(0, null);
+        }
+
+        int migrated = 0;
+        for (AnimalEmbedding embedding : embeddings) {
+            try {
+                float[] vector = embeddingVectorReader.read(embedding.getEmbedding(), embedding.getEmbeddingJson());
+                if (vector != null) {
+                    double norm = EmbeddingVectors.normalizeInPlace(vector);
+                    embedding.updateEmbedding(vector, norm);
+                    migrated++;
+                }
+            } catch (JsonProcessingException e) {
+                log.warn("animal {} 임베딩 오류 : 바이너리 이관 실패", embedding.getDesertionNo(), e);
+            }
+        }
+        return new MigrationPage(migrated, embeddings.getLast().getDesertionNo());
+    }
+
+    private record MigrationPage(int migrated, String lastDesertionNo) {
+    }
+}
@@ -1,76 +1,295 @@
 package com.ganzi.backend.animal.application;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ganzi.backend.animal.application.event.AnimalEmbeddingUpdatedEvent;
 import com.ganzi.backend.animal.domain.Animal;
+import com.ganzi.backend.animal.domain.AnimalChangeLog;
+import com.ganzi.backend.animal.domain.AnimalChangeType;
 import com.ganzi.backend.animal.domain.AnimalEmbedding;
+import com.ganzi.backend.animal.domain.AnimalEmbeddingFailure;
+import com.ganzi.backend.animal.domain.repository.AnimalEmbeddingFailureRepository;
+import com.ganzi.backend.animal.domain.repository.AnimalEmbeddingHashRow;
 import com.ganzi.backend.animal.domain.repository.AnimalEmbeddingRepository;
 import com.ganzi.backend.animal.domain.repository.AnimalRepository;
 import com.ganzi.backend.animal.infrastructure.client.UpstageEmbeddingClient;
 import com.ganzi.backend.animal.infrastructure.mapper.AnimalEmbeddingMapper;
+import com.ganzi.backend.global.embedding.EmbeddingVectors;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 동물 임베딩 생성 서비스.
+ * <p>
+ * 일괄 생성은 desertionNo 순으로 페이지를 읽어 batch-size개씩 한 번의 API 호출로 임베딩하고,
+ * 최대 max-in-flight개의 배치를 embeddingBatchExecutor에서 동시에 진행합니다.
+ * 입력 텍스트의 해시와 모델명을 함께 저장해 두고, 기본(CHANGED) 모드에서는 둘 다 같은 동물의 API 호출을 건너뜁니다.
+ * API 호출은 트랜잭션 밖에서 하고, 배치마다 결과 저장만 짧은 트랜잭션으로 커밋합니다.
+ * 클라이언트 재시도 후에도 실패한 배치의 동물은 animal_embedding_failures에 남겨 FAILED 모드로 다시 처리합니다.
+ * 동기화로 저장/갱신된 동물은 변경 피드({@link AnimalChangeFeed})로 받아 CHANGED 모드와 같은 기준으로 임베딩합니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class AnimalEmbeddingService {
+public class AnimalEmbeddingService implements AnimalChangeConsumer {
+
+    private static final String CONSUMER_NAME = "animal-embedding";
 
     private final AnimalRepository animalRepository;
     private final AnimalEmbeddingRepository embeddingRepository;
+    private final AnimalEmbeddingFailureRepository failureRepository;
     private final UpstageEmbeddingClient embeddingClient;
     private final AnimalEmbeddingMapper embeddingMapper;
-    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor batchExecutor;
+    private final int batchSize;
+    private final int maxInFlight;
+
+    public AnimalEmbeddingService(
+            AnimalRepository animalRepository,
+            AnimalEmbeddingRepository embeddingRepository,
+            AnimalEmbeddingFailureRepository failureRepository,
+            UpstageEmbeddingClient embeddingClient,
+            AnimalEmbeddingMapper embeddingMapper,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("embeddingBatchExecutor") Executor batchExecutor,
+            @Value("${animal.embedding.bulk.batch-size:64}") int batchSize,
+            @Value("${animal.embedding.bulk.max-in-flight:4}") int maxInFlight
+    ) {
+        this.animalRepository = animalRepository;
+        this.embeddingRepository = embeddingRepository;
+        this.failureRepository = failureRepository;
+        this.embeddingClient = embeddingClient;
+        this.embeddingMapper = embeddingMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchExecutor = batchExecutor;
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+    }
 
     @Async("embeddingExecutor")
-    @Transactional
-    public void generateAllEmbeddingsAsync() {
-        List<Animal> animals = animalRepository.findAll();
-        log.info("{} 개의 동물 임베딩을 생성 중입니다", animals.size());
+    public void generateAllEmbeddingsAsync(EmbeddingGenerationMode mode) {
+        generateAllEmbeddings(mode);
+    }
 
-        int success = 0;
-        int fail = 0;
+    /**
+     * mode에 해당하는 동물의 임베딩을 생성하고 저장에 성공한 건수를 반환합니다.
+     * 한 페이지는 동시에 진행 가능한 배치 수만큼만 읽으므로 메모리에 올라가는 동물 수가 제한됩니다.
+     */
+    public int generateAllEmbeddings(EmbeddingGenerationMode mode) {
+        long startedAt = System.currentTimeMillis();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        BatchCounters counters = new BatchCounters(new AtomicInteger(), new AtomicInteger(), new AtomicInteger());
+        int pageSize = batchSize * maxInFlight;
 
-        for (Animal animal : animals) {
-            try {
-                generateEmbedding(animal);
-                success++;
-            } catch (Exception e) {
-                fail++;
-                log.warn("임베딩 생성 실패 desertionNo={}", animal.getDesertionNo(), e);
+        String after = "";
+        try {
+            while (true) {
+                List<Animal> page = findPage(mode, after, PageRequest.of(0, pageSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                for (int from = 0; from < page.size(); from += batchSize) {
+                    List<Animal> batch = page.subList(from, Math.min(from + batchSize, page.size()));
+                    inFlight.acquire();
+                    submitBatch(batch, mode, inFlight, counters);
+                }
+                after = page.getLast().getDesertionNo();
             }
+            // 진행 중인 배치가 모두 끝날 때까지 대기
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("동물 임베딩 일괄 생성 중단 - 마지막 desertionNo: {}", after);
         }
-        log.info("동물 임베딩 생성 완료 - 성공: {}, 실패: {}", success, fail);
+        log.info("동물 임베딩 생성 완료({}) - 성공: {}, 변경 없음: {}, 실패: {}, {}ms",
+                mode, counters.success().get(), counters.skipped().get(), counters.fail().get(),
+                System.currentTimeMillis() - startedAt);
+        return counters.success().get();
+    }
+
+    private List<Animal> findPage(EmbeddingGenerationMode mode, String after, PageRequest pageRequest) {
+        return switch (mode) {
+            case MISSING -> animalRepository.findPageWithoutEmbeddingAfter(after, pageRequest);
+            case FAILED -> animalRepository.findPageWithEmbeddingFailureAfter(after, pageRequest);
+            case ALL, CHANGED -> animalRepository.findPageAfter(after, pageRequest);
+        };
+    }
+
+    @Override
+    public String consumerName() {
+        return CONSUMER_NAME;
     }
 
-    @Transactional
-    public void generateEmbedding(Animal animal) {
-        String input = embeddingMapper.toEmbeddingInput(animal);
-        if (input.isBlank()) {
+    /**
+     * 변경 피드로 받은 신규/갱신 동물의 임베딩을 batch-size개씩 생성합니다. 임베딩 입력이 그대로인 동물은 API 호출 없이 건너뜁니다.
+     * 실패한 배치는 animal_embedding_failures에 남기고 예외를 던지지 않으므로 체크포인트는 전진합니다.
+     */
+    @Override
+    public void onChanges(List<AnimalChangeLog> changes) {
+        List<String> desertionNos = changes.stream()
+                .filter(change -> change.getChangeType() != AnimalChangeType.STATUS_CHANGED)
+                .map(AnimalChangeLog::getDesertionNo)
+                .distinct()
+                .toList();
+        if (desertionNos.isEmpty()) {
             return;
         }
-        List<float[]> vectors = embeddingClient.embedTexts(List.of(input));
-        if (vectors.isEmpty()) {
-            log.warn("DesertionNo : {} , 해당 유기동물 임베딩에 실패했습니다", animal.getDesertionNo());
-            return;
+        List<Animal> animals = animalRepository.findAllById(desertionNos);
+        int saved = 0;
+        for (int from = 0; from < animals.size(); from += batchSize) {
+            List<Animal> batch = animals.subList(from, Math.min(from + batchSize, animals.size()));
+            try {
+                saved += embedBatch(batch, EmbeddingGenerationMode.CHANGED).saved();
+            } catch (Exception e) {
+                log.warn("변경된 동물 임베딩 갱신 실패 desertionNo={}~{}",
+                        batch.getFirst().getDesertionNo(), batch.getLast().getDesertionNo(), e);
+                recordFailures(batch, e.getMessage());
+            }
         }
-        float[] vector = vectors.getFirst();
+        log.info("변경 피드 동물 임베딩 갱신 - 대상: {}, 갱신: {}", animals.size(), saved);
+    }
+
+    private void submitBatch(List<Animal> batch, EmbeddingGenerationMode mode, Semaphore inFlight, BatchCounters counters) {
         try {
-            String json = objectMapper.writeValueAsString(vector);
-            AnimalEmbedding embedding = embeddingRepository.findById(animal.getDesertionNo())
-                    .orElseGet(() -> AnimalEmbedding.builder()
-                            .animal(animal)
-                            .build());
+            batchExecutor.execute(() -> {
+                try {
+                    BatchResult result = embedBatch(batch, mode);
+                    counters.success().addAndGet(result.saved());
+                    counters.skipped().addAndGet(result.skipped());
+                    counters.fail().addAndGet(batch.size() - result.saved() - result.skipped());
+                } catch (Exception e) {
+                    counters.fail().addAndGet(batch.size());
+                    log.warn("임베딩 배치 생성 실패 desertionNo={}~{}",
+                            batch.getFirst().getDesertionNo(), batch.getLast().getDesertionNo(), e);
+                    recordFailures(batch, e.getMessage());
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            counters.fail().addAndGet(batch.size());
+            log.warn("임베딩 배치 실행 거부 desertionNo={}~{}",
+                    batch.getFirst().getDesertionNo(), batch.getLast().getDesertionNo(), e);
+        }
+    }
 
-            embedding.updateEmbedding(json, vector.length);
-            embeddingRepository.save(embedding);
+    /**
+     * 동물 목록 중 다시 임베딩할 대상만 한 번의 API 호출로 임베딩하고 하나의 트랜잭션으로 저장합니다.
+     */
+    private BatchResult embedBatch(List<Animal> animals, EmbeddingGenerationMode mode) {
+        String model = embeddingClient.model();
+        Map<String, AnimalEmbeddingHashRow> stored = mode == EmbeddingGenerationMode.CHANGED
+                ? findHashRows(animals)
+                : Map.of();
 
-        } catch (JsonProcessingException e) {
-            log.error("DesertionNo : {}, 직렬화에 실패했습니다", animal.getDesertionNo(), e);
+        List<Animal> targets = new ArrayList<>(animals.size());
+        List<String> inputs = new ArrayList<>(animals.size());
+        List<String> hashes = new ArrayList<>(animals.size());
+        int skipped = 0;
+        for (Animal animal : animals) {
+            String input = embeddingMapper.toEmbeddingInput(animal);
+            if (input.isBlank()) {
+                continue;
+            }
+            String hash = embeddingMapper.toInputHash(input);
+            AnimalEmbeddingHashRow row = stored.get(animal.getDesertionNo());
+            if (row != null && row.isUpToDate(hash, model)) {
+                skipped++;
+                continue;
+            }
+            targets.add(animal);
+            inputs.add(input);
+            hashes.add(hash);
+        }
+        if (targets.isEmpty()) {
+            return new BatchResult(0, skipped);
+        }
+
+        List<float[]> vectors = embeddingClient.embedTexts(inputs);
+        if (vectors.size() != targets.size()) {
+            log.warn("임베딩 응답 수 불일치로 배치를 건너뜁니다 : 요청={}, 응답={}", targets.size(), vectors.size());
+            recordFailures(targets, "응답 수 불일치 : 요청=" + targets.size() + ", 응답=" + vectors.size());
+            return new BatchResult(0, skipped);
         }
+        Integer saved = transactionTemplate.execute(status -> saveEmbeddings(targets, vectors, hashes, model));
+        return new BatchResult(saved != null ? saved : 0, skipped);
+    }
+
+    private Map<String, AnimalEmbeddingHashRow> findHashRows(List<Animal> animals) {
+        Map<String, AnimalEmbeddingHashRow> rows = new HashMap<>();
+        for (AnimalEmbeddingHashRow row : embeddingRepository.findHashRowsByDesertionNoIn(
+                animals.stream().map(Animal::getDesertionNo).toList())) {
+            rows.put(row.desertionNo(), row);
+        }
+        return rows;
+    }
+
+    private int saveEmbeddings(List<Animal> animals, List<float[]> vectors, List<String> hashes, String model) {
+        Map<String, AnimalEmbedding> existing = embeddingRepository.findAllById(
+                        animals.stream().map(Animal::getDesertionNo).toList()).stream()
+                .collect(Collectors.toMap(AnimalEmbedding::getDesertionNo, Function.identity()));
+
+        List<AnimalEmbedding> embeddings = new ArrayList<>(animals.size());
+        for (int i = 0; i < animals.size(); i++) {
+            Animal animal = animals.get(i);
+            float[] vector = vectors.get(i);
+            double norm = EmbeddingVectors.normalizeInPlace(vector);
+            AnimalEmbedding embedding = existing.get(animal.getDesertionNo());
+            if (embedding == null) {
+                embedding = AnimalEmbedding.builder()
+                        .animal(animal)
+                        .build();
+            }
+            embedding.updateEmbedding(vector, norm, hashes.get(i), model);
+            embeddings.add(embedding);
+        }
+        embeddingRepository.saveAll(embeddings);
+        failureRepository.deleteAllByIdInBatch(animals.stream().map(Animal::getDesertionNo).toList());
+        for (int i = 0; i < animals.size(); i++) {
+            eventPublisher.publishEvent(AnimalEmbeddingUpdatedEvent.of(animals.get(i), vectors.get(i)));
+        }
+        return embeddings.size();
+    }
+
+    private void recordFailures(List<Animal> animals, String reason) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<String> desertionNos = animals.stream().map(Animal::getDesertionNo).toList();
+                Map<String, AnimalEmbeddingFailure> failures = failureRepository.findAllById(desertionNos).stream()
+                        .collect(Collectors.toMap(AnimalEmbeddingFailure::getDesertionNo, Function.identity()));
+                for (String desertionNo : desertionNos) {
+                    failures.computeIfAbsent(desertionNo, AnimalEmbeddingFailure::of).recordFailure(reason);
+                }
+                failureRepository.saveAll(failures.values());
+            });
+        } catch (RuntimeException e) {
+            log.warn("임베딩 실패 목록 저장 실패 desertionNo={}~{}",
+                    animals.getFirst().getDesertionNo(), animals.getLast().getDesertionNo(), e);
+        }
+    }
+
+    private record BatchResult(int saved, int skipped) {
+    }
+
+    private record BatchCounters(AtomicInteger success, AtomicInteger skipped, AtomicInteger fail) {
     }
 }
@@ -7,8 +7,14 @@ import com.ganzi.backend.animal.domain.Animal;
 import com.ganzi.backend.animal.domain.repository.AnimalRepository;
 import com.ganzi.backend.global.code.status.ErrorStatus;
 import com.ganzi.backend.global.exception.GeneralException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,7 +26,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class AnimalService {
 
+    private static final int EXISTING_DESERTION_NO_CACHE_SIZE = 100_000;
+
     private final AnimalRepository animalRepository;
+    // 존재가 확인된 구조번호. 동물은 삭제되지 않으므로 없는 구조번호만 다시 조회한다
+    private final Cache<String, Boolean> existingDesertionNos = Caffeine.newBuilder()
+            .maximumSize(EXISTING_DESERTION_NO_CACHE_SIZE)
+            .build();
 
     public Page<AnimalListResponse> findAnimals(AnimalSearchRequest request, Pageable pageable) {
         Page<Animal> animals = animalRepository.searchWithFilters(request, pageable);
@@ -33,6 +45,36 @@ public class AnimalService {
         return AnimalDetailResponse.from(animal);
     }
 
+    /**
+     * 동물이 없으면 ANIMAL_NOT_FOUND를 던집니다. 관심 기록처럼 호출이 잦은 경로에서 쓰며, 존재가 확인된 구조번호는 캐시합니다.
+     */
+    public void validateAnimalExists(String desertionNo) {
+        if (existingDesertionNos.getIfPresent(desertionNo) != null) {
+            return;
+        }
+        if (!animalRepository.existsById(desertionNo)) {
+            throw new GeneralException(ErrorStatus.ANIMAL_NOT_FOUND);
+        }
+        existingDesertionNos.put(desertionNo, Boolean.TRUE);
+    }
+
+    /**
+     * 여러 동물의 상세 정보를 이미지와 함께 한 번의 쿼리로 조회합니다.
+     * 결과는 요청한 desertionNos 순서를 따르며, 존재하지 않는 동물은 제외됩니다.
+     */
+    public List<AnimalDetailResponse> findAnimalsByIds(List<String> desertionNos) {
+        if (desertionNos.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Animal> animals = animalRepository.findAllWithImagesByDesertionNoIn(desertionNos).stream()
+                .collect(Collectors.toMap(Animal::getDesertionNo, Function.identity()));
+        return desertionNos.stream()
+                .map(animals::get)
+                .filter(Objects::nonNull)
+                .map(AnimalDetailResponse::from)
+                .toList();
+    }
+
     public List<String> findProvinces() {
         return animalRepository.findDistinctProvinces();
     }
@@ -0,0 +1,114 @@
+package com.ganzi.backend.animal.application;
+
+import com.ganzi.backend.animal.api.dto.response.AnimalSyncPageResponse;
+import com.ganzi.backend.animal.api.dto.response.AnimalSyncRunDetailResponse;
+import com.ganzi.backend.animal.api.dto.response.AnimalSyncRunResponse;
+import com.ganzi.backend.animal.domain.AnimalSyncMode;
+import com.ganzi.backend.animal.domain.AnimalSyncPageLog;
+import com.ganzi.backend.animal.domain.AnimalSyncRun;
+import com.ganzi.backend.animal.domain.AnimalSyncRunStatus;
+import com.ganzi.backend.animal.domain.AnimalSyncType;
+import com.ganzi.backend.animal.domain.repository.AnimalSyncPageLogRepository;
+import com.ganzi.backend.animal.domain.repository.AnimalSyncRunRepository;
+import com.ganzi.backend.global.code.status.ErrorStatus;
+import com.ganzi.backend.global.exception.GeneralException;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 동기화 실행과 페이지별 진행 기록.
+ * 실행 상태 변경은 각각 별도 트랜잭션으로 커밋하고, 페이지 기록(recordPage)만 페이지 저장 트랜잭션에 참여합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnimalSyncRunService {
+
+    private static final int MAX_HISTORY_SIZE = 100;
+
+    private final AnimalSyncRunRepository runRepository;
+    private final AnimalSyncPageLogRepository pageLogRepository;
+
+    @Transactional
+    public AnimalSyncRun start(AnimalSyncType syncType, AnimalSyncMode mode, LocalDate startDate, LocalDate endDate) {
+        return runRepository.save(AnimalSyncRun.builder()
+                .syncType(syncType)
+                .mode(mode)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build());
+    }
+
+    /**
+     * 가장 오래된 미완료 실행. 동시 실행은 AnimalSyncService가 막으므로 RUNNING 상태는 비정상 종료로 남은 실행입니다.
+     * ABANDONED 실행은 다시 재개하지 않습니다.
+     */
+    public Optional<AnimalSyncRun> findUnfinished() {
+        return runRepository.findFirstByStatusInOrderByIdAsc(
+                List.of(AnimalSyncRunStatus.RUNNING, AnimalSyncRunStatus.FAILED));
+    }
+
+    @Transactional
+    public AnimalSyncRun resume(Long runId) {
+        AnimalSyncRun run = getRun(runId);
+        run.resume();
+        return run;
+    }
+
+    public Set<Integer> findCompletedPageNos(Long runId) {
+        return new HashSet<>(pageLogRepository.findPageNosByRunId(runId));
+    }
+
+    @Transactional
+    public void recordTotal(Long runId, int totalCount, int lastPageNo) {
+        getRun(runId).recordTotal(totalCount, lastPageNo);
+    }
+
+    @Transactional
+    public void recordPage(AnimalSyncPageLog pageLog, int lastCompletedPageNo) {
+        pageLogRepository.save(pageLog);
+        getRun(pageLog.getRunId()).recordPage(pageLog.getSavedCount(), lastCompletedPageNo);
+    }
+
+    @Transactional
+    public void complete(Long runId) {
+        getRun(runId).complete();
+    }
+
+    @Transactional
+    public void fail(Long runId, String reason) {
+        getRun(runId).fail(reason);
+    }
+
+    @Transactional
+    public void abandon(Long runId) {
+        getRun(runId).abandon();
+    }
+
+    public List<AnimalSyncRunResponse> getRecentRuns(int size) {
+        int limit = Math.max(1, Math.min(size, MAX_HISTORY_SIZE));
+        return runRepository.findRecent(PageRequest.of(0, limit)).stream()
+                .map(AnimalSyncRunResponse::from)
+                .toList();
+    }
+
+    public AnimalSyncRunDetailResponse getRunDetail(Long runId) {
+        AnimalSyncRun run = getRun(runId);
+        List<AnimalSyncPageResponse> pages = pageLogRepository.findByRunIdOrderByPageNoAsc(runId).stream()
+                .map(AnimalSyncPageResponse::from)
+                .toList();
+        return new AnimalSyncRunDetailResponse(AnimalSyncRunResponse.from(run), pages);
+    }
+
+    private AnimalSyncRun getRun(Long runId) {
+        return runRepository.findById(runId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.ANIMAL_SYNC_RUN_NOT_FOUND));
+    }
+}
@@ -1,64 +1,234 @@
 package com.ganzi.backend.animal.application;
 
+import com.ganzi.backend.animal.application.event.AnimalAttributesChangedEvent;
+import com.ganzi.backend.animal.application.event.AnimalAttributesChangedEvent.ChangedAnimal;
+import com.ganzi.backend.animal.application.event.AnimalProtectionEndedEvent;
+import com.ganzi.backend.animal.application.event.AnimalSyncCompletedEvent;
 import com.ganzi.backend.animal.domain.Animal;
+import com.ganzi.backend.animal.domain.AnimalChangeLog;
+import com.ganzi.backend.animal.domain.AnimalChangeType;
+import com.ganzi.backend.animal.domain.AnimalSyncMode;
+import com.ganzi.backend.animal.domain.AnimalSyncPageLog;
+import com.ganzi.backend.animal.domain.AnimalSyncRun;
+import com.ganzi.backend.animal.domain.AnimalSyncType;
+import com.ganzi.backend.animal.domain.ProcessState;
+import com.ganzi.backend.animal.domain.repository.AnimalFingerprintRow;
 import com.ganzi.backend.animal.domain.repository.AnimalRepository;
 import com.ganzi.backend.animal.infrastructure.client.AnimalApiClient;
 import com.ganzi.backend.animal.infrastructure.dto.AnimalApiItem;
 import com.ganzi.backend.animal.infrastructure.dto.AnimalApiResponse;
 import com.ganzi.backend.animal.infrastructure.mapper.AnimalMapper;
+import com.ganzi.backend.animal.infrastructure.persistence.AnimalJdbcRepository;
+import com.ganzi.backend.global.code.status.ErrorStatus;
+import com.ganzi.backend.global.exception.GeneralException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 공공 API 유기동물 동기화. 페이지를 동시에 받아와 페이지마다 별도 트랜잭션으로 저장하고,
+ * 실행과 저장을 마친 페이지를 기록해 실패한 실행은 다음 동기화에서 원래 기간으로 재개합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AnimalSyncService {
 
-    private static final int INITIAL_SYNC_DAYS = 7;
-    private static final int DAILY_SYNC_DAYS = 1;
     private static final int INITIAL_PAGE_NO = 1;
     private static final int PAGE_SIZE = 1000;
 
     private final AnimalApiClient animalApiClient;
     private final AnimalMapper animalMapper;
     private final AnimalRepository animalRepository;
+    private final AnimalJdbcRepository animalJdbcRepository;
+    private final AnimalChangeFeed animalChangeFeed;
+    private final AnimalSyncRunService animalSyncRunService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    // 수동 실행과 스케줄 실행이 겹치지 않도록 한 번에 하나의 동기화만 진행
+    private final AtomicBoolean running = new AtomicBoolean();
 
-    @Transactional
-    public void syncAbandonedAnimals() {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(INITIAL_SYNC_DAYS);
-        syncAllPages(startDate, endDate);
+    @Value("${animal.sync.fetch-parallelism:4}")
+    private int fetchParallelism;
+
+    @Value("${animal.sync.queue-capacity:4}")
+    private int queueCapacity;
+
+    @Value("${animal.sync.page-retry.max-attempts:3}")
+    private int maxFetchAttempts;
+
+    @Value("${animal.sync.page-retry.base-backoff-ms:1000}")
+    private long baseBackoffMillis;
+
+    @Value("${animal.sync.page-retry.max-backoff-ms:30000}")
+    private long maxBackoffMillis;
+
+    @Value("${animal.sync.run.max-attempts:3}")
+    private int maxRunAttempts;
+
+    // 페이지마다 별도 트랜잭션으로 저장하므로 동기화 전체를 하나의 트랜잭션으로 묶지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void syncAbandonedAnimals(AnimalSyncMode mode) {
+        sync(AnimalSyncType.INITIAL, mode);
     }
 
-    @Transactional
-    public void dailySync() {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(DAILY_SYNC_DAYS);
-        syncAllPages(startDate, endDate);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void dailySync(AnimalSyncMode mode) {
+        sync(AnimalSyncType.DAILY, mode);
+    }
+
+    /**
+     * 미완료 실행만 재개합니다. 재개할 실행이 없으면 아무것도 하지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void resumeUnfinished() {
+        runExclusively(() -> {
+            if (animalSyncRunService.findUnfinished().isEmpty()) {
+                return;
+            }
+            int saved = resumeUnfinishedRuns();
+            eventPublisher.publishEvent(new AnimalSyncCompletedEvent(saved));
+        });
+    }
+
+    private void sync(AnimalSyncType syncType, AnimalSyncMode mode) {
+        runExclusively(() -> {
+            int saved = resumeUnfinishedRuns();
+            LocalDate endDate = LocalDate.now();
+            AnimalSyncRun run = animalSyncRunService.start(syncType, mode, endDate.minusDays(syncType.getDays()), endDate);
+            saved += execute(run);
+            eventPublisher.publishEvent(new AnimalSyncCompletedEvent(saved));
+        });
+    }
+
+    private void runExclusively(Runnable task) {
+        if (!running.compareAndSet(false, true)) {
+            throw new GeneralException(ErrorStatus.ANIMAL_SYNC_IN_PROGRESS);
+        }
+        try {
+            task.run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 미완료 실행을 오래된 순으로 재개하고 저장한 건수를 반환합니다.
+     * 재개가 실패하면 예외를 던지지 않고 멈추며, 실패한 실행은 다음 동기화(또는 resume-cron)에서 다시 시도합니다.
+     */
+    private int resumeUnfinishedRuns() {
+        int maxAttempts = Math.max(1, maxRunAttempts);
+        int saved = 0;
+        Optional<AnimalSyncRun> unfinished;
+        while ((unfinished = animalSyncRunService.findUnfinished()).isPresent()) {
+            AnimalSyncRun candidate = unfinished.get();
+            if (candidate.getAttempts() >= maxAttempts) {
+                animalSyncRunService.abandon(candidate.getId());
+                log.warn("재개 시도 횟수를 넘긴 유기동물 동기화 포기 - runId: {}, 기간: {}~{}, 시도: {}, 마지막 사유: {}",
+                        candidate.getId(), candidate.getStartDate(), candidate.getEndDate(),
+                        candidate.getAttempts(), candidate.getFailureReason());
+                continue;
+            }
+            try {
+                AnimalSyncRun run = animalSyncRunService.resume(candidate.getId());
+                log.info("미완료 유기동물 동기화 재개 - runId: {}, 기간: {}~{}, 완료 페이지: {}/{}, 시도: {}/{}",
+                        run.getId(), run.getStartDate(), run.getEndDate(), run.getCompletedPages(), run.getLastPageNo(),
+                        run.getAttempts(), maxAttempts);
+                saved += execute(run);
+            } catch (RuntimeException e) {
+                // 같은 실행을 곧바로 다시 재개하면 시도 횟수만 소진하므로 이번 재개는 여기서 멈춘다
+                log.warn("미완료 유기동물 동기화 재개 실패 - runId: {}, 사유: {}", candidate.getId(), e.getMessage());
+                break;
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * 실행의 기간을 동기화하고 이번 시도에서 저장한 건수를 반환합니다. 페이지 기록이 있는 페이지는 다시 저장하지 않습니다.
+     * 재시도 후에도 실패하면 실행을 FAILED로 남기고 예외를 던지며, 이미 저장한 페이지는 유지됩니다.
+     */
+    private int execute(AnimalSyncRun run) {
+        long startedAt = System.currentTimeMillis();
+        PageProgress progress = new PageProgress(animalSyncRunService.findCompletedPageNos(run.getId()));
+        try {
+            FetchedPage firstPage = fetchWithRetry(run, INITIAL_PAGE_NO);
+            if (firstPage.items() == null || firstPage.items().isEmpty()) {
+                animalSyncRunService.complete(run.getId());
+                return 0;
+            }
+
+            int totalSaved = savePage(run, firstPage, progress);
+            Integer totalCount = firstPage.totalCount();
+            int lastPageNo = INITIAL_PAGE_NO;
+            if (!isLastPage(firstPage.items())) {
+                if (totalCount == null) {
+                    log.warn("totalCount가 없어 나머지 페이지를 순차 조회합니다.");
+                    totalSaved += syncPagesSequentially(run, INITIAL_PAGE_NO + 1, progress);
+                } else {
+                    lastPageNo = (totalCount + PAGE_SIZE - 1) / PAGE_SIZE;
+                    animalSyncRunService.recordTotal(run.getId(), totalCount, lastPageNo);
+                    List<Integer> pendingPageNos = IntStream.rangeClosed(INITIAL_PAGE_NO + 1, lastPageNo)
+                            .filter(pageNo -> !progress.isCompleted(pageNo))
+                            .boxed()
+                            .toList();
+                    totalSaved += syncPagesConcurrently(run, pendingPageNos, progress);
+                }
+            }
+            animalSyncRunService.complete(run.getId());
+            log.info("유기동물 동기화 완료({}) - runId: {}, totalCount: {}, 페이지: {}, 저장: {}, {}ms",
+                    run.getMode(), run.getId(), totalCount, lastPageNo, totalSaved,
+                    System.currentTimeMillis() - startedAt);
+            return totalSaved;
+        } catch (RuntimeException e) {
+            log.warn("유기동물 동기화 중단 - runId: {}, 완료 페이지: {}, 사유: {}",
+                    run.getId(), progress.lastCompletedPageNo(), e.getMessage());
+            try {
+                animalSyncRunService.fail(run.getId(), e.getMessage());
+            } catch (RuntimeException recordFailure) {
+                e.addSuppressed(recordFailure);
+            }
+            throw e;
+        }
     }
 
-    private int syncAllPages(LocalDate startDate, LocalDate endDate) {
-        int pageNo = INITIAL_PAGE_NO;
+    private int syncPagesSequentially(AnimalSyncRun run, int fromPageNo, PageProgress progress) {
+        int pageNo = fromPageNo;
         int totalSaved = 0;
 
         while (true) {
-            AnimalApiResponse response = animalApiClient.fetchAbandonedAnimals(startDate, endDate, pageNo);
-
-            List<AnimalApiItem> items = extractItems(response);
-            if (items == null || items.isEmpty()) {
+            FetchedPage page = fetchWithRetry(run, pageNo);
+            if (page.items() == null || page.items().isEmpty()) {
                 break;
             }
 
-            int savedCount = saveAnimalsInTransaction(items);
-            totalSaved += savedCount;
+            totalSaved += savePage(run, page, progress);
 
-            if (isLastPage(items)) {
+            if (isLastPage(page.items())) {
                 break;
             }
             pageNo++;
@@ -67,31 +237,265 @@ public class AnimalSyncService {
         return totalSaved;
     }
 
+    /**
+     * 페이지들을 가상 스레드에서 동시에 조회하고, 도착한 순서대로 호출 스레드에서 저장합니다.
+     * 한 페이지라도 재시도 후에도 조회에 실패하면 남은 조회를 중단하고 예외를 던집니다.
+     */
+    private int syncPagesConcurrently(AnimalSyncRun run, List<Integer> pageNos, PageProgress progress) {
+        if (pageNos.isEmpty()) {
+            return 0;
+        }
+        BlockingQueue<FetchedPage> fetched = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        // 조회 결과를 큐에 넣을 때까지 permit을 유지해, 저장이 밀리면 조회도 멈춘다
+        Semaphore permits = new Semaphore(Math.max(1, fetchParallelism));
+
+        try (ExecutorService fetchers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int pageNo : pageNos) {
+                fetchers.submit(() -> fetchPage(run, pageNo, permits, fetched));
+            }
+
+            int totalSaved = 0;
+            try {
+                for (int received = 0; received < pageNos.size(); received++) {
+                    FetchedPage page = fetched.take();
+                    if (page.failure() != null) {
+                        throw page.failure();
+                    }
+                    totalSaved += savePage(run, page, progress);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fetchers.shutdownNow();
+                throw new GeneralException(ErrorStatus.ANIMAL_API_CALL_FAILED);
+            } catch (RuntimeException e) {
+                fetchers.shutdownNow();
+                throw e;
+            }
+            return totalSaved;
+        }
+    }
+
+    private void fetchPage(AnimalSyncRun run, int pageNo, Semaphore permits, BlockingQueue<FetchedPage> fetched) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            return;
+        }
+        try {
+            FetchedPage page;
+            try {
+                page = fetchWithRetry(run, pageNo);
+            } catch (RuntimeException e) {
+                page = FetchedPage.failed(pageNo, e);
+            }
+            fetched.put(page);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 페이지를 조회합니다. 실패하면 page-retry.max-attempts까지 지수 백오프(full jitter) 후 다시 시도합니다.
+     */
+    private FetchedPage fetchWithRetry(AnimalSyncRun run, int pageNo) {
+        int maxAttempts = Math.max(1, maxFetchAttempts);
+        long startedAt = System.currentTimeMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                AnimalApiResponse response = animalApiClient.fetchAbandonedAnimals(
+                        run.getStartDate(), run.getEndDate(), pageNo);
+                return new FetchedPage(pageNo, extractItems(response), extractTotalCount(response),
+                        attempt, System.currentTimeMillis() - startedAt, null);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                long backoff = backoffMillis(attempt);
+                log.warn("유기동물 API 페이지 조회 실패, {}ms 후 재시도 ({}/{}) - page: {}, 사유: {}",
+                        backoff, attempt, maxAttempts, pageNo, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new GeneralException(ErrorStatus.ANIMAL_API_CALL_FAILED);
+                }
+            }
+        }
+    }
+
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20));
+        return ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling) : 0L;
+    }
+
+    /**
+     * 페이지를 저장하고 같은 트랜잭션에서 페이지 기록을 남깁니다. 재개 시 이미 기록이 있는 페이지는 건너뜁니다.
+     */
+    private int savePage(AnimalSyncRun run, FetchedPage page, PageProgress progress) {
+        if (progress.isCompleted(page.pageNo())) {
+            return 0;
+        }
+        List<AnimalApiItem> items = page.items() != null ? page.items() : List.of();
+        Integer saved = transactionTemplate.execute(status -> {
+            long saveStartedAt = System.currentTimeMillis();
+            int count = 0;
+            if (!items.isEmpty()) {
+                count = run.getMode() == AnimalSyncMode.UPSERT
+                        ? upsertAnimalsInTransaction(items)
+                        : saveAnimalsInTransaction(items);
+            }
+            animalSyncRunService.recordPage(AnimalSyncPageLog.builder()
+                    .runId(run.getId())
+                    .pageNo(page.pageNo())
+                    .itemCount(items.size())
+                    .savedCount(count)
+                    .fetchAttempts(page.attempts())
+                    .fetchMillis(page.fetchMillis())
+                    .saveMillis(System.currentTimeMillis() - saveStartedAt)
+                    .build(), progress.lastCompletedPageNoWith(page.pageNo()));
+            return count;
+        });
+        progress.markCompleted(page.pageNo());
+        return saved != null ? saved : 0;
+    }
+
+    /**
+     * 한 페이지를 저장하고 신규 저장 건수를 반환합니다.
+     * 존재 여부는 IN 쿼리 한 번으로 확인하고, 신규 동물과 이미지는 JDBC 배치로 INSERT합니다.
+     */
     @Transactional
     public int saveAnimalsInTransaction(List<AnimalApiItem> items) {
+        Set<String> existing = new HashSet<>(animalRepository.findExistingDesertionNos(
+                items.stream().map(AnimalApiItem::getDesertionNo).filter(Objects::nonNull).distinct().toList()));
         List<Animal> animalsToSave = new ArrayList<>();
+        Map<String, ProcessState> closedStatuses = new LinkedHashMap<>();
 
         for (AnimalApiItem item : items) {
             String desertionNo = item.getDesertionNo();
-            if (animalRepository.existsById(desertionNo)) {
+            if (existing.contains(desertionNo)) {
+                ProcessState status = ProcessState.fromApiValue(item.getProcessState());
+                if (status != ProcessState.PROTECTING) {
+                    closedStatuses.put(desertionNo, status);
+                }
                 continue;
             }
 
             try {
                 Animal animal = animalMapper.toEntity(item);
                 animalsToSave.add(animal);
+                // 같은 페이지에 중복된 구조번호가 있으면 한 번만 저장
+                existing.add(desertionNo);
             } catch (Exception e) {
                 log.error("유기동물 변환 실패: desertionNo={}, error={}", desertionNo, e.getMessage());
             }
         }
 
+        List<AnimalChangeLog> changes = new ArrayList<>();
         if (!animalsToSave.isEmpty()) {
-            animalRepository.saveAll(animalsToSave);
+            animalJdbcRepository.insertAll(animalsToSave);
+            for (Animal animal : animalsToSave) {
+                changes.add(AnimalChangeLog.of(animal.getDesertionNo(), AnimalChangeType.INSERTED, animal.getStatus()));
+            }
+        }
+        endProtectionIfClosed(closedStatuses, changes);
+        if (!changes.isEmpty()) {
+            animalChangeFeed.append(changes);
         }
 
         return animalsToSave.size();
     }
 
+    /**
+     * 한 페이지를 upsert하고 신규 저장과 갱신 건수의 합을 반환합니다.
+     * 저장된 fingerprint와 같은 동물은 변환 없이 건너뛰고, 신규/변경된 동물만 INSERT ... ON DUPLICATE KEY UPDATE 배치로 씁니다.
+     * fingerprint가 없는(upsert 도입 전에 저장된) 동물은 변경된 것으로 보고 한 번 갱신합니다.
+     */
+    @Transactional
+    public int upsertAnimalsInTransaction(List<AnimalApiItem> items) {
+        Map<String, AnimalFingerprintRow> stored = new HashMap<>();
+        for (AnimalFingerprintRow row : animalRepository.findFingerprintRowsByDesertionNoIn(
+                items.stream().map(AnimalApiItem::getDesertionNo).filter(Objects::nonNull).distinct().toList())) {
+            stored.put(row.desertionNo(), row);
+        }
+        Set<String> seen = new HashSet<>();
+        List<Animal> animalsToWrite = new ArrayList<>();
+        List<String> updatedDesertionNos = new ArrayList<>();
+        List<AnimalChangeLog> changes = new ArrayList<>();
+        List<ChangedAnimal> changedAnimals = new ArrayList<>();
+        List<AnimalProtectionEndedEvent> protectionEnded = new ArrayList<>();
+
+        for (AnimalApiItem item : items) {
+            String desertionNo = item.getDesertionNo();
+            // 같은 페이지에 중복된 구조번호가 있으면 첫 항목만 반영
+            if (!seen.add(desertionNo)) {
+                continue;
+            }
+            try {
+                AnimalFingerprintRow row = stored.get(desertionNo);
+                if (row != null && row.matches(animalMapper.toFingerprint(item))) {
+                    continue;
+                }
+                Animal animal = animalMapper.toEntity(item);
+                animalsToWrite.add(animal);
+                if (row == null) {
+                    changes.add(AnimalChangeLog.of(desertionNo, AnimalChangeType.INSERTED, animal.getStatus()));
+                    continue;
+                }
+                updatedDesertionNos.add(desertionNo);
+                changedAnimals.add(ChangedAnimal.of(animal));
+                changes.add(AnimalChangeLog.of(desertionNo, AnimalChangeType.UPDATED, animal.getStatus()));
+                if (row.status() != animal.getStatus()) {
+                    changes.add(AnimalChangeLog.of(desertionNo, AnimalChangeType.STATUS_CHANGED, animal.getStatus()));
+                }
+                if (row.status() == ProcessState.PROTECTING && !animal.isProtecting()) {
+                    protectionEnded.add(new AnimalProtectionEndedEvent(desertionNo, animal.getStatus()));
+                }
+            } catch (Exception e) {
+                log.error("유기동물 변환 실패: desertionNo={}, error={}", desertionNo, e.getMessage());
+            }
+        }
+
+        if (animalsToWrite.isEmpty()) {
+            return 0;
+        }
+        animalJdbcRepository.upsertAll(animalsToWrite, updatedDesertionNos);
+        animalChangeFeed.append(changes);
+        if (!changedAnimals.isEmpty()) {
+            eventPublisher.publishEvent(new AnimalAttributesChangedEvent(changedAnimals));
+        }
+        for (AnimalProtectionEndedEvent event : protectionEnded) {
+            log.info("보호 종료 동물 반영: desertionNo={}, status={}", event.desertionNo(), event.status());
+            eventPublisher.publishEvent(event);
+        }
+        return animalsToWrite.size();
+    }
+
+    private void endProtectionIfClosed(Map<String, ProcessState> closedStatuses, List<AnimalChangeLog> changes) {
+        if (closedStatuses.isEmpty()) {
+            return;
+        }
+        List<ChangedAnimal> changedAnimals = new ArrayList<>();
+        for (Animal animal : animalRepository.findAllById(closedStatuses.keySet())) {
+            ProcessState status = closedStatuses.get(animal.getDesertionNo());
+            boolean statusChanged = animal.getStatus() != status;
+            if (statusChanged) {
+                changes.add(AnimalChangeLog.of(animal.getDesertionNo(), AnimalChangeType.STATUS_CHANGED, status));
+            }
+            if (animal.changeStatus(status)) {
+                log.info("보호 종료 동물 반영: desertionNo={}, status={}", animal.getDesertionNo(), status);
+                eventPublisher.publishEvent(new AnimalProtectionEndedEvent(animal.getDesertionNo(), status));
+            }
+            if (statusChanged) {
+                changedAnimals.add(ChangedAnimal.of(animal));
+            }
+        }
+        if (!changedAnimals.isEmpty()) {
+            eventPublisher.publishEvent(new AnimalAttributesChangedEvent(changedAnimals));
+        }
+    }
+
     private List<AnimalApiItem> extractItems(AnimalApiResponse response) {
         if (response == null) {
             log.warn("API 응답이 null입니다.");
@@ -119,8 +523,58 @@ public class AnimalSyncService {
         return itemsWrapper.getItem();
     }
 
+    private Integer extractTotalCount(AnimalApiResponse response) {
+        if (response == null || response.getResponse() == null || response.getResponse().getBody() == null) {
+            return null;
+        }
+        return response.getResponse().getBody().getTotalCount();
+    }
+
     private boolean isLastPage(List<AnimalApiItem> items) {
         int itemSize = items.size();
         return itemSize < PAGE_SIZE;
     }
+
+    private record FetchedPage(int pageNo, List<AnimalApiItem> items, Integer totalCount, int attempts,
+                               long fetchMillis, RuntimeException failure) {
+
+        static FetchedPage failed(int pageNo, RuntimeException failure) {
+            return new FetchedPage(pageNo, null, null, 0, 0L, failure);
+        }
+    }
+
+    /**
+     * 저장을 마친 페이지 번호. 1페이지부터 빠짐없이 끝난 마지막 페이지를 함께 계산합니다.
+     */
+    private static final class PageProgress {
+
+        private final Set<Integer> completed;
+        private int lastCompletedPageNo;
+
+        PageProgress(Set<Integer> completed) {
+            this.completed = new HashSet<>(completed);
+            this.lastCompletedPageNo = lastCompletedPageNoWith(0);
+        }
+
+        boolean isCompleted(int pageNo) {
+            return completed.contains(pageNo);
+        }
+
+        int lastCompletedPageNo() {
+            return lastCompletedPageNo;
+        }
+
+        int lastCompletedPageNoWith(int pageNo) {
+            int last = lastCompletedPageNo;
+            while (last + 1 == pageNo || completed.contains(last + 1)) {
+                last++;
+            }
+            return last;
+        }
+
+        void markCompleted(int pageNo) {
+            completed.add(pageNo);
+            lastCompletedPageNo = lastCompletedPageNoWith(pageNo);
+        }
+    }
 }
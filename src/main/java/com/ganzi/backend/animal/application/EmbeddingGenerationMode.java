@@ -0,0 +1,15 @@
+package com.ganzi.backend.animal.application;
+
+/**
+ * 동물 임베딩 일괄 생성 대상.
+ */
+public enum EmbeddingGenerationMode {
+    // 모든 동물을 다시 임베딩 (모델 교체 시 등)
+    ALL,
+    // 입력 텍스트 해시나 모델이 저장된 값과 다른 동물만 임베딩
+    CHANGED,
+    // 임베딩 행이 없는 동물만 임베딩
+    MISSING,
+    // 이전 실행에서 재시도 후에도 실패해 animal_embedding_failures에 남은 동물만 임베딩
+    FAILED
+}
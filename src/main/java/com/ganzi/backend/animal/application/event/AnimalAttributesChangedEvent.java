@@ -0,0 +1,29 @@
+package com.ganzi.backend.animal.application.event;
+
+import com.ganzi.backend.animal.domain.Animal;
+import com.ganzi.backend.animal.domain.AnimalType;
+import com.ganzi.backend.animal.domain.ProcessState;
+import java.util.List;
+
+/**
+ * 동기화로 동물의 필터 속성(종류, 지역, 상태)이 바뀌었을 수 있음을 알리는 이벤트.
+ * 임베딩 입력이 그대로여서 {@link AnimalEmbeddingUpdatedEvent}가 발행되지 않는 변경도 포함하며, 한 페이지 단위로 묶어 발행합니다.
+ */
+public record AnimalAttributesChangedEvent(
+        List<ChangedAnimal> animals
+) {
+
+    public record ChangedAnimal(
+            String desertionNo,
+            AnimalType animalType,
+            String province,
+            String city,
+            ProcessState status
+    ) {
+
+        public static ChangedAnimal of(Animal animal) {
+            return new ChangedAnimal(animal.getDesertionNo(), animal.getAnimalType(),
+                    animal.getProvince(), animal.getCity(), animal.getStatus());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ganzi.backend.animal.application.event;
+
+import com.ganzi.backend.animal.domain.Animal;
+import com.ganzi.backend.animal.domain.AnimalType;
+import com.ganzi.backend.animal.domain.ProcessState;
+
+/**
+ * 동물 임베딩 저장 이벤트. vector는 L2 정규화된 단위 벡터이며,
+ * 추천 필터에 쓰이는 동물 속성을 함께 전달합니다.
+ */
+public record AnimalEmbeddingUpdatedEvent(
+        String desertionNo,
+        float[] vector,
+        AnimalType animalType,
+        String province,
+        String city,
+        ProcessState status
+) {
+
+    public static AnimalEmbeddingUpdatedEvent of(Animal animal, float[] vector) {
+        return new AnimalEmbeddingUpdatedEvent(animal.getDesertionNo(), vector, animal.getAnimalType(),
+                animal.getProvince(), animal.getCity(), animal.getStatus());
+    }
+}
@@ -0,0 +1,12 @@
+package com.ganzi.backend.animal.application.event;
+
+import com.ganzi.backend.animal.domain.ProcessState;
+
+/**
+ * 동물이 보호 종료(입양, 반환 등)되어 더 이상 추천 대상이 아님을 알리는 이벤트.
+ */
+public record AnimalProtectionEndedEvent(
+        String desertionNo,
+        ProcessState status
+) {
+}
@@ -0,0 +1,9 @@
+package com.ganzi.backend.animal.application.event;
+
+/**
+ * 공공데이터 유기동물 동기화가 끝났음을 알리는 이벤트.
+ */
+public record AnimalSyncCompletedEvent(
+        int savedCount
+) {
+}
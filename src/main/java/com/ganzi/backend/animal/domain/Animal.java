@@ -92,6 +92,10 @@ public class Animal extends BaseEntity {
     private String healthCheck;
     private String personality;
 
+    // 공공 API 원본 항목의 내용 해시. upsert 동기화에서 변경 여부 판단에 사용
+    @Column(length = 64)
+    private String fingerprint;
+
     @OneToMany(mappedBy = "animal", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<AnimalImage> images = new ArrayList<>();
 
@@ -101,7 +105,7 @@ public class Animal extends BaseEntity {
                   String noticeStartDate, String noticeEndDate, ProcessState status, String shelterName,
                   String shelterTel,
                   String shelterAddress, String province, String city, String specialMark, String healthInfo,
-                  String vaccination, String healthCheck, String personality) {
+                  String vaccination, String healthCheck, String personality, String fingerprint) {
         this.desertionNo = desertionNo;
         this.rfidCode = rfidCode;
         this.breedName = breedName;
@@ -126,6 +130,7 @@ public class Animal extends BaseEntity {
         this.vaccination = vaccination;
         this.healthCheck = healthCheck;
         this.personality = personality;
+        this.fingerprint = fingerprint;
     }
 
     public void addImage(String imageUrl, Integer order) {
@@ -142,4 +147,17 @@ public class Animal extends BaseEntity {
             addImage(imageUrls.get(i), i + 1);
         }
     }
+
+    public boolean isProtecting() {
+        return status == ProcessState.PROTECTING;
+    }
+
+    /**
+     * 상태를 변경하고, 보호 중이던 동물이 보호 종료 상태가 되었으면 true를 반환합니다.
+     */
+    public boolean changeStatus(ProcessState newStatus) {
+        boolean wasProtecting = isProtecting();
+        this.status = newStatus;
+        return wasProtecting && !isProtecting();
+    }
 }
@@ -0,0 +1,38 @@
+package com.ganzi.backend.animal.domain;
+
+import com.ganzi.backend.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 변경 피드 구독자별 마지막 처리 sequence.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "animal_change_checkpoints")
+public class AnimalChangeCheckpoint extends BaseEntity {
+
+    @Id
+    private String consumer;
+
+    @Column(nullable = false)
+    private long lastSequence;
+
+    private AnimalChangeCheckpoint(String consumer) {
+        this.consumer = consumer;
+    }
+
+    public static AnimalChangeCheckpoint of(String consumer) {
+        return new AnimalChangeCheckpoint(consumer);
+    }
+
+    public void advanceTo(long sequence) {
+        this.lastSequence = Math.max(lastSequence, sequence);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ganzi.backend.animal.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 동기화로 발생한 동물 변경 기록(append-only). sequence 순으로 읽으며, 구독자별 진행 위치는 {@link AnimalChangeCheckpoint}에 저장합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "animal_change_log")
+public class AnimalChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seq")
+    private Long sequence;
+
+    @Column(nullable = false)
+    private String desertionNo;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private AnimalChangeType changeType;
+
+    @Enumerated(EnumType.STRING)
+    private ProcessState status;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private AnimalChangeLog(String desertionNo, AnimalChangeType changeType, ProcessState status) {
+        this.desertionNo = desertionNo;
+        this.changeType = changeType;
+        this.status = status;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static AnimalChangeLog of(String desertionNo, AnimalChangeType changeType, ProcessState status) {
+        return new AnimalChangeLog(desertionNo, changeType, status);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ganzi.backend.animal.domain;
+
+public enum AnimalChangeType {
+    // 동기화로 처음 저장됨
+    INSERTED,
+    // 공공 API 내용(fingerprint)이 바뀌어 갱신됨
+    UPDATED,
+    // 보호 상태가 바뀜
+    STATUS_CHANGED
+}
@@ -1,5 +1,6 @@
 package com.ganzi.backend.animal.domain;
 
+import com.ganzi.backend.global.embedding.EmbeddingVectorConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -19,13 +20,49 @@ public class AnimalEmbedding {
     @JoinColumn(name = "desertion_no")
     private Animal animal;
 
+    // 바이너리 컬럼(embedding)으로 이관되기 전의 레거시 JSON
     @Lob
     private String embeddingJson;
 
+    @Convert(converter = EmbeddingVectorConverter.class)
+    @Column(name = "embedding", columnDefinition = "MEDIUMBLOB")
+    private float[] embedding;
+
     private Integer dimension;
 
-    public void updateEmbedding(String embeddingJson, int dimension) {
-        this.embeddingJson = embeddingJson;
-        this.dimension = dimension;
+    // true면 embedding은 단위 벡터이며 원본 크기는 norm에 보관 (null/false는 정규화 이전 포맷)
+    private Boolean normalized;
+
+    private Double norm;
+
+    // 임베딩 입력 텍스트의 SHA-256(hex). 입력과 모델이 같으면 다시 임베딩하지 않는다
+    @Column(length = 64)
+    private String inputHash;
+
+    private String model;
+
+    public void updateEmbedding(float[] unitVector, double norm, String inputHash, String model) {
+        updateEmbedding(unitVector, norm);
+        this.inputHash = inputHash;
+        this.model = model;
+    }
+
+    public void updateEmbedding(float[] unitVector, double norm) {
+        this.embedding = unitVector;
+        this.embeddingJson = null;
+        this.dimension = unitVector.length;
+        this.normalized = true;
+        this.norm = norm;
+    }
+
+    public boolean isNormalized() {
+        return Boolean.TRUE.equals(normalized);
+    }
+
+    /**
+     * 저장된 벡터에 곱하면 원본(정규화 전) 벡터가 되는 배율.
+     */
+    public double magnitude() {
+        return isNormalized() && norm != null ? norm : 1.0;
     }
 }
@@ -0,0 +1,47 @@
+package com.ganzi.backend.animal.domain;
+
+import com.ganzi.backend.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재시도 후에도 임베딩 생성에 실패한 동물 목록. 일괄 생성의 FAILED 모드로 다시 처리하며,
+ * 임베딩 저장에 성공하면 삭제됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "animal_embedding_failures")
+public class AnimalEmbeddingFailure extends BaseEntity {
+
+    private static final int MAX_REASON_LENGTH = 500;
+
+    @Id
+    private String desertionNo;
+
+    @Column(length = MAX_REASON_LENGTH)
+    private String reason;
+
+    @Column(nullable = false)
+    private int failureCount;
+
+    private AnimalEmbeddingFailure(String desertionNo) {
+        this.desertionNo = desertionNo;
+    }
+
+    public static AnimalEmbeddingFailure of(String desertionNo) {
+        return new AnimalEmbeddingFailure(desertionNo);
+    }
+
+    public void recordFailure(String reason) {
+        this.reason = reason != null && reason.length() > MAX_REASON_LENGTH
+                ? reason.substring(0, MAX_REASON_LENGTH)
+                : reason;
+        this.failureCount++;
+    }
+}
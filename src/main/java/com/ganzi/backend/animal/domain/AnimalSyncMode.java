@@ -0,0 +1,11 @@
+package com.ganzi.backend.animal.domain;
+
+/**
+ * 동기화 시 이미 저장된 동물의 처리 방식.
+ */
+public enum AnimalSyncMode {
+    // 신규 동물만 저장하고, 기존 동물은 보호 종료 상태만 반영
+    INSERT_ONLY,
+    // fingerprint가 바뀐 기존 동물도 공공 API 내용으로 갱신
+    UPSERT
+}
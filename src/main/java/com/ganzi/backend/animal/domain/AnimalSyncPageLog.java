@@ -0,0 +1,65 @@
+package com.ganzi.backend.animal.domain;
+
+import com.ganzi.backend.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 동기화 실행에서 저장을 마친 페이지. 페이지 저장과 같은 트랜잭션에서 기록되므로 재개 시 이 목록에 없는 페이지만 다시 처리합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "animal_sync_page_logs",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"run_id", "page_no"}),
+        indexes = @Index(columnList = "run_id"))
+public class AnimalSyncPageLog extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "page_no", nullable = false)
+    private int pageNo;
+
+    @Column(nullable = false)
+    private int itemCount;
+
+    @Column(nullable = false)
+    private int savedCount;
+
+    // 성공할 때까지의 조회 시도 횟수
+    @Column(nullable = false)
+    private int fetchAttempts;
+
+    @Column(nullable = false)
+    private long fetchMillis;
+
+    @Column(nullable = false)
+    private long saveMillis;
+
+    @Builder
+    public AnimalSyncPageLog(Long runId, int pageNo, int itemCount, int savedCount, int fetchAttempts,
+                             long fetchMillis, long saveMillis) {
+        this.runId = runId;
+        this.pageNo = pageNo;
+        this.itemCount = itemCount;
+        this.savedCount = savedCount;
+        this.fetchAttempts = fetchAttempts;
+        this.fetchMillis = fetchMillis;
+        this.saveMillis = saveMillis;
+    }
+}
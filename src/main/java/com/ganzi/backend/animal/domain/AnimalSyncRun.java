@@ -0,0 +1,121 @@
+package com.ganzi.backend.animal.domain;
+
+import com.ganzi.backend.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유기동물 동기화 실행 기록. 페이지별 진행은 {@link AnimalSyncPageLog}에 남기며,
+ * 실패한 실행은 같은 기간으로 남은 페이지부터 재개합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "animal_sync_runs")
+public class AnimalSyncRun extends BaseEntity {
+
+    private static final int MAX_REASON_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private AnimalSyncType syncType;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private AnimalSyncMode mode;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private AnimalSyncRunStatus status;
+
+    // 첫 페이지 응답의 totalCount로 계산. 알 수 없으면 null
+    private Integer totalCount;
+    private Integer lastPageNo;
+
+    // 1페이지부터 빠짐없이 저장을 마친 마지막 페이지 (동시 조회로 뒤 페이지가 먼저 끝날 수 있음)
+    @Column(nullable = false)
+    private int lastCompletedPageNo;
+
+    @Column(nullable = false)
+    private int completedPages;
+
+    @Column(nullable = false)
+    private int savedCount;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = MAX_REASON_LENGTH)
+    private String failureReason;
+
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public AnimalSyncRun(AnimalSyncType syncType, AnimalSyncMode mode, LocalDate startDate, LocalDate endDate) {
+        this.syncType = syncType;
+        this.mode = mode;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.status = AnimalSyncRunStatus.RUNNING;
+        this.attempts = 1;
+    }
+
+    public void resume() {
+        this.status = AnimalSyncRunStatus.RUNNING;
+        this.failureReason = null;
+        this.finishedAt = null;
+        this.attempts++;
+    }
+
+    public void recordTotal(int totalCount, int lastPageNo) {
+        this.totalCount = totalCount;
+        this.lastPageNo = lastPageNo;
+    }
+
+    public void recordPage(int saved, int lastCompletedPageNo) {
+        this.completedPages++;
+        this.savedCount += saved;
+        this.lastCompletedPageNo = Math.max(this.lastCompletedPageNo, lastCompletedPageNo);
+    }
+
+    public void complete() {
+        this.status = AnimalSyncRunStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    // 마지막 실패 사유는 남겨 둔다
+    public void abandon() {
+        this.status = AnimalSyncRunStatus.ABANDONED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String reason) {
+        this.status = AnimalSyncRunStatus.FAILED;
+        this.failureReason = reason != null && reason.length() > MAX_REASON_LENGTH
+                ? reason.substring(0, MAX_REASON_LENGTH)
+                : reason;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,10 @@
+package com.ganzi.backend.animal.domain;
+
+public enum AnimalSyncRunStatus {
+    RUNNING,
+    COMPLETED,
+    // 재시도 후에도 실패한 페이지가 있어 중단됨. 다음 동기화에서 남은 페이지부터 재개
+    FAILED,
+    // 시도 횟수가 run.max-attempts에 도달해 더 이상 재개하지 않음
+    ABANDONED
+}
@@ -0,0 +1,14 @@
+package com.ganzi.backend.animal.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AnimalSyncType {
+    INITIAL(7),
+    DAILY(1);
+
+    // 오늘부터 거슬러 올라가 조회하는 일수
+    private final int days;
+}
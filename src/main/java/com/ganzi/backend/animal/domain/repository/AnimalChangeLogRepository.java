@@ -0,0 +1,23 @@
+package com.ganzi.backend.animal.domain.repository;
+
+import com.ganzi.backend.animal.domain.AnimalChangeLog;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AnimalChangeLogRepository extends JpaRepository<AnimalChangeLog, Long> {
+
+    @Query("SELECT c FROM AnimalChangeLog c WHERE c.sequence > :after AND c.createdAt <= :settledAt " +
+            "ORDER BY c.sequence")
+    List<AnimalChangeLog> findSettledAfter(@Param("after") long after,
+                                           @Param("settledAt") LocalDateTime settledAt,
+                                           Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM AnimalChangeLog c WHERE c.sequence <= :sequence AND c.createdAt < :before")
+    int deleteConsumedBefore(@Param("sequence") long sequence, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,7 @@
+package com.ganzi.backend.animal.domain.repository;
+
+import com.ganzi.backend.animal.domain.AnimalEmbeddingFailure;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AnimalEmbeddingFailureRepository extends JpaRepository<AnimalEmbeddingFailure, String> {
+}
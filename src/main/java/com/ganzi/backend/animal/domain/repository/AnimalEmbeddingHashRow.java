@@ -0,0 +1,17 @@
+package com.ganzi.backend.animal.domain.repository;
+
+import java.util.Objects;
+
+/**
+ * 임베딩 벡터(BLOB)를 읽지 않고 입력 해시와 모델만 비교하기 위한 조회 결과.
+ */
+public record AnimalEmbeddingHashRow(
+        String desertionNo,
+        String inputHash,
+        String model
+) {
+
+    public boolean isUpToDate(String inputHash, String model) {
+        return this.inputHash != null && this.inputHash.equals(inputHash) && Objects.equals(this.model, model);
+    }
+}
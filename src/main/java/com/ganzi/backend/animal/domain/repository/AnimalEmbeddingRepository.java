@@ -1,9 +1,30 @@
 package com.ganzi.backend.animal.domain.repository;
 
 import com.ganzi.backend.animal.domain.AnimalEmbedding;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AnimalEmbeddingRepository extends JpaRepository<AnimalEmbedding, String> {
+
+    @Query("SELECT e FROM AnimalEmbedding e JOIN FETCH e.animal")
+    Slice<AnimalEmbedding> findAllWithAnimal(Pageable pageable);
+
+    @Query("SELECT new com.ganzi.backend.animal.domain.repository.AnimalEmbeddingHashRow(" +
+            "e.desertionNo, e.inputHash, e.model) " +
+            "FROM AnimalEmbedding e WHERE e.desertionNo IN :desertionNos")
+    List<AnimalEmbeddingHashRow> findHashRowsByDesertionNoIn(@Param("desertionNos") Collection<String> desertionNos);
+
+    @Query("SELECT e FROM AnimalEmbedding e " +
+            "WHERE (e.embedding IS NOT NULL OR e.embeddingJson IS NOT NULL) " +
+            "AND (e.embedding IS NULL OR e.normalized IS NULL OR e.normalized = false) " +
+            "AND e.desertionNo > :after " +
+            "ORDER BY e.desertionNo")
+    List<AnimalEmbedding> findLegacyFormatAfter(@Param("after") String after, Pageable pageable);
 }
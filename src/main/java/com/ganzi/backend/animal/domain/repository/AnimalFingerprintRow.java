@@ -0,0 +1,17 @@
+package com.ganzi.backend.animal.domain.repository;
+
+import com.ganzi.backend.animal.domain.ProcessState;
+
+/**
+ * upsert 동기화에서 엔티티 전체를 읽지 않고 저장된 fingerprint와 상태만 비교하기 위한 조회 결과.
+ */
+public record AnimalFingerprintRow(
+        String desertionNo,
+        String fingerprint,
+        ProcessState status
+) {
+
+    public boolean matches(String fingerprint) {
+        return this.fingerprint != null && this.fingerprint.equals(fingerprint);
+    }
+}
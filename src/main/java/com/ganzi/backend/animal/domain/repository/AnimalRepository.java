@@ -1,8 +1,11 @@
 package com.ganzi.backend.animal.domain.repository;
 
 import com.ganzi.backend.animal.domain.Animal;
+import com.ganzi.backend.animal.domain.ProcessState;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +13,35 @@ import org.springframework.data.repository.query.Param;
 public interface AnimalRepository extends JpaRepository<Animal, String>, AnimalRepositoryCustom {
     Optional<Animal> findByDesertionNo(String desertionNo);
 
+    @Query("SELECT a.desertionNo FROM Animal a WHERE a.desertionNo IN :desertionNos")
+    List<String> findExistingDesertionNos(@Param("desertionNos") Collection<String> desertionNos);
+
+    @Query("SELECT new com.ganzi.backend.animal.domain.repository.AnimalFingerprintRow(" +
+            "a.desertionNo, a.fingerprint, a.status) FROM Animal a WHERE a.desertionNo IN :desertionNos")
+    List<AnimalFingerprintRow> findFingerprintRowsByDesertionNoIn(@Param("desertionNos") Collection<String> desertionNos);
+
+    @Query("SELECT DISTINCT a FROM Animal a LEFT JOIN FETCH a.images " +
+            "WHERE a.desertionNo IN :desertionNos")
+    List<Animal> findAllWithImagesByDesertionNoIn(@Param("desertionNos") Collection<String> desertionNos);
+
+    @Query("SELECT a FROM Animal a WHERE a.desertionNo > :after ORDER BY a.desertionNo")
+    List<Animal> findPageAfter(@Param("after") String after, Pageable pageable);
+
+    @Query("SELECT a FROM Animal a WHERE a.desertionNo > :after " +
+            "AND NOT EXISTS (SELECT e.desertionNo FROM AnimalEmbedding e WHERE e.desertionNo = a.desertionNo) " +
+            "ORDER BY a.desertionNo")
+    List<Animal> findPageWithoutEmbeddingAfter(@Param("after") String after, Pageable pageable);
+
+    @Query("SELECT a FROM Animal a WHERE a.desertionNo > :after " +
+            "AND EXISTS (SELECT f.desertionNo FROM AnimalEmbeddingFailure f WHERE f.desertionNo = a.desertionNo) " +
+            "ORDER BY a.desertionNo")
+    List<Animal> findPageWithEmbeddingFailureAfter(@Param("after") String after, Pageable pageable);
+
+    @Query("SELECT new com.ganzi.backend.animal.domain.repository.ProtectingAnimalRow(" +
+            "a.desertionNo, a.animalType, a.province, a.city, a.shelterName, a.foundDate, a.noticeEndDate) " +
+            "FROM Animal a WHERE a.status = :status")
+    List<ProtectingAnimalRow> findRowsByStatus(@Param("status") ProcessState status);
+
     @Query("SELECT DISTINCT a.province FROM Animal a " +
             "WHERE a.province IS NOT NULL ORDER BY a.province")
     List<String> findDistinctProvinces();
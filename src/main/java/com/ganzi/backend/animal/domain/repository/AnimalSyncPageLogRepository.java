@@ -0,0 +1,15 @@
+package com.ganzi.backend.animal.domain.repository;
+
+import com.ganzi.backend.animal.domain.AnimalSyncPageLog;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AnimalSyncPageLogRepository extends JpaRepository<AnimalSyncPageLog, Long> {
+
+    @Query("SELECT p.pageNo FROM AnimalSyncPageLog p WHERE p.runId = :runId")
+    List<Integer> findPageNosByRunId(@Param("runId") Long runId);
+
+    List<AnimalSyncPageLog> findByRunIdOrderByPageNoAsc(Long runId);
+}
@@ -0,0 +1,18 @@
+package com.ganzi.backend.animal.domain.repository;
+
+import com.ganzi.backend.animal.domain.AnimalSyncRun;
+import com.ganzi.backend.animal.domain.AnimalSyncRunStatus;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface AnimalSyncRunRepository extends JpaRepository<AnimalSyncRun, Long> {
+
+    Optional<AnimalSyncRun> findFirstByStatusInOrderByIdAsc(Collection<AnimalSyncRunStatus> statuses);
+
+    @Query("SELECT r FROM AnimalSyncRun r ORDER BY r.id DESC")
+    List<AnimalSyncRun> findRecent(Pageable pageable);
+}
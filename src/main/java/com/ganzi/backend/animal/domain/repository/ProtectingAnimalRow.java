@@ -0,0 +1,17 @@
+package com.ganzi.backend.animal.domain.repository;
+
+import com.ganzi.backend.animal.domain.AnimalType;
+
+/**
+ * 보호 중인 동물 목록을 엔티티 없이 읽기 위한 조회 결과. 날짜는 yyyyMMdd 문자열입니다.
+ */
+public record ProtectingAnimalRow(
+        String desertionNo,
+        AnimalType animalType,
+        String province,
+        String city,
+        String shelterName,
+        String foundDate,
+        String noticeEndDate
+) {
+}
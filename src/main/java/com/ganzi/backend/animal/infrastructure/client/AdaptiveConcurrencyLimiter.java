@@ -0,0 +1,79 @@
+package com.ganzi.backend.animal.infrastructure.client;
+
+import java.util.function.LongSupplier;
+
+/**
+ * AIMD 방식으로 동시 호출 수 상한을 조절하는 리미터.
+ * <p>
+ * 호출이 성공할 때마다 상한을 1/limit씩 늘려(상한만큼 성공하면 +1) 처리량을 더듬어 올라가고,
+ * 429/5xx/타임아웃 같은 과부하 신호를 받으면 상한을 절반으로 줄입니다.
+ * 동시에 실패한 호출들이 상한을 연달아 줄이지 않도록 감소는 cooldown마다 한 번만 적용합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long cooldownNanos;
+    private final LongSupplier nanoClock;
+    private double limit;
+    private int inFlight;
+    private long decreasedAt;
+    private boolean decreased;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long cooldownMillis) {
+        this(initialLimit, minLimit, maxLimit, cooldownMillis, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long cooldownMillis, LongSupplier nanoClock) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.cooldownNanos = cooldownMillis * 1_000_000L;
+        this.nanoClock = nanoClock;
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+    }
+
+    /**
+     * 진행 중인 호출 수가 현재 상한보다 작아질 때까지 대기한 뒤 슬롯을 차지합니다.
+     */
+    public synchronized void acquire() throws InterruptedException {
+        while (inFlight >= (int) limit) {
+            wait();
+        }
+        inFlight++;
+    }
+
+    public synchronized void onSuccess() {
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+        release();
+    }
+
+    public synchronized void onOverload() {
+        long now = nanoClock.getAsLong();
+        if (!decreased || now - decreasedAt >= cooldownNanos) {
+            limit = Math.max(minLimit, limit / 2.0);
+            decreasedAt = now;
+            decreased = true;
+        }
+        release();
+    }
+
+    /**
+     * 처리량과 무관한 실패(요청 오류 등)는 상한을 바꾸지 않고 슬롯만 반환합니다.
+     */
+    public synchronized void onIgnore() {
+        release();
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    private void release() {
+        inFlight--;
+        notifyAll();
+    }
+}
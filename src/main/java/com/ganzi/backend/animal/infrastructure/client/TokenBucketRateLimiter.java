@@ -0,0 +1,59 @@
+package com.ganzi.backend.animal.infrastructure.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 permitsPerSecond개씩 채워지고 최대 burst개까지 쌓이는 토큰 버킷.
+ * permitsPerSecond가 0 이하이면 제한하지 않습니다.
+ */
+public class TokenBucketRateLimiter {
+
+    private final double permitsPerSecond;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = Math.max(1, burst);
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 하나를 얻을 때까지 대기합니다.
+     */
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos = tryAcquire();
+            if (waitNanos == 0L) {
+                return;
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 토큰이 있으면 하나 사용하고 0을, 없으면 다음 토큰까지 남은 시간(ns)을 반환합니다.
+     */
+    synchronized long tryAcquire() {
+        if (permitsPerSecond <= 0) {
+            return 0L;
+        }
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) / 1e9 * permitsPerSecond);
+        refilledAt = now;
+        if (tokens >= 1.0) {
+            tokens -= 1.0;
+            return 0L;
+        }
+        return Math.max(1L, (long) ((1.0 - tokens) / permitsPerSecond * 1e9));
+    }
+}
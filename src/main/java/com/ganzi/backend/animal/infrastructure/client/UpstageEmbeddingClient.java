@@ -4,56 +4,133 @@ import com.ganzi.backend.animal.infrastructure.dto.UpstageEmbeddingRequest;
 import com.ganzi.backend.animal.infrastructure.dto.UpstageEmbeddingResponse;
 import com.ganzi.backend.global.code.status.ErrorStatus;
 import com.ganzi.backend.global.exception.GeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Upstage 임베딩 API 클라이언트.
+ * <p>
+ * 모든 호출은 토큰 버킷(requests-per-second)과 AIMD 동시성 리미터를 거칩니다.
+ * 429/5xx/타임아웃은 지수 백오프(full jitter, Retry-After 우선)로 max-attempts까지 재시도하며,
+ * 같은 신호로 동시 호출 상한을 줄였다가 성공이 이어지면 다시 늘려 제공자가 감당할 수 있는 처리량을 찾습니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class UpstageEmbeddingClient {
 
     private static final int BATCH_SIZE = 64;
 
-    @Value("${upstage.api.base-url}")
-    private String baseUrl;
-
-    @Value("${upstage.api.key}")
-    private String apiKey;
-
-    @Value("${upstage.embedding.endpoint:/solar/embeddings}")
-    private String endpoint;
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final String apiKey;
+    private final String endpoint;
+    private final String model;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Counter retryCounter;
 
-    @Value("${upstage.embedding.model:solar-embedding-1-large-passage}")
-    private String model;
+    public UpstageEmbeddingClient(
+            RestTemplate restTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${upstage.api.base-url}") String baseUrl,
+            @Value("${upstage.api.key}") String apiKey,
+            @Value("${upstage.embedding.endpoint:/solar/embeddings}") String endpoint,
+            @Value("${upstage.embedding.model:solar-embedding-1-large-passage}") String model,
+            @Value("${upstage.embedding.rate-limit.requests-per-second:5}") double requestsPerSecond,
+            @Value("${upstage.embedding.rate-limit.burst:5}") int burst,
+            @Value("${upstage.embedding.concurrency.initial:2}") int initialConcurrency,
+            @Value("${upstage.embedding.concurrency.min:1}") int minConcurrency,
+            @Value("${upstage.embedding.concurrency.max:16}") int maxConcurrency,
+            @Value("${upstage.embedding.retry.max-attempts:5}") int maxAttempts,
+            @Value("${upstage.embedding.retry.base-backoff-ms:500}") long baseBackoffMillis,
+            @Value("${upstage.embedding.retry.max-backoff-ms:30000}") long maxBackoffMillis
+    ) {
+        this.restTemplate = restTemplate;
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+        this.endpoint = endpoint;
+        this.model = model;
+        this.rateLimiter = new TokenBucketRateLimiter(requestsPerSecond, burst);
+        // 과부하 신호는 백오프 기본값 동안 한 번만 상한에 반영
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+                initialConcurrency, minConcurrency, maxConcurrency, baseBackoffMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        Gauge.builder("upstage.embedding.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::limit)
+                .description("Upstage 임베딩 동시 호출 상한")
+                .register(meterRegistry);
+        Gauge.builder("upstage.embedding.concurrency.in-flight", concurrencyLimiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description("진행 중인 Upstage 임베딩 호출 수")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("upstage.embedding.retries")
+                .description("Upstage 임베딩 재시도 횟수")
+                .register(meterRegistry);
+    }
 
-    private final RestTemplate restTemplate;
+    public String model() {
+        return model;
+    }
 
     public List<float[]> embedTexts(List<String> texts) {
         if (texts == null || texts.isEmpty()) return Collections.emptyList();
         List<float[]> aggregated = new ArrayList<>();
         for (int offset = 0; offset < texts.size(); offset += BATCH_SIZE) {
             List<String> batch = texts.subList(offset, Math.min(offset + BATCH_SIZE, texts.size()));
-            aggregated.addAll(callOnce(batch));
+            aggregated.addAll(callWithRetry(batch));
         }
         return aggregated;
     }
 
+    private List<float[]> callWithRetry(List<String> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return callOnce(batch);
+            } catch (RetryableCallException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("Upstage API 재시도 {}회 후 실패", attempt, e.getCause());
+                    throw new GeneralException(e.errorStatus);
+                }
+                long backoff = backoffMillis(attempt, e.retryAfterMillis);
+                log.warn("Upstage API 일시 오류로 {}ms 후 재시도 ({}/{}) : {}",
+                        backoff, attempt, maxAttempts, e.getCause().getMessage());
+                retryCounter.increment();
+                sleep(backoff);
+            }
+        }
+    }
+
     private List<float[]> callOnce(List<String> batch) {
         UpstageEmbeddingRequest request = new UpstageEmbeddingRequest(model, batch);
         String url = baseUrl + endpoint;
+        try {
+            concurrencyLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorStatus.UPSTAGE_API_CALL_FAILED);
+        }
+        UpstageEmbeddingResponse response;
         try {
             URI uri = URI.create(url);
 
@@ -67,24 +144,85 @@ public class UpstageEmbeddingClient {
                     url, batch.size(),
                     apiKey != null ? apiKey.substring(0, Math.min(8, apiKey.length())) : "null");
 
-            UpstageEmbeddingResponse response =
-                    restTemplate.postForObject(uri, entity, UpstageEmbeddingResponse.class);
-
-            if (response == null) {
-                log.warn("[Upstage] Null 응답 반환, url={}", url);
-                return Collections.emptyList();
+            // 슬롯을 기다리는 동안 토큰을 쥐고 있지 않도록 호출 직전에 토큰을 받음
+            rateLimiter.acquire();
+            response = restTemplate.postForObject(uri, entity, UpstageEmbeddingResponse.class);
+            concurrencyLimiter.onSuccess();
+        } catch (InterruptedException e) {
+            concurrencyLimiter.onIgnore();
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorStatus.UPSTAGE_API_CALL_FAILED);
+        } catch (RestClientResponseException e) {
+            HttpStatusCode status = e.getStatusCode();
+            if (status.value() == 429 || status.is5xxServerError()) {
+                concurrencyLimiter.onOverload();
+                throw new RetryableCallException(ErrorStatus.UPSTAGE_API_CALL_FAILED, retryAfterMillis(e), e);
             }
-            return response.toVectors();
+            concurrencyLimiter.onIgnore();
+            log.error("Upstage API 호출 실패 status={}", status, e);
+            throw new GeneralException(ErrorStatus.UPSTAGE_API_CALL_FAILED);
         } catch (ResourceAccessException e) {
             if (e.getCause() instanceof SocketTimeoutException) {
-                log.error("Upstage API 타임아웃", e);
-                throw new GeneralException(ErrorStatus.UPSTAGE_API_TIMEOUT);
+                concurrencyLimiter.onOverload();
+                throw new RetryableCallException(ErrorStatus.UPSTAGE_API_TIMEOUT, 0L, e);
             }
-            log.error("Upstage API 요청 중 자원 접근 예외 발생", e);
-            throw new GeneralException(ErrorStatus.UPSTAGE_API_CALL_FAILED);
+            // 연결 실패 등 일시적인 네트워크 오류도 재시도하되 동시성 상한은 유지
+            concurrencyLimiter.onIgnore();
+            throw new RetryableCallException(ErrorStatus.UPSTAGE_API_CALL_FAILED, 0L, e);
         } catch (RestClientException e) {
+            concurrencyLimiter.onIgnore();
             log.error("Upstage API 호출 실패", e);
             throw new GeneralException(ErrorStatus.UPSTAGE_API_CALL_FAILED);
+        } catch (RuntimeException e) {
+            concurrencyLimiter.onIgnore();
+            throw e;
+        }
+
+        if (response == null) {
+            log.warn("[Upstage] Null 응답 반환, url={}", url);
+            return Collections.emptyList();
+        }
+        return response.toVectors();
+    }
+
+    // full jitter: [0, min(max, base * 2^(attempt-1))) 중 임의 값. 서버가 Retry-After를 주면 그 이상 대기
+    private long backoffMillis(int attempt, long retryAfterMillis) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20));
+        long jittered = ThreadLocalRandom.current().nextLong(Math.max(1L, ceiling));
+        return Math.max(jittered, retryAfterMillis);
+    }
+
+    private long retryAfterMillis(RestClientResponseException e) {
+        HttpHeaders headers = e.getResponseHeaders();
+        String retryAfter = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (retryAfter == null) {
+            return 0L;
+        }
+        try {
+            return Math.min(maxBackoffMillis, Long.parseLong(retryAfter.trim()) * 1000L);
+        } catch (NumberFormatException ignored) {
+            return 0L;
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorStatus.UPSTAGE_API_CALL_FAILED);
+        }
+    }
+
+    private static class RetryableCallException extends RuntimeException {
+
+        private final ErrorStatus errorStatus;
+        private final long retryAfterMillis;
+
+        RetryableCallException(ErrorStatus errorStatus, long retryAfterMillis, Throwable cause) {
+            super(cause);
+            this.errorStatus = errorStatus;
+            this.retryAfterMillis = retryAfterMillis;
         }
     }
 }
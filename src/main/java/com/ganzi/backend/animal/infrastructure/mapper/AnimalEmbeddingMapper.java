@@ -1,6 +1,10 @@
 package com.ganzi.backend.animal.infrastructure.mapper;
 
 import com.ganzi.backend.animal.domain.Animal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -21,6 +25,18 @@ public class AnimalEmbeddingMapper {
         );
     }
 
+    /**
+     * 임베딩 입력 텍스트의 SHA-256 해시(hex 64자). 입력이 바뀌었는지 판단하는 데 사용합니다.
+     */
+    public String toInputHash(String input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(input.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
     private String nullSafe(String value) {
         return value == null ? "" : value;
     }
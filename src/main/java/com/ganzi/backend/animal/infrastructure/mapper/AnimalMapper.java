@@ -6,13 +6,21 @@ import com.ganzi.backend.animal.domain.NeuterStatus;
 import com.ganzi.backend.animal.domain.ProcessState;
 import com.ganzi.backend.animal.domain.Sex;
 import com.ganzi.backend.animal.infrastructure.dto.AnimalApiItem;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
 public class AnimalMapper {
 
+    // null은 "null" 문자열로 이어 붙여 빈 문자열과 구분
+    private static final String FIELD_SEPARATOR = "\u001F";
+
     public Animal toEntity(AnimalApiItem item) {
         Animal animal = Animal.builder()
                 .desertionNo(item.getDesertionNo())
@@ -39,6 +47,7 @@ public class AnimalMapper {
                 .vaccination(item.getVaccinationChk())
                 .healthCheck(item.getHealthChk())
                 .personality(item.getSfeSoci())
+                .fingerprint(toFingerprint(item))
                 .build();
 
         List<String> imageUrls = extractImageUrls(item);
@@ -47,6 +56,26 @@ public class AnimalMapper {
         return animal;
     }
 
+    /**
+     * 저장에 쓰이는 API 항목 필드 전체의 SHA-256 해시(hex 64자). 같은 구조번호의 내용이 바뀌었는지 판단하는 데 사용합니다.
+     */
+    public String toFingerprint(AnimalApiItem item) {
+        String content = String.join(FIELD_SEPARATOR, Arrays.asList(
+                item.getDesertionNo(), item.getRfidCd(), item.getKindNm(), item.getUpKindCd(), item.getAge(),
+                item.getSexCd(), item.getNeuterYn(), item.getWeight(), item.getColorCd(),
+                item.getHappenDt(), item.getHappenPlace(), item.getNoticeSdt(), item.getNoticeEdt(),
+                item.getProcessState(), item.getCareNm(), item.getCareTel(), item.getCareAddr(), item.getOrgNm(),
+                item.getSpecialMark(), item.getSfeHealth(), item.getVaccinationChk(), item.getHealthChk(),
+                item.getSfeSoci(), item.getPopfile1(), item.getPopfile2(), item.getPopfile3(), item.getPopfile4(),
+                item.getPopfile5(), item.getPopfile6(), item.getPopfile7(), item.getPopfile8()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
     private String extractProvince(String orgNm) {
         if (orgNm == null || orgNm.isBlank()) {
             return null;
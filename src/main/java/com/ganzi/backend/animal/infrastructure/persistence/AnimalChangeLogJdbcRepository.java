@@ -0,0 +1,33 @@
+package com.ganzi.backend.animal.infrastructure.persistence;
+
+import com.ganzi.backend.animal.domain.AnimalChangeLog;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 동기화 트랜잭션에서 쌓인 동물 변경 로그 다건 INSERT.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnimalChangeLogJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO animal_change_log "
+            + "(desertion_no, change_type, status, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void appendAll(List<AnimalChangeLog> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setString(1, change.getDesertionNo());
+            ps.setString(2, change.getChangeType().name());
+            ps.setString(3, change.getStatus() != null ? change.getStatus().name() : null);
+            ps.setTimestamp(4, Timestamp.valueOf(change.getCreatedAt()));
+        });
+    }
+}
@@ -0,0 +1,129 @@
+package com.ganzi.backend.animal.infrastructure.persistence;
+
+import com.ganzi.backend.animal.domain.Animal;
+import com.ganzi.backend.animal.domain.AnimalImage;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 동기화로 받은 동물과 이미지의 다건 INSERT, upsert.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnimalJdbcRepository {
+
+    private static final List<String> ANIMAL_COLUMNS = List.of(
+            "desertion_no", "rfid_code", "breed_name", "animal_type", "age", "sex", "neuter_status", "weight", "color",
+            "found_date", "found_place", "notice_start_date", "notice_end_date", "status",
+            "shelter_name", "shelter_tel", "shelter_address", "province", "city",
+            "special_mark", "health_info", "vaccination", "health_check", "personality", "fingerprint",
+            "created_at", "updated_at");
+
+    private static final String INSERT_ANIMAL_SQL = "INSERT INTO animals (" + String.join(", ", ANIMAL_COLUMNS) + ") "
+            + "VALUES (" + String.join(", ", Collections.nCopies(ANIMAL_COLUMNS.size(), "?")) + ")";
+
+    // 구조번호와 최초 등록 시각을 제외한 모든 컬럼을 새 값으로 덮어쓴다
+    private static final String UPSERT_ANIMAL_SQL = INSERT_ANIMAL_SQL + " ON DUPLICATE KEY UPDATE "
+            + ANIMAL_COLUMNS.stream()
+            .filter(column -> !column.equals("desertion_no") && !column.equals("created_at"))
+            .map(column -> column + " = VALUES(" + column + ")")
+            .collect(Collectors.joining(", "));
+
+    private static final String INSERT_IMAGE_SQL = "INSERT INTO animal_images "
+            + "(desertion_no, image_url, image_order, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 동물과 이미지를 각각 하나의 JDBC 배치로 저장합니다. 호출자의 트랜잭션에 참여합니다.
+     */
+    public void insertAll(List<Animal> animals) {
+        if (animals.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ANIMAL_SQL, animals, animals.size(),
+                (ps, animal) -> bindAnimal(ps, animal, now));
+        insertImages(animals, now);
+    }
+
+    /**
+     * 동물을 INSERT ... ON DUPLICATE KEY UPDATE 배치로 저장합니다. 호출자의 트랜잭션에 참여합니다.
+     * imageReplacedDesertionNos에 해당하는 기존 동물은 이미지를 지우고 새 목록으로 다시 저장합니다.
+     */
+    public void upsertAll(List<Animal> animals, Collection<String> imageReplacedDesertionNos) {
+        if (animals.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_ANIMAL_SQL, animals, animals.size(),
+                (ps, animal) -> bindAnimal(ps, animal, now));
+        if (!imageReplacedDesertionNos.isEmpty()) {
+            String placeholders = String.join(", ", Collections.nCopies(imageReplacedDesertionNos.size(), "?"));
+            jdbcTemplate.update("DELETE FROM animal_images WHERE desertion_no IN (" + placeholders + ")",
+                    imageReplacedDesertionNos.toArray());
+        }
+        insertImages(animals, now);
+    }
+
+    private void insertImages(List<Animal> animals, Timestamp now) {
+        List<AnimalImage> images = new ArrayList<>();
+        for (Animal animal : animals) {
+            images.addAll(animal.getImages());
+        }
+        if (images.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_IMAGE_SQL, images, images.size(), (ps, image) -> {
+            ps.setString(1, image.getAnimal().getDesertionNo());
+            ps.setString(2, image.getImageUrl());
+            ps.setInt(3, image.getImageOrder());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+    }
+
+    private void bindAnimal(PreparedStatement ps, Animal animal, Timestamp now) throws SQLException {
+        ps.setString(1, animal.getDesertionNo());
+        ps.setString(2, animal.getRfidCode());
+        ps.setString(3, animal.getBreedName());
+        ps.setString(4, enumName(animal.getAnimalType()));
+        ps.setString(5, animal.getAge());
+        ps.setString(6, enumName(animal.getSex()));
+        ps.setString(7, enumName(animal.getNeuterStatus()));
+        ps.setString(8, animal.getWeight());
+        ps.setString(9, animal.getColor());
+        ps.setString(10, animal.getFoundDate());
+        ps.setString(11, animal.getFoundPlace());
+        ps.setString(12, animal.getNoticeStartDate());
+        ps.setString(13, animal.getNoticeEndDate());
+        ps.setString(14, enumName(animal.getStatus()));
+        ps.setString(15, animal.getShelterName());
+        ps.setString(16, animal.getShelterTel());
+        ps.setString(17, animal.getShelterAddress());
+        ps.setString(18, animal.getProvince());
+        ps.setString(19, animal.getCity());
+        ps.setString(20, animal.getSpecialMark());
+        ps.setString(21, animal.getHealthInfo());
+        ps.setString(22, animal.getVaccination());
+        ps.setString(23, animal.getHealthCheck());
+        ps.setString(24, animal.getPersonality());
+        ps.setString(25, animal.getFingerprint());
+        ps.setTimestamp(26, now);
+        ps.setTimestamp(27, now);
+    }
+
+    private String enumName(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
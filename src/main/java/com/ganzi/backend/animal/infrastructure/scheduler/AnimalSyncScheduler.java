@@ -1,8 +1,12 @@
 package com.ganzi.backend.animal.infrastructure.scheduler;
 
 import com.ganzi.backend.animal.application.AnimalSyncService;
+import com.ganzi.backend.animal.domain.AnimalSyncMode;
+import com.ganzi.backend.global.code.status.ErrorStatus;
+import com.ganzi.backend.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -13,13 +17,32 @@ public class AnimalSyncScheduler {
 
     private final AnimalSyncService animalSyncService;
 
+    @Value("${animal.sync.mode:UPSERT}")
+    private AnimalSyncMode syncMode;
+
     @Scheduled(cron = "0 0 3 * * *")
     public void syncDailyAbandonedAnimals() {
         log.info("일일 유기동물 스케줄 동기화 시작");
         try {
-            animalSyncService.dailySync();
+            animalSyncService.dailySync(syncMode);
+        } catch (Exception e) {
+            log.error("일일 유기동물 스케줄 동기화 실패", e);
+        }
+    }
+
+    // 실패로 남은 동기화를 다음 일일 동기화까지 기다리지 않고 재개
+    @Scheduled(cron = "${animal.sync.resume-cron:0 30 * * * *}")
+    public void resumeUnfinishedSync() {
+        try {
+            animalSyncService.resumeUnfinished();
+        } catch (GeneralException e) {
+            if (e.getCode() != ErrorStatus.ANIMAL_SYNC_IN_PROGRESS) {
+                log.error("미완료 유기동물 동기화 재개 실패", e);
+                return;
+            }
+            log.info("다른 유기동물 동기화가 진행 중이라 재개를 건너뜀");
         } catch (Exception e) {
-            log.error("일일 유기동물 스케줄 동기화 실패");
+            log.error("미완료 유기동물 동기화 재개 실패", e);
         }
     }
 }
@@ -34,6 +34,7 @@ public enum ErrorStatus implements BaseErrorCode {
     ENDPOINT_NOT_FOUND(HttpStatus.NOT_FOUND, "GEN404", "존재하지 않는 엔드포인트입니다."),
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "USER404", "사용자를 찾을 수 없습니다."),
     ANIMAL_NOT_FOUND(HttpStatus.NOT_FOUND, "ANIMAL404", "유기동물을 찾을 수 없습니다."),
+    ANIMAL_SYNC_RUN_NOT_FOUND(HttpStatus.NOT_FOUND, "ANIMAL404", "유기동물 동기화 실행 기록을 찾을 수 없습니다."),
 
     // 405 Method Not Allowed
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "COMMON405", "허용되지 않는 HTTP 메서드입니다."),
@@ -42,6 +43,7 @@ public enum ErrorStatus implements BaseErrorCode {
     CONFLICT(HttpStatus.CONFLICT, "COMMON409", "요청이 현재 리소스 상태와 충돌합니다."),
     DUPLICATE_RESOURCE(HttpStatus.CONFLICT, "GEN409", "이미 존재하는 리소스입니다."),
     VERSION_CONFLICT(HttpStatus.CONFLICT, "GEN409", "리소스 버전 충돌이 발생했습니다."),
+    ANIMAL_SYNC_IN_PROGRESS(HttpStatus.CONFLICT, "ANIMAL409", "유기동물 동기화가 이미 진행 중입니다."),
 
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON500", "서버 에러, 관리자에게 문의 바랍니다."),
@@ -1,5 +1,6 @@
 package com.ganzi.backend.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -21,4 +22,40 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    // 관심 기록 write-behind 저장 전용. 한 번에 하나의 flush만 실행
+    @Bean(name = "interestWriteExecutor")
+    public Executor interestWriteExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("interest-write-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 동물 변경 피드 전달 전용. 한 번에 하나의 전달만 실행하며, 대량 동기화 뒤 임베딩 갱신이 길어져도 embeddingExecutor를 점유하지 않는다
+    @Bean(name = "animalChangeFeedExecutor")
+    public Executor animalChangeFeedExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("animal-change-feed-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 일괄 임베딩 생성의 배치 호출 전용. 동시 실행 수는 AnimalEmbeddingService가 세마포어로 제한
+    @Bean(name = "embeddingBatchExecutor")
+    public Executor embeddingBatchExecutor(@Value("${animal.embedding.bulk.max-in-flight:4}") int maxInFlight) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxInFlight);
+        executor.setMaxPoolSize(maxInFlight);
+        executor.setQueueCapacity(maxInFlight);
+        executor.setThreadNamePrefix("embedding-batch-");
+        executor.initialize();
+        return executor;
+    }
+}
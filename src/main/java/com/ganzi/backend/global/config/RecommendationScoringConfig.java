@@ -0,0 +1,26 @@
+package com.ganzi.backend.global.config;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RecommendationScoringConfig {
+
+    // 공용 풀·Tomcat 스레드와 분리된 추천 스코어링 전용 풀
+    @Bean(name = "recommendationScoringPool", destroyMethod = "shutdown")
+    public ForkJoinPool recommendationScoringPool(
+            @Value("${recommendation.scoring.parallelism:0}") int parallelism
+    ) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        return new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("recommendation-scoring-" + sequence.incrementAndGet());
+            return thread;
+        }, null, false);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ganzi.backend.global.embedding;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum EmbeddingStorageFormat {
+    FLOAT32((byte) 1, "float32 little-endian"),
+    FLOAT16((byte) 2, "IEEE 754 half precision"),
+    INT8((byte) 3, "대칭 스케일 int8 양자화");
+
+    private final byte code;
+    private final String description;
+
+    public static EmbeddingStorageFormat fromCode(byte code) {
+        for (EmbeddingStorageFormat format : values()) {
+            if (format.code == code) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown embedding storage format: " + code);
+    }
+}
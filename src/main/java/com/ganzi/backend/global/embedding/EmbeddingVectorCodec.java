@@ -0,0 +1,101 @@
+package com.ganzi.backend.global.embedding;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 임베딩 벡터 바이너리 인코딩.
+ * <p>
+ * 첫 바이트는 {@link EmbeddingStorageFormat} 코드이며, 이후 본문은 포맷별로 다음과 같습니다.
+ * <ul>
+ *     <li>FLOAT32: 차원당 4바이트 little-endian float</li>
+ *     <li>FLOAT16: 차원당 2바이트 little-endian half float</li>
+ *     <li>INT8: 4바이트 little-endian float 스케일 + 차원당 1바이트 (값 = q * scale)</li>
+ * </ul>
+ */
+public final class EmbeddingVectorCodec {
+
+    private static final int HEADER_BYTES = 1;
+
+    private EmbeddingVectorCodec() {
+    }
+
+    public static byte[] encode(float[] vector, EmbeddingStorageFormat format) {
+        return switch (format) {
+            case FLOAT32 -> encodeFloat32(vector);
+            case FLOAT16 -> encodeFloat16(vector);
+            case INT8 -> encodeInt8(vector);
+        };
+    }
+
+    public static float[] decode(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_BYTES) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        EmbeddingStorageFormat format = EmbeddingStorageFormat.fromCode(buffer.get());
+        return switch (format) {
+            case FLOAT32 -> decodeFloat32(buffer);
+            case FLOAT16 -> decodeFloat16(buffer);
+            case INT8 -> decodeInt8(buffer);
+        };
+    }
+
+    private static byte[] encodeFloat32(float[] vector) {
+        ByteBuffer buffer = allocate(EmbeddingStorageFormat.FLOAT32, vector.length * Float.BYTES);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    private static float[] decodeFloat32(ByteBuffer buffer) {
+        float[] vector = new float[buffer.remaining() / Float.BYTES];
+        buffer.asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    private static byte[] encodeFloat16(float[] vector) {
+        ByteBuffer buffer = allocate(EmbeddingStorageFormat.FLOAT16, vector.length * Short.BYTES);
+        for (float value : vector) {
+            buffer.putShort(Float.floatToFloat16(value));
+        }
+        return buffer.array();
+    }
+
+    private static float[] decodeFloat16(ByteBuffer buffer) {
+        float[] vector = new float[buffer.remaining() / Short.BYTES];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = Float.float16ToFloat(buffer.getShort());
+        }
+        return vector;
+    }
+
+    private static byte[] encodeInt8(float[] vector) {
+        float maxAbs = 0f;
+        for (float value : vector) {
+            maxAbs = Math.max(maxAbs, Math.abs(value));
+        }
+        float scale = maxAbs == 0f ? 1f : maxAbs / Byte.MAX_VALUE;
+
+        ByteBuffer buffer = allocate(EmbeddingStorageFormat.INT8, Float.BYTES + vector.length);
+        buffer.putFloat(scale);
+        for (float value : vector) {
+            buffer.put((byte) Math.round(value / scale));
+        }
+        return buffer.array();
+    }
+
+    private static float[] decodeInt8(ByteBuffer buffer) {
+        float scale = buffer.getFloat();
+        float[] vector = new float[buffer.remaining()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = buffer.get() * scale;
+        }
+        return vector;
+    }
+
+    private static ByteBuffer allocate(EmbeddingStorageFormat format, int bodyBytes) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + bodyBytes).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(format.getCode());
+        return buffer;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ganzi.backend.global.embedding;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+
+@Converter
+public class EmbeddingVectorConverter implements AttributeConverter<float[], byte[]> {
+
+    // Hibernate가 Spring 빈 컨테이너로 생성하므로 주입되며, 그 외 환경에서는 FLOAT32를 사용
+    @Value("${embedding.storage.format:FLOAT32}")
+    private EmbeddingStorageFormat format;
+
+    @Override
+    public byte[] convertToDatabaseColumn(float[] vector) {
+        if (vector == null) {
+            return null;
+        }
+        return EmbeddingVectorCodec.encode(vector, format != null ? format : EmbeddingStorageFormat.FLOAT32);
+    }
+
+    @Override
+    public float[] convertToEntityAttribute(byte[] bytes) {
+        return EmbeddingVectorCodec.decode(bytes);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ganzi.backend.global.embedding;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 바이너리 컬럼을 우선 읽고, 아직 이관되지 않은 행은 기존 JSON 컬럼을 파싱합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmbeddingVectorReader {
+
+    private final ObjectMapper objectMapper;
+
+    public float[] read(float[] vector, String legacyJson) throws JsonProcessingException {
+        if (vector != null) {
+            return vector;
+        }
+        if (legacyJson == null) {
+            return null;
+        }
+        return objectMapper.readValue(legacyJson, new TypeReference<float[]>() {});
+    }
+}
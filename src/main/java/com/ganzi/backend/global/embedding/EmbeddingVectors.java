@@ -0,0 +1,28 @@
+package com.ganzi.backend.global.embedding;
+
+public final class EmbeddingVectors {
+
+    private EmbeddingVectors() {
+    }
+
+    public static double l2Norm(float[] vector) {
+        double sum = 0.0;
+        for (float v : vector) {
+            sum += v * v;
+        }
+        return Math.sqrt(sum);
+    }
+
+    /**
+     * 벡터를 단위 벡터로 정규화하고 정규화 전 L2 norm을 반환합니다. norm이 0이면 벡터를 변경하지 않습니다.
+     */
+    public static double normalizeInPlace(float[] vector) {
+        double norm = l2Norm(vector);
+        if (norm > 0) {
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] /= (float) norm;
+            }
+        }
+        return norm;
+    }
+}
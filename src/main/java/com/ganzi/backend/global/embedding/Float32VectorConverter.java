@@ -0,0 +1,25 @@
+package com.ganzi.backend.global.embedding;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * embedding.storage.format과 무관하게 항상 FLOAT32로 저장하는 변환기.
+ * 증분 갱신되는 누적 값처럼 양자화 오차가 쌓이면 안 되는 벡터에 사용합니다.
+ */
+@Converter
+public class Float32VectorConverter implements AttributeConverter<float[], byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(float[] vector) {
+        if (vector == null) {
+            return null;
+        }
+        return EmbeddingVectorCodec.encode(vector, EmbeddingStorageFormat.FLOAT32);
+    }
+
+    @Override
+    public float[] convertToEntityAttribute(byte[] bytes) {
+        return EmbeddingVectorCodec.decode(bytes);
+    }
+}
@@ -5,6 +5,7 @@ import com.ganzi.backend.animal.application.AnimalService;
 import com.ganzi.backend.global.code.dto.ApiResponse;
 import com.ganzi.backend.global.security.userdetails.CustomUserDetails;
 import com.ganzi.backend.recommendation.api.doc.RecommendationControllerDoc;
+import com.ganzi.backend.recommendation.api.dto.request.RecommendationFilterRequest;
 import com.ganzi.backend.recommendation.application.RecommendationService;
 import com.ganzi.backend.recommendation.application.RecommendationSummaryService;
 import com.ganzi.backend.recommendation.infrastructure.dto.RecommendationSummaryResponse;
@@ -12,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -30,14 +32,13 @@ public class RecommendationController implements RecommendationControllerDoc {
     @GetMapping
     public ResponseEntity<ApiResponse<List<AnimalDetailResponse>>> recommendAnimals(
             @AuthenticationPrincipal CustomUserDetails userDetails,
-            @RequestParam(value = "top", defaultValue = "8") Integer top
+            @RequestParam(value = "top", defaultValue = "8") Integer top,
+            @ModelAttribute RecommendationFilterRequest filter
     ) {
         Long userId = userDetails.getUser().getId();
 
-        List<String> desertionNos = recommendationService.recommend(userId, top);
-        List<AnimalDetailResponse> animals = desertionNos.stream()
-                .map(animalService::findAnimalById)
-                .toList();
+        List<String> desertionNos = recommendationService.recommend(userId, top, filter.toFilter());
+        List<AnimalDetailResponse> animals = animalService.findAnimalsByIds(desertionNos);
 
         return ResponseEntity.ok(ApiResponse.onSuccess(animals));
     }
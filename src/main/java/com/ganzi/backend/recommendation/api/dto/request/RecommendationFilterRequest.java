@@ -0,0 +1,26 @@
+package com.ganzi.backend.recommendation.api.dto.request;
+
+import com.ganzi.backend.animal.domain.AnimalType;
+import com.ganzi.backend.recommendation.application.index.AnimalFilter;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "추천 대상 필터")
+public record RecommendationFilterRequest(
+
+        @Schema(description = "시/도", example = "서울특별시")
+        String province,
+
+        @Schema(description = "시/군/구", example = "강남구")
+        String city,
+
+        @Schema(description = "축종", example = "DOG")
+        AnimalType animalType,
+
+        @Schema(description = "보호중인 동물만 추천 (기본값 true)", example = "true")
+        Boolean onlyProtecting
+) {
+
+    public AnimalFilter toFilter() {
+        return new AnimalFilter(province, city, animalType, !Boolean.FALSE.equals(onlyProtecting));
+    }
+}
@@ -0,0 +1,175 @@
+package com.ganzi.backend.recommendation.application;
+
+import com.ganzi.backend.animal.application.event.AnimalProtectionEndedEvent;
+import com.ganzi.backend.animal.application.event.AnimalSyncCompletedEvent;
+import com.ganzi.backend.animal.domain.AnimalType;
+import com.ganzi.backend.animal.domain.ProcessState;
+import com.ganzi.backend.animal.domain.repository.AnimalRepository;
+import com.ganzi.backend.animal.domain.repository.ProtectingAnimalRow;
+import com.ganzi.backend.recommendation.application.index.AnimalAttributes;
+import com.ganzi.backend.recommendation.application.index.AnimalFilter;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자 임베딩이 없는 사용자에게 보여 줄 보호 중인 동물 순위. 동기화가 끝날 때마다 다시 계산해 메모리에 둡니다.
+ * <p>
+ * 점수는 최근 발견(발견일부터 found-half-life-days마다 절반)과 공고 마감 임박(마감까지 notice-half-life-days마다 절반,
+ * 마감이 지났으면 최대)의 합이며, 지역/동물 종류 필터는 이 순위에서 조건에 맞는 동물만 고릅니다.
+ * 한 보호소나 한 동물 종류로 결과가 채워지지 않도록 max-per-shelter, max-animal-type-ratio 상한을 두고,
+ * 상한 때문에 부족하면 건너뛴 동물로 나머지를 채웁니다.
+ */
+@Slf4j
+@Component
+public class ColdStartRanking {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final AnimalRepository animalRepository;
+    private final double foundHalfLifeDays;
+    private final double noticeHalfLifeDays;
+    private final int maxPerShelter;
+    private final double maxAnimalTypeRatio;
+    // 마지막 계산 이후 보호 종료된 동물. 다음 계산 때 정리
+    private final Set<String> ended = ConcurrentHashMap.newKeySet();
+
+    private volatile List<Candidate> ranked;
+
+    public ColdStartRanking(
+            AnimalRepository animalRepository,
+            @Value("${recommendation.cold-start.found-half-life-days:7}") double foundHalfLifeDays,
+            @Value("${recommendation.cold-start.notice-half-life-days:3}") double noticeHalfLifeDays,
+            @Value("${recommendation.cold-start.max-per-shelter:2}") int maxPerShelter,
+            @Value("${recommendation.cold-start.max-animal-type-ratio:0.75}") double maxAnimalTypeRatio
+    ) {
+        this.animalRepository = animalRepository;
+        this.foundHalfLifeDays = foundHalfLifeDays;
+        this.noticeHalfLifeDays = noticeHalfLifeDays;
+        this.maxPerShelter = maxPerShelter;
+        this.maxAnimalTypeRatio = maxAnimalTypeRatio;
+    }
+
+    @Async("embeddingExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSyncCompleted(AnimalSyncCompletedEvent event) {
+        refresh();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProtectionEnded(AnimalProtectionEndedEvent event) {
+        ended.add(event.desertionNo());
+    }
+
+    public boolean isReady() {
+        return ranked != null;
+    }
+
+    public synchronized void refresh() {
+        long startedAt = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        List<Candidate> candidates = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        for (ProtectingAnimalRow row : animalRepository.findRowsByStatus(ProcessState.PROTECTING)) {
+            candidates.add(new Candidate(row.desertionNo(), row.shelterName(),
+                    new AnimalAttributes(row.animalType(), row.province(), row.city(), ProcessState.PROTECTING),
+                    score(row, today)));
+            ids.add(row.desertionNo());
+        }
+        candidates.sort(Comparator.comparingDouble(Candidate::score).reversed());
+        ranked = List.copyOf(candidates);
+        ended.retainAll(ids);
+        log.info("콜드 스타트 추천 순위 계산 완료 - size: {}, {}ms", candidates.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    public List<String> top(int top, AnimalFilter filter) {
+        List<Candidate> current = ranked;
+        if (current == null || top <= 0) {
+            return List.of();
+        }
+        int animalTypeCap = maxAnimalTypeRatio >= 1.0 ? Integer.MAX_VALUE : Math.max(1, (int) Math.ceil(top * maxAnimalTypeRatio));
+        int shelterCap = maxPerShelter > 0 ? maxPerShelter : Integer.MAX_VALUE;
+
+        List<String> result = new ArrayList<>(top);
+        List<Candidate> skipped = new ArrayList<>();
+        Map<String, Integer> perShelter = new HashMap<>();
+        Map<AnimalType, Integer> perAnimalType = new EnumMap<>(AnimalType.class);
+        for (Candidate candidate : current) {
+            if (result.size() == top) {
+                break;
+            }
+            if (ended.contains(candidate.desertionNo()) || !filter.matches(candidate.attributes())) {
+                continue;
+            }
+            AnimalType animalType = candidate.attributes().animalType();
+            if (perShelter.getOrDefault(candidate.shelterName(), 0) >= shelterCap
+                    || (animalType != null && perAnimalType.getOrDefault(animalType, 0) >= animalTypeCap)) {
+                if (skipped.size() < top) {
+                    skipped.add(candidate);
+                }
+                continue;
+            }
+            result.add(candidate.desertionNo());
+            perShelter.merge(candidate.shelterName(), 1, Integer::sum);
+            if (animalType != null) {
+                perAnimalType.merge(animalType, 1, Integer::sum);
+            }
+        }
+        for (int i = 0; i < skipped.size() && result.size() < top; i++) {
+            result.add(skipped.get(i).desertionNo());
+        }
+        return result;
+    }
+
+    private double score(ProtectingAnimalRow row, LocalDate today) {
+        double score = 0.0;
+        LocalDate foundDate = parse(row.foundDate());
+        if (foundDate != null) {
+            long daysSinceFound = Math.max(0, ChronoUnit.DAYS.between(foundDate, today));
+            score += Math.pow(0.5, daysSinceFound / foundHalfLifeDays);
+        }
+        LocalDate noticeEndDate = parse(row.noticeEndDate());
+        if (noticeEndDate != null) {
+            long daysUntilNoticeEnd = Math.max(0, ChronoUnit.DAYS.between(today, noticeEndDate));
+            score += Math.pow(0.5, daysUntilNoticeEnd / noticeHalfLifeDays);
+        }
+        return score;
+    }
+
+    private LocalDate parse(String date) {
+        if (date == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date, DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private record Candidate(String desertionNo, String shelterName, AnimalAttributes attributes, double score) {
+    }
+}
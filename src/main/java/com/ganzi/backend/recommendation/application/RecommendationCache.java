@@ -0,0 +1,121 @@
+package com.ganzi.backend.recommendation.application;
+
+import com.ganzi.backend.recommendation.application.index.AnimalFilter;
+import com.ganzi.backend.user.application.event.UserEmbeddingChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 추천 결과(desertionNo 목록) 캐시.
+ * <p>
+ * 항목은 계산 당시 임베딩 인덱스 스냅샷 version을 함께 보관하며, 동기화/임베딩 작업으로 version이 바뀌면
+ * 다음 조회에서 버려집니다. 사용자 임베딩이 바뀌면 이벤트로 해당 사용자 항목을 즉시 제거합니다.
+ * 크기는 바이트 추정치로 제한하고(W-TinyLFU), 적중/미스는 cache.gets{cache=recommendations} 메트릭으로 노출합니다.
+ */
+@Component
+public class RecommendationCache {
+
+    private static final int STRIPES = 1024;
+
+    private final boolean enabled;
+    private final Cache<Long, UserRecommendations> cache;
+    // 계산 도중 무효화된 결과를 저장하지 않기 위한 사용자 id 구간별 무효화 횟수
+    private final AtomicLongArray invalidations = new AtomicLongArray(STRIPES);
+
+    public RecommendationCache(
+            MeterRegistry meterRegistry,
+            @Value("${recommendation.cache.enabled:true}") boolean enabled,
+            @Value("${recommendation.cache.max-bytes:33554432}") long maxBytes,
+            @Value("${recommendation.cache.expire-after-write-minutes:60}") long expireAfterWriteMinutes
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long userId, UserRecommendations value) -> value.estimatedBytes())
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "recommendations");
+    }
+
+    public Optional<List<String>> get(Long userId, long indexVersion, int top, AnimalFilter filter) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        UserRecommendations entry = cache.getIfPresent(userId);
+        if (entry == null || entry.indexVersion() != indexVersion) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entry.results().get(new RequestKey(top, filter)));
+    }
+
+    /**
+     * 계산을 시작하기 전에 받아 두었다가 {@link #put}에 넘기는 값.
+     */
+    public long token(Long userId) {
+        return invalidations.get(stripe(userId));
+    }
+
+    public void put(Long userId, long token, long indexVersion, int top, AnimalFilter filter, List<String> desertionNos) {
+        if (!enabled) {
+            return;
+        }
+        RequestKey key = new RequestKey(top, filter);
+        List<String> value = List.copyOf(desertionNos);
+        cache.asMap().compute(userId, (id, current) -> {
+            if (invalidations.get(stripe(userId)) != token) {
+                return current;
+            }
+            Map<RequestKey, List<String>> results = new HashMap<>();
+            if (current != null && current.indexVersion() == indexVersion) {
+                results.putAll(current.results());
+            }
+            results.put(key, value);
+            return new UserRecommendations(indexVersion, Map.copyOf(results));
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserEmbeddingChanged(UserEmbeddingChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    public void invalidate(Long userId) {
+        invalidations.incrementAndGet(stripe(userId));
+        cache.invalidate(userId);
+    }
+
+    private int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) STRIPES);
+    }
+
+    private record RequestKey(int top, AnimalFilter filter) {
+    }
+
+    private record UserRecommendations(long indexVersion, Map<RequestKey, List<String>> results) {
+
+        // 대략적인 힙 사용량: 항목/맵 오버헤드 + 목록별 참조 + desertionNo 문자열(Latin-1)
+        int estimatedBytes() {
+            long bytes = 64;
+            for (List<String> desertionNos : results.values()) {
+                bytes += 96 + desertionNos.size() * 8L;
+                for (String desertionNo : desertionNos) {
+                    bytes += 40 + desertionNo.length();
+                }
+            }
+            return (int) Math.min(bytes, Integer.MAX_VALUE);
+        }
+    }
+}
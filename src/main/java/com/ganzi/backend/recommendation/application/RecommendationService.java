@@ -1,96 +1,97 @@
 package com.ganzi.backend.recommendation.application;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ganzi.backend.animal.domain.AnimalEmbedding;
-import com.ganzi.backend.animal.domain.repository.AnimalEmbeddingRepository;
+import com.ganzi.backend.global.embedding.EmbeddingVectorReader;
+import com.ganzi.backend.global.embedding.EmbeddingVectors;
+import com.ganzi.backend.recommendation.application.index.AnimalAnnIndex;
+import com.ganzi.backend.recommendation.application.index.AnimalEmbeddingIndex;
+import com.ganzi.backend.recommendation.application.index.AnimalFilter;
+import com.ganzi.backend.recommendation.application.scoring.RecommendationScoringEngine;
+import com.ganzi.backend.recommendation.application.scoring.TopKSelector;
 import com.ganzi.backend.user.domain.UserEmbedding;
 import com.ganzi.backend.user.domain.repository.UserEmbeddingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class RecommendationService {
 
     private final UserEmbeddingRepository userEmbeddingRepository;
-    private final AnimalEmbeddingRepository animalEmbeddingRepository;
-    private final ObjectMapper objectMapper;
+    private final AnimalEmbeddingIndex animalEmbeddingIndex;
+    private final AnimalAnnIndex animalAnnIndex;
+    private final EmbeddingVectorReader embeddingVectorReader;
+    private final RecommendationScoringEngine scoringEngine;
+    private final RecommendationCache recommendationCache;
+    private final ColdStartRanking coldStartRanking;
 
-    public List<String> recommend(Long userId, int top) {
-        Optional<UserEmbedding> optUserEmbedding = userEmbeddingRepository.findByUserId(userId);
-        float[] userVector = null;
-        if (optUserEmbedding.isPresent()) {
-            try {
-                userVector = objectMapper.readValue(
-                        optUserEmbedding.get().getEmbeddingJson(), new TypeReference<float[]>() {});
-            } catch (JsonProcessingException e) {
-                log.warn("user {} 임베딩 오류 : 역직렬화 실패", userId, e);
-            }
+    /**
+     * 캐시 적중 시에는 DB와 스코어링 없이 반환하므로 클래스 단위 트랜잭션을 두지 않습니다.
+     * 사용자 임베딩이 없으면 미리 계산해 둔 콜드 스타트 순위를 사용하며, 이 결과는 캐시하지 않습니다.
+     */
+    public List<String> recommend(Long userId, int top, AnimalFilter filter) {
+        AnimalEmbeddingIndex.Snapshot snapshot = animalEmbeddingIndex.snapshot();
+        Optional<List<String>> cached = recommendationCache.get(userId, snapshot.version(), top, filter);
+        if (cached.isPresent()) {
+            return cached.get();
         }
 
-        List<AnimalEmbedding> embeddings = animalEmbeddingRepository.findAll();
-
+        long token = recommendationCache.token(userId);
+        float[] userVector = readUserVector(userId);
         if (userVector == null || userVector.length == 0) {
-            return embeddings.stream()
-                    .map(AnimalEmbedding::getDesertionNo)
-                    .limit(top)
-                    .toList();
+            if (coldStartRanking.isReady()) {
+                return coldStartRanking.top(top, filter);
+            }
+            return snapshot.firstDesertionNos(top, snapshot.filter(filter));
         }
 
-        List<RecommendationScore> scores = calculateScores(userVector, embeddings);
-        scores.sort(Comparator.comparingDouble(RecommendationScore::score).reversed());
-
-        return scores.stream()
-                .limit(top)
-                .map(RecommendationScore::desertionNo)
-                .toList();
+        List<String> result = rank(userId, userVector, top, filter, snapshot);
+        recommendationCache.put(userId, token, snapshot.version(), top, filter, result);
+        return result;
     }
 
-    private List<RecommendationScore> calculateScores(float[] userVector, List<AnimalEmbedding> embeddings) {
-        List<RecommendationScore> scores = new ArrayList<>();
-
-        for (AnimalEmbedding emb : embeddings) {
-            try {
-                float[] animalVector = objectMapper.readValue(
-                        emb.getEmbeddingJson(), new TypeReference<float[]>() {});
-                if (animalVector.length != userVector.length) {
-                    continue;
-                }
-                double score = cosineSimilarity(userVector, animalVector);
-                scores.add(new RecommendationScore(emb.getDesertionNo(), score));
-            } catch (JsonProcessingException e) {
-                log.warn("animal {} 임베딩 오류 : Score 계산 실패", emb.getDesertionNo(), e);
-            }
+    private float[] readUserVector(Long userId) {
+        Optional<UserEmbedding> optUserEmbedding = userEmbeddingRepository.findByUserId(userId);
+        if (optUserEmbedding.isEmpty()) {
+            return null;
+        }
+        try {
+            UserEmbedding userEmbedding = optUserEmbedding.get();
+            return embeddingVectorReader.read(userEmbedding.getEmbedding(), userEmbedding.getEmbeddingJson());
+        } catch (JsonProcessingException e) {
+            log.warn("user {} 임베딩 오류 : 역직렬화 실패", userId, e);
+            return null;
         }
-
-        return scores;
     }
 
+    private List<String> rank(Long userId, float[] userVector, int top, AnimalFilter filter,
+                              AnimalEmbeddingIndex.Snapshot snapshot) {
+        if (userVector.length != snapshot.dimension()) {
+            log.warn("user {} 임베딩 차원 불일치 : user={}, animal={}", userId, userVector.length, snapshot.dimension());
+            return List.of();
+        }
 
-    private double cosineSimilarity(float[] a, float[] b) {
-        double dot = 0.0;
-        double normA = 0.0;
-        double normB = 0.0;
-        for (int i = 0; i < a.length; i++) {
-            dot += a[i] * b[i];
-            normA += a[i] * a[i];
-            normB += b[i] * b[i];
+        float[] unitUserVector = userVector.clone();
+        EmbeddingVectors.normalizeInPlace(unitUserVector);
+
+        Optional<List<String>> approximate = animalAnnIndex.search(unitUserVector, top, filter);
+        if (approximate.isPresent()) {
+            return approximate.get();
         }
-        if (normA == 0.0 || normB == 0.0) {
-            return 0.0;
+
+        TopKSelector selector = scoringEngine.topK(unitUserVector, snapshot, top, snapshot.filter(filter));
+
+        int[] rows = selector.sortedIds();
+        List<String> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(snapshot.desertionNo(row));
         }
-        return dot / (Math.sqrt(normA) * Math.sqrt(normB));
+        return result;
     }
-    private record RecommendationScore(String desertionNo, double score) {}
 }
@@ -6,6 +6,7 @@ import com.ganzi.backend.animal.domain.Animal;
 import com.ganzi.backend.animal.domain.repository.AnimalRepository;
 import com.ganzi.backend.global.code.status.ErrorStatus;
 import com.ganzi.backend.global.exception.GeneralException;
+import com.ganzi.backend.recommendation.application.scoring.TopKSelector;
 import com.ganzi.backend.recommendation.infrastructure.UserInterestPromptFactory;
 import com.ganzi.backend.recommendation.infrastructure.client.UpstageChatClient;
 import com.ganzi.backend.recommendation.infrastructure.dto.RecommendationSummaryResponse;
@@ -38,16 +39,22 @@ public class RecommendationSummaryService {
         }
 
         int topN = 10;
-        List<Map.Entry<String, Double>> topEntries = weightMap.entrySet().stream()
-                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
-                .limit(topN)
-                .toList();
+        String[] desertionNos = new String[weightMap.size()];
+        double[] weights = new double[weightMap.size()];
+        TopKSelector selector = new TopKSelector(Math.min(topN, weightMap.size()));
+        int index = 0;
+        for (Map.Entry<String, Double> e : weightMap.entrySet()) {
+            desertionNos[index] = e.getKey();
+            weights[index] = e.getValue();
+            selector.offer(index, weights[index]);
+            index++;
+        }
 
         List<WeightedAnimal> items = new ArrayList<>();
 
-        for (Map.Entry<String, Double> e : topEntries) {
-            String desertionNo = e.getKey();
-            double weight = e.getValue();
+        for (int i : selector.sortedIds()) {
+            String desertionNo = desertionNos[i];
+            double weight = weights[i];
 
             Animal animal = animalRepository.findByDesertionNo(desertionNo)
                     .orElse(null);
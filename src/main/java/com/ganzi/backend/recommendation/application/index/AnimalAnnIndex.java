@@ -0,0 +1,265 @@
+package com.ganzi.backend.recommendation.application.index;
+
+import com.ganzi.backend.animal.application.event.AnimalEmbeddingUpdatedEvent;
+import com.ganzi.backend.animal.application.event.AnimalProtectionEndedEvent;
+import com.ganzi.backend.animal.domain.ProcessState;
+import com.ganzi.backend.recommendation.application.scoring.DotProductKernel;
+import com.ganzi.backend.recommendation.application.scoring.DotProductKernels;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * {@link AnimalEmbeddingIndex} 중 보호 중인 동물만 HNSW 그래프로 유지하는 근사 최근접 이웃 인덱스.
+ * <p>
+ * 기동 시 로컬 파일에서 그래프를 읽어 스냅샷과의 차이만 반영하고, 파일이 없으면 스냅샷 전체로 새로 구성합니다.
+ * 이후에는 임베딩 저장/보호 종료 이벤트로 증분 반영하며, 주기적으로 스냅샷과 대조한 뒤 파일로 저장합니다.
+ * 구성이 끝나기 전이나 카탈로그가 min-size보다 작을 때, 보호 여부 외의 필터가 있을 때는
+ * {@link #search}가 비어 있어 전수 스코어링을 사용합니다.
+ */
+@Slf4j
+@Component
+public class AnimalAnnIndex {
+
+    private final AnimalEmbeddingIndex embeddingIndex;
+    private final DotProductKernel kernel;
+    private final boolean enabled;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final int minSize;
+    private final double maxDeletedRatio;
+    private final Path indexPath;
+    private final Object rebuildLock = new Object();
+    private final Object persistLock = new Object();
+
+    private volatile HnswIndex graph;
+    // 구성 중인 그래프. 구성하는 동안 들어온 이벤트도 함께 반영한다
+    private volatile HnswIndex building;
+    private volatile boolean dirty;
+
+    public AnimalAnnIndex(
+            AnimalEmbeddingIndex embeddingIndex,
+            @Value("${recommendation.scoring.simd-enabled:true}") boolean simdEnabled,
+            @Value("${recommendation.ann.enabled:false}") boolean enabled,
+            @Value("${recommendation.ann.m:16}") int m,
+            @Value("${recommendation.ann.ef-construction:200}") int efConstruction,
+            @Value("${recommendation.ann.ef-search:100}") int efSearch,
+            @Value("${recommendation.ann.min-size:20000}") int minSize,
+            @Value("${recommendation.ann.max-deleted-ratio:0.3}") double maxDeletedRatio,
+            @Value("${recommendation.ann.index-path:./data/animal-hnsw.idx}") String indexPath
+    ) {
+        this.embeddingIndex = embeddingIndex;
+        this.kernel = simdEnabled ? DotProductKernels.best() : DotProductKernels.scalar();
+        this.enabled = enabled;
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.minSize = minSize;
+        this.maxDeletedRatio = maxDeletedRatio;
+        this.indexPath = Path.of(indexPath);
+    }
+
+    /**
+     * 그래프가 준비되어 있고 카탈로그가 충분히 크면 근사 검색 결과(desertionNo, 유사도 내림차순)를 반환합니다.
+     */
+    public Optional<List<String>> search(float[] unitQuery, int top, AnimalFilter filter) {
+        HnswIndex current = graph;
+        if (current == null || !filter.isProtectingOnly() || current.size() < minSize || current.dimension() != unitQuery.length) {
+            return Optional.empty();
+        }
+        return Optional.of(current.search(unitQuery, top, Math.max(efSearch, top)));
+    }
+
+    @Async("embeddingExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        HnswIndex loaded = load();
+        if (loaded != null) {
+            startBuilding(loaded);
+            int changed = reconcile(loaded, embeddingIndex.snapshot());
+            publish(loaded);
+            dirty = changed > 0;
+            log.info("ANN 인덱스 파일 로드 완료 - size: {}, 스냅샷 대비 변경: {}건", loaded.size(), changed);
+            return;
+        }
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmbeddingUpdated(AnimalEmbeddingUpdatedEvent event) {
+        if (event.status() != ProcessState.PROTECTING) {
+            apply(index -> index.remove(event.desertionNo()), -1);
+            return;
+        }
+        apply(index -> index.add(event.desertionNo(), event.vector()), event.vector().length);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProtectionEnded(AnimalProtectionEndedEvent event) {
+        apply(index -> index.remove(event.desertionNo()), -1);
+    }
+
+    /**
+     * 스냅샷과 대조해 빠진 변경을 반영하고, 삭제 비율이 높으면 다시 구성한 뒤 파일로 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${recommendation.ann.persist-interval-ms:300000}",
+            initialDelayString = "${recommendation.ann.persist-interval-ms:300000}")
+    public void maintain() {
+        HnswIndex current = graph;
+        if (!enabled || current == null) {
+            return;
+        }
+        if (current.deletedRatio() > maxDeletedRatio) {
+            log.info("ANN 인덱스 삭제 비율 {} 초과로 재구성합니다", maxDeletedRatio);
+            rebuild();
+            return;
+        }
+        if (reconcile(current, embeddingIndex.snapshot()) > 0) {
+            dirty = true;
+        }
+        persist();
+    }
+
+    @PreDestroy
+    public void onShutdown() {
+        if (enabled) {
+            persist();
+        }
+    }
+
+    /**
+     * 현재 스냅샷으로 그래프를 새로 구성합니다. 구성하는 동안에는 기존 그래프로 계속 검색합니다.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            AnimalEmbeddingIndex.Snapshot snapshot = embeddingIndex.snapshot();
+            if (snapshot.isEmpty()) {
+                log.info("임베딩 스냅샷이 비어 있어 ANN 인덱스 구성을 건너뜁니다");
+                return;
+            }
+            long startedAt = System.currentTimeMillis();
+            HnswIndex fresh = new HnswIndex(kernel, snapshot.dimension(), m, efConstruction);
+            startBuilding(fresh);
+
+            int dimension = snapshot.dimension();
+            for (int row = 0; row < snapshot.size(); row++) {
+                if (!snapshot.attributes(row).isProtecting()) {
+                    continue;
+                }
+                int offset = (row % AnimalEmbeddingIndex.BLOCK_ROWS) * dimension;
+                float[] block = snapshot.block(row / AnimalEmbeddingIndex.BLOCK_ROWS);
+                fresh.addIfAbsent(snapshot.desertionNo(row), Arrays.copyOfRange(block, offset, offset + dimension));
+            }
+            // 구성 중 보호 종료된 동물은 시작 시점 스냅샷에 남아 있으므로 최신 스냅샷으로 다시 맞춘다
+            reconcile(fresh, embeddingIndex.snapshot());
+            publish(fresh);
+            dirty = true;
+            persist();
+            log.info("ANN 인덱스 구성 완료 - size: {}, {}ms", fresh.size(), System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private synchronized void startBuilding(HnswIndex index) {
+        building = index;
+    }
+
+    private synchronized void publish(HnswIndex index) {
+        graph = index;
+        building = null;
+    }
+
+    private synchronized void apply(Consumer<HnswIndex> change, int dimension) {
+        if (!enabled) {
+            return;
+        }
+        for (HnswIndex index : new HnswIndex[]{graph, building}) {
+            if (index != null && (dimension < 0 || index.dimension() == dimension)) {
+                change.accept(index);
+            }
+        }
+        dirty = true;
+    }
+
+    /**
+     * 그래프를 스냅샷의 보호 중인 동물 집합/벡터로 맞추고 변경 건수를 반환합니다.
+     */
+    private int reconcile(HnswIndex index, AnimalEmbeddingIndex.Snapshot snapshot) {
+        if (snapshot.dimension() != 0 && snapshot.dimension() != index.dimension()) {
+            log.warn("ANN 인덱스 차원 불일치 : index={}, snapshot={}", index.dimension(), snapshot.dimension());
+            return 0;
+        }
+        int changed = 0;
+        int dimension = index.dimension();
+        for (int row = 0; row < snapshot.size(); row++) {
+            if (!snapshot.attributes(row).isProtecting()) {
+                continue;
+            }
+            String desertionNo = snapshot.desertionNo(row);
+            int offset = (row % AnimalEmbeddingIndex.BLOCK_ROWS) * dimension;
+            float[] block = snapshot.block(row / AnimalEmbeddingIndex.BLOCK_ROWS);
+            float[] indexed = index.vectorOf(desertionNo);
+            if (indexed == null || !Arrays.equals(indexed, 0, dimension, block, offset, offset + dimension)) {
+                index.add(desertionNo, Arrays.copyOfRange(block, offset, offset + dimension));
+                changed++;
+            }
+        }
+        for (String desertionNo : index.liveIds()) {
+            int row = snapshot.rowOf(desertionNo);
+            if ((row < 0 || !snapshot.attributes(row).isProtecting()) && index.remove(desertionNo)) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    private HnswIndex load() {
+        if (!Files.exists(indexPath)) {
+            return null;
+        }
+        try {
+            HnswIndex loaded = HnswIndex.load(indexPath, kernel);
+            if (loaded.deletedRatio() > maxDeletedRatio) {
+                log.info("ANN 인덱스 파일의 삭제 비율이 높아 새로 구성합니다");
+                return null;
+            }
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            log.warn("ANN 인덱스 파일 로드 실패로 새로 구성합니다. path={}", indexPath, e);
+            return null;
+        }
+    }
+
+    private void persist() {
+        synchronized (persistLock) {
+            HnswIndex current = graph;
+            if (current == null || !dirty) {
+                return;
+            }
+            try {
+                dirty = false;
+                current.save(indexPath);
+            } catch (IOException e) {
+                dirty = true;
+                log.warn("ANN 인덱스 파일 저장 실패. path={}", indexPath, e);
+            }
+        }
+    }
+}
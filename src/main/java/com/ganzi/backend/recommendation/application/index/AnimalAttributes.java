@@ -0,0 +1,23 @@
+package com.ganzi.backend.recommendation.application.index;
+
+import com.ganzi.backend.animal.domain.AnimalType;
+import com.ganzi.backend.animal.domain.ProcessState;
+
+/**
+ * 추천 필터 평가에 필요한 동물 속성. 인덱스의 각 행과 함께 보관됩니다.
+ */
+public record AnimalAttributes(
+        AnimalType animalType,
+        String province,
+        String city,
+        ProcessState status
+) {
+
+    public boolean isProtecting() {
+        return status == ProcessState.PROTECTING;
+    }
+
+    public AnimalAttributes withStatus(ProcessState newStatus) {
+        return new AnimalAttributes(animalType, province, city, newStatus);
+    }
+}
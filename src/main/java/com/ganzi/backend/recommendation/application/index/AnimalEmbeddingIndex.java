@@ -0,0 +1,326 @@
+package com.ganzi.backend.recommendation.application.index;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ganzi.backend.animal.application.event.AnimalAttributesChangedEvent;
+import com.ganzi.backend.animal.application.event.AnimalAttributesChangedEvent.ChangedAnimal;
+import com.ganzi.backend.animal.application.event.AnimalEmbeddingUpdatedEvent;
+import com.ganzi.backend.animal.application.event.AnimalProtectionEndedEvent;
+import com.ganzi.backend.animal.domain.Animal;
+import com.ganzi.backend.animal.domain.AnimalEmbedding;
+import com.ganzi.backend.animal.domain.ProcessState;
+import com.ganzi.backend.animal.domain.repository.AnimalEmbeddingRepository;
+import com.ganzi.backend.global.embedding.EmbeddingVectorReader;
+import com.ganzi.backend.global.embedding.EmbeddingVectors;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 동물 임베딩을 메모리에 상주시키는 인덱스. 모든 벡터는 L2 정규화된 단위 벡터로 보관되며,
+ * 추천 필터에 쓰이는 {@link AnimalAttributes}를 행마다 함께 보관합니다.
+ * <p>
+ * 벡터는 {@link #BLOCK_ROWS}행 단위의 연속된 float[] 블록(row-major)에 저장되며,
+ * 읽기는 항상 불변 {@link Snapshot}을 통해 잠금 없이 수행됩니다.
+ * 쓰기는 단일 writer(synchronized)가 변경된 블록만 복사한 뒤 새 스냅샷을 발행합니다(copy-on-write).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnimalEmbeddingIndex {
+
+    public static final int BLOCK_ROWS = 128;
+    private static final int LOAD_PAGE_SIZE = 500;
+
+    private final AnimalEmbeddingRepository animalEmbeddingRepository;
+    private final EmbeddingVectorReader embeddingVectorReader;
+
+    private volatile Snapshot snapshot = Snapshot.empty();
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    // ANN 인덱스가 이 스냅샷을 기준으로 동기화하므로 가장 먼저 구성
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmbeddingUpdated(AnimalEmbeddingUpdatedEvent event) {
+        upsert(event.desertionNo(), event.vector(),
+                new AnimalAttributes(event.animalType(), event.province(), event.city(), event.status()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAttributesChanged(AnimalAttributesChangedEvent event) {
+        Map<String, AnimalAttributes> changed = new HashMap<>();
+        for (ChangedAnimal animal : event.animals()) {
+            changed.put(animal.desertionNo(),
+                    new AnimalAttributes(animal.animalType(), animal.province(), animal.city(), animal.status()));
+        }
+        updateAttributes(changed);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProtectionEnded(AnimalProtectionEndedEvent event) {
+        updateStatus(event.desertionNo(), event.status());
+    }
+
+    /**
+     * DB의 모든 임베딩으로 인덱스를 새로 구성합니다. 구성하는 동안 기존 스냅샷은 계속 읽을 수 있습니다.
+     */
+    public synchronized void rebuild() {
+        Snapshot previous = snapshot;
+        Snapshot building = Snapshot.empty();
+
+        int pageNo = 0;
+        Slice<AnimalEmbedding> page;
+        do {
+            page = animalEmbeddingRepository.findAllWithAnimal(
+                    PageRequest.of(pageNo++, LOAD_PAGE_SIZE, Sort.by("desertionNo")));
+            for (AnimalEmbedding embedding : page) {
+                float[] vector = decode(embedding);
+                if (vector != null && building.accepts(vector)) {
+                    building = building.withRow(embedding.getDesertionNo(), vector, attributesOf(embedding.getAnimal()));
+                }
+            }
+        } while (page.hasNext());
+
+        snapshot = building.withVersion(previous.version() + 1);
+        log.info("동물 임베딩 인덱스 구성 완료 - size: {}, dimension: {}", snapshot.size(), snapshot.dimension());
+    }
+
+    public synchronized void upsert(String desertionNo, float[] vector, AnimalAttributes attributes) {
+        Snapshot current = snapshot;
+        if (!current.accepts(vector)) {
+            log.warn("임베딩 차원 불일치로 인덱스 반영을 건너뜁니다. desertionNo={}, expected={}, actual={}",
+                    desertionNo, current.dimension(), vector.length);
+            return;
+        }
+        snapshot = current.withRow(desertionNo, vector, attributes).withVersion(current.version() + 1);
+    }
+
+    public synchronized void updateStatus(String desertionNo, ProcessState status) {
+        Snapshot current = snapshot;
+        int row = current.rowOf(desertionNo);
+        if (row < 0) {
+            return;
+        }
+        AnimalAttributes attributes = current.attributes(row).withStatus(status);
+        snapshot = current.withAttributes(row, attributes).withVersion(current.version() + 1);
+    }
+
+    /**
+     * 인덱스에 있는 동물의 속성을 한 번에 갱신합니다. 실제로 바뀐 행이 있을 때만 버전을 올립니다.
+     */
+    public synchronized void updateAttributes(Map<String, AnimalAttributes> attributesByDesertionNo) {
+        Snapshot current = snapshot;
+        Snapshot updated = current;
+        for (Map.Entry<String, AnimalAttributes> entry : attributesByDesertionNo.entrySet()) {
+            int row = updated.rowOf(entry.getKey());
+            if (row >= 0 && !entry.getValue().equals(updated.attributes(row))) {
+                updated = updated.withAttributes(row, entry.getValue());
+            }
+        }
+        if (updated != current) {
+            snapshot = updated.withVersion(current.version() + 1);
+        }
+    }
+
+    private AnimalAttributes attributesOf(Animal animal) {
+        return new AnimalAttributes(animal.getAnimalType(), animal.getProvince(), animal.getCity(), animal.getStatus());
+    }
+
+    private float[] decode(AnimalEmbedding embedding) {
+        try {
+            float[] vector = embeddingVectorReader.read(embedding.getEmbedding(), embedding.getEmbeddingJson());
+            if (vector != null && !embedding.isNormalized()) {
+                vector = vector.clone();
+                EmbeddingVectors.normalizeInPlace(vector);
+            }
+            return vector;
+        } catch (JsonProcessingException e) {
+            log.warn("animal {} 임베딩 오류 : 인덱스 적재 실패", embedding.getDesertionNo(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 특정 시점의 인덱스 상태. 발행된 이후에는 읽기 전용입니다.
+     * <p>
+     * 신규 행은 아직 어떤 스냅샷에도 노출되지 않은 슬롯에만 기록되므로 블록을 공유해도 안전하며,
+     * 기존 행을 덮어쓸 때는 해당 블록을 복사합니다.
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final int dimension;
+        private final int size;
+        private final float[][] blocks;
+        private final String[][] idBlocks;
+        private final AnimalAttributes[][] attributeBlocks;
+        private final Map<String, Integer> rows;
+
+        private Snapshot(long version, int dimension, int size, float[][] blocks, String[][] idBlocks,
+                         AnimalAttributes[][] attributeBlocks, Map<String, Integer> rows) {
+            this.version = version;
+            this.dimension = dimension;
+            this.size = size;
+            this.blocks = blocks;
+            this.idBlocks = idBlocks;
+            this.attributeBlocks = attributeBlocks;
+            this.rows = rows;
+        }
+
+        static Snapshot empty() {
+            return new Snapshot(0L, 0, 0, new float[0][], new String[0][], new AnimalAttributes[0][],
+                    new ConcurrentHashMap<>());
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public int dimension() {
+            return dimension;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public boolean accepts(float[] vector) {
+            return dimension == 0 || dimension == vector.length;
+        }
+
+        public int blockCount() {
+            return (size + BLOCK_ROWS - 1) / BLOCK_ROWS;
+        }
+
+        /**
+         * block 번째 블록의 벡터 배열. 행 r의 벡터는 {@code (r % BLOCK_ROWS) * dimension}부터 시작합니다.
+         */
+        public float[] block(int block) {
+            return blocks[block];
+        }
+
+        public int rowsInBlock(int block) {
+            return Math.min(BLOCK_ROWS, size - block * BLOCK_ROWS);
+        }
+
+        public String desertionNo(int row) {
+            return idBlocks[row / BLOCK_ROWS][row % BLOCK_ROWS];
+        }
+
+        public AnimalAttributes attributes(int row) {
+            return attributeBlocks[row / BLOCK_ROWS][row % BLOCK_ROWS];
+        }
+
+        public int rowOf(String desertionNo) {
+            Integer row = rows.get(desertionNo);
+            if (row == null || row >= size || !desertionNo.equals(desertionNo(row))) {
+                return -1;
+            }
+            return row;
+        }
+
+        /**
+         * 필터를 통과하는 행의 비트맵. 조건이 없으면 null을 반환하며, 이때는 모든 행이 대상입니다.
+         */
+        public BitSet filter(AnimalFilter filter) {
+            if (filter == null || filter.isEmpty()) {
+                return null;
+            }
+            BitSet allowed = new BitSet(size);
+            for (int row = 0; row < size; row++) {
+                if (filter.matches(attributes(row))) {
+                    allowed.set(row);
+                }
+            }
+            return allowed;
+        }
+
+        public List<String> firstDesertionNos(int limit, BitSet allowed) {
+            List<String> result = new ArrayList<>(Math.min(limit, size));
+            for (int row = 0; row < size && result.size() < limit; row++) {
+                if (allowed == null || allowed.get(row)) {
+                    result.add(desertionNo(row));
+                }
+            }
+            return result;
+        }
+
+        Snapshot withVersion(long newVersion) {
+            return new Snapshot(newVersion, dimension, size, blocks, idBlocks, attributeBlocks, rows);
+        }
+
+        Snapshot withRow(String desertionNo, float[] vector, AnimalAttributes attributes) {
+            int dim = dimension == 0 ? vector.length : dimension;
+            int existing = rowOf(desertionNo);
+            if (existing >= 0) {
+                return replaceRow(existing, vector, attributes);
+            }
+            return appendRow(desertionNo, vector, attributes, dim);
+        }
+
+        Snapshot withAttributes(int row, AnimalAttributes attributes) {
+            int block = row / BLOCK_ROWS;
+            AnimalAttributes[][] newAttributeBlocks = attributeBlocks.clone();
+            newAttributeBlocks[block] = attributeBlocks[block].clone();
+            newAttributeBlocks[block][row % BLOCK_ROWS] = attributes;
+            return new Snapshot(version, dimension, size, blocks, idBlocks, newAttributeBlocks, rows);
+        }
+
+        private Snapshot replaceRow(int row, float[] vector, AnimalAttributes attributes) {
+            int block = row / BLOCK_ROWS;
+            float[][] newBlocks = blocks.clone();
+            newBlocks[block] = blocks[block].clone();
+            System.arraycopy(vector, 0, newBlocks[block], (row % BLOCK_ROWS) * dimension, dimension);
+            return new Snapshot(version, dimension, size, newBlocks, idBlocks, attributeBlocks, rows)
+                    .withAttributes(row, attributes);
+        }
+
+        private Snapshot appendRow(String desertionNo, float[] vector, AnimalAttributes attributes, int dim) {
+            int row = size;
+            int block = row / BLOCK_ROWS;
+            float[][] newBlocks = blocks;
+            String[][] newIdBlocks = idBlocks;
+            AnimalAttributes[][] newAttributeBlocks = attributeBlocks;
+            if (block == blocks.length) {
+                newBlocks = Arrays.copyOf(blocks, block + 1);
+                newIdBlocks = Arrays.copyOf(idBlocks, block + 1);
+                newAttributeBlocks = Arrays.copyOf(attributeBlocks, block + 1);
+                newBlocks[block] = new float[BLOCK_ROWS * dim];
+                newIdBlocks[block] = new String[BLOCK_ROWS];
+                newAttributeBlocks[block] = new AnimalAttributes[BLOCK_ROWS];
+            }
+            System.arraycopy(vector, 0, newBlocks[block], (row % BLOCK_ROWS) * dim, dim);
+            newIdBlocks[block][row % BLOCK_ROWS] = desertionNo;
+            newAttributeBlocks[block][row % BLOCK_ROWS] = attributes;
+            rows.put(desertionNo, row);
+            return new Snapshot(version, dim, size + 1, newBlocks, newIdBlocks, newAttributeBlocks, rows);
+        }
+    }
+}
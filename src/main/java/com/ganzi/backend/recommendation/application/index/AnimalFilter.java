@@ -0,0 +1,34 @@
+package com.ganzi.backend.recommendation.application.index;
+
+import com.ganzi.backend.animal.domain.AnimalType;
+
+/**
+ * 추천 대상 필터. null인 조건은 적용하지 않습니다.
+ */
+public record AnimalFilter(
+        String province,
+        String city,
+        AnimalType animalType,
+        boolean onlyProtecting
+) {
+
+    public static final AnimalFilter PROTECTING_ONLY = new AnimalFilter(null, null, null, true);
+
+    /**
+     * 보호 여부 외의 조건이 없는지 여부. ANN 인덱스는 보호 중인 동물 전체만 담고 있어 이 경우에만 사용할 수 있습니다.
+     */
+    public boolean isProtectingOnly() {
+        return onlyProtecting && province == null && city == null && animalType == null;
+    }
+
+    public boolean isEmpty() {
+        return !onlyProtecting && province == null && city == null && animalType == null;
+    }
+
+    public boolean matches(AnimalAttributes attributes) {
+        return (!onlyProtecting || attributes.isProtecting())
+                && (province == null || province.equals(attributes.province()))
+                && (city == null || city.equals(attributes.city()))
+                && (animalType == null || animalType == attributes.animalType());
+    }
+}
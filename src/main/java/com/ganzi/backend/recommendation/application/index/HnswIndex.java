@@ -0,0 +1,487 @@
+package com.ganzi.backend.recommendation.application.index;
+
+import com.ganzi.backend.recommendation.application.scoring.DotProductKernel;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 그래프.
+ * 모든 벡터는 단위 벡터여야 하며 유사도는 내적(= 코사인 유사도)입니다.
+ * <p>
+ * 검색은 읽기 잠금, 삽입/삭제는 쓰기 잠금으로 보호됩니다.
+ * 삭제는 tombstone 방식이라 삭제된 노드도 탐색 경로로는 계속 쓰이지만 결과에서는 제외되며,
+ * {@link #deletedRatio()}가 커지면 호출자가 그래프를 새로 구성해야 합니다.
+ */
+public class HnswIndex {
+
+    private static final int FILE_MAGIC = 0x484E5357; // "HNSW"
+    private static final int FILE_VERSION = 1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_LEVEL = 16;
+    private static final int[] NO_LINKS = new int[0];
+
+    private static final Comparator<Candidate> BEST_FIRST =
+            Comparator.comparingDouble(Candidate::similarity).reversed();
+    private static final Comparator<Candidate> WORST_FIRST =
+            Comparator.comparingDouble(Candidate::similarity);
+
+    private final DotProductKernel kernel;
+    private final int dimension;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> nodeOf = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private float[][] vectors = new float[INITIAL_CAPACITY][];
+    private String[] ids = new String[INITIAL_CAPACITY];
+    // node -> level -> 이웃 노드 번호
+    private int[][][] links = new int[INITIAL_CAPACITY][][];
+    private int count;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    public HnswIndex(DotProductKernel kernel, int dimension, int m, int efConstruction) {
+        if (dimension <= 0 || m < 2 || efConstruction < m) {
+            throw new IllegalArgumentException(
+                    "invalid hnsw parameters: dimension=" + dimension + ", m=" + m + ", efConstruction=" + efConstruction);
+        }
+        this.kernel = kernel;
+        this.dimension = dimension;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1.0 / Math.log(m);
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * 검색 결과에 포함될 수 있는(삭제되지 않은) 노드 수.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeOf.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return count == 0 ? 0.0 : (double) (count - nodeOf.size()) / count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(String id) {
+        lock.readLock().lock();
+        try {
+            return nodeOf.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * id에 연결된 벡터. 반환된 배열은 그래프 내부 상태이므로 수정하면 안 됩니다.
+     */
+    public float[] vectorOf(String id) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeOf.get(id);
+            return node == null ? null : vectors[node];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<String> liveIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(nodeOf.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 벡터를 추가합니다. 같은 id가 이미 있으면 기존 노드를 삭제 처리한 뒤 새 노드로 추가합니다.
+     */
+    public void add(String id, float[] unitVector) {
+        lock.writeLock().lock();
+        try {
+            insert(id, unitVector);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * id가 없을 때만 추가합니다. 이벤트로 먼저 반영된 최신 벡터를 오래된 스냅샷 값으로 덮어쓰지 않기 위해 사용합니다.
+     */
+    public boolean addIfAbsent(String id, float[] unitVector) {
+        lock.writeLock().lock();
+        try {
+            if (nodeOf.containsKey(id)) {
+                return false;
+            }
+            insert(id, unitVector);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Integer node = nodeOf.remove(id);
+            if (node == null) {
+                return false;
+            }
+            deleted.set(node);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 벡터와 내적이 큰 순서로 최대 k개의 id를 반환합니다. ef가 클수록 정확하지만 느려집니다.
+     */
+    public List<String> search(float[] unitQuery, int k, int ef) {
+        if (unitQuery.length != dimension) {
+            throw new IllegalArgumentException("dimension mismatch: expected=" + dimension + ", actual=" + unitQuery.length);
+        }
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k <= 0) {
+                return List.of();
+            }
+            int ep = entryPoint;
+            for (int level = maxLevel; level > 0; level--) {
+                ep = greedyClosest(unitQuery, ep, level);
+            }
+            List<Candidate> candidates = searchLayer(unitQuery, ep, Math.max(ef, k), 0);
+            List<String> result = new ArrayList<>(Math.min(k, candidates.size()));
+            for (Candidate candidate : candidates) {
+                if (result.size() == k) {
+                    break;
+                }
+                if (!deleted.get(candidate.node())) {
+                    result.add(ids[candidate.node()]);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(String id, float[] unitVector) {
+        if (unitVector.length != dimension) {
+            throw new IllegalArgumentException("dimension mismatch: expected=" + dimension + ", actual=" + unitVector.length);
+        }
+        Integer previous = nodeOf.remove(id);
+        if (previous != null) {
+            deleted.set(previous);
+        }
+
+        int node = count;
+        ensureCapacity(node + 1);
+        int level = randomLevel();
+        vectors[node] = unitVector.clone();
+        ids[node] = id;
+        links[node] = new int[level + 1][];
+        Arrays.fill(links[node], NO_LINKS);
+        count++;
+        nodeOf.put(id, node);
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        float[] query = vectors[node];
+        int ep = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            ep = greedyClosest(query, ep, l);
+        }
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Candidate> candidates = searchLayer(query, ep, efConstruction, l);
+            int[] neighbors = selectNeighbors(candidates, m);
+            links[node][l] = neighbors;
+            for (int neighbor : neighbors) {
+                connect(neighbor, node, l);
+            }
+            ep = candidates.getFirst().node();
+        }
+
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    private int randomLevel() {
+        double uniform = 1.0 - random.nextDouble();
+        return Math.min(MAX_LEVEL, (int) (-Math.log(uniform) * levelMultiplier));
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= vectors.length) {
+            return;
+        }
+        int capacity = Math.max(required, vectors.length * 2);
+        vectors = Arrays.copyOf(vectors, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        links = Arrays.copyOf(links, capacity);
+    }
+
+    private void connect(int from, int to, int level) {
+        int maxConnections = level == 0 ? maxM0 : m;
+        int[] current = links[from][level];
+        if (current.length < maxConnections) {
+            int[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = to;
+            links[from][level] = grown;
+            return;
+        }
+
+        // 이웃이 가득 차면 기존 이웃 + 신규 노드 중에서 다시 고른다
+        float[] base = vectors[from];
+        List<Candidate> candidates = new ArrayList<>(current.length + 1);
+        for (int neighbor : current) {
+            candidates.add(new Candidate(neighbor, similarity(base, neighbor)));
+        }
+        candidates.add(new Candidate(to, similarity(base, to)));
+        candidates.sort(BEST_FIRST);
+        links[from][level] = selectNeighbors(candidates, maxConnections);
+    }
+
+    /**
+     * 논문(Malkov & Yashunin)의 이웃 선택 휴리스틱. 이미 고른 이웃보다 기준점에 더 가까운 후보만 남겨
+     * 한쪽 방향으로 몰리지 않게 하고, 모자라면 버린 후보로 채웁니다. candidates는 유사도 내림차순이어야 합니다.
+     */
+    private int[] selectNeighbors(List<Candidate> candidates, int max) {
+        List<Candidate> selected = new ArrayList<>(max);
+        List<Candidate> pruned = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (selected.size() == max) {
+                break;
+            }
+            boolean diverse = true;
+            float[] vector = vectors[candidate.node()];
+            for (Candidate chosen : selected) {
+                if (similarity(vector, chosen.node()) > candidate.similarity()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                pruned.add(candidate);
+            }
+        }
+        for (int i = 0; i < pruned.size() && selected.size() < max; i++) {
+            selected.add(pruned.get(i));
+        }
+
+        int[] result = new int[selected.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = selected.get(i).node();
+        }
+        return result;
+    }
+
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float best = similarity(query, current);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int neighbor : links[current][level]) {
+                float score = similarity(query, neighbor);
+                if (score > best) {
+                    best = score;
+                    current = neighbor;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 레벨 안에서 ef개의 후보를 유지하며 탐색합니다. 결과는 유사도 내림차순입니다.
+     */
+    private List<Candidate> searchLayer(float[] query, int entry, int ef, int level) {
+        BitSet visited = new BitSet(count);
+        PriorityQueue<Candidate> frontier = new PriorityQueue<>(BEST_FIRST);
+        PriorityQueue<Candidate> found = new PriorityQueue<>(WORST_FIRST);
+
+        Candidate start = new Candidate(entry, similarity(query, entry));
+        visited.set(entry);
+        frontier.add(start);
+        found.add(start);
+
+        while (!frontier.isEmpty()) {
+            Candidate current = frontier.poll();
+            if (found.size() >= ef && current.similarity() < found.peek().similarity()) {
+                break;
+            }
+            for (int neighbor : links[current.node()][level]) {
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float score = similarity(query, neighbor);
+                if (found.size() < ef || score > found.peek().similarity()) {
+                    Candidate next = new Candidate(neighbor, score);
+                    frontier.add(next);
+                    found.add(next);
+                    if (found.size() > ef) {
+                        found.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> result = new ArrayList<>(found);
+        result.sort(BEST_FIRST);
+        return result;
+    }
+
+    private float similarity(float[] query, int node) {
+        return kernel.dot(query, vectors[node], 0, dimension);
+    }
+
+    /**
+     * 그래프를 파일로 저장합니다. 같은 디렉터리의 임시 파일에 쓴 뒤 교체하므로 저장 중 중단되어도 기존 파일은 유지됩니다.
+     */
+    public void save(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(FILE_MAGIC);
+            out.writeInt(FILE_VERSION);
+            out.writeInt(dimension);
+            out.writeInt(m);
+            out.writeInt(efConstruction);
+            out.writeInt(count);
+            out.writeInt(entryPoint);
+            out.writeInt(maxLevel);
+
+            ByteBuffer buffer = ByteBuffer.allocate(dimension * Float.BYTES);
+            for (int node = 0; node < count; node++) {
+                out.writeUTF(ids[node]);
+                out.writeBoolean(deleted.get(node));
+                buffer.clear();
+                buffer.asFloatBuffer().put(vectors[node]);
+                out.write(buffer.array());
+                out.writeInt(links[node].length);
+                for (int[] neighbors : links[node]) {
+                    out.writeInt(neighbors.length);
+                    for (int neighbor : neighbors) {
+                        out.writeInt(neighbor);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static HnswIndex load(Path path, DotProductKernel kernel) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != FILE_MAGIC) {
+                throw new IOException("not a hnsw index file: " + path);
+            }
+            int version = in.readInt();
+            if (version != FILE_VERSION) {
+                throw new IOException("unsupported hnsw index file version: " + version);
+            }
+            int dimension = in.readInt();
+            int m = in.readInt();
+            int efConstruction = in.readInt();
+            HnswIndex index = new HnswIndex(kernel, dimension, m, efConstruction);
+
+            int count = in.readInt();
+            index.ensureCapacity(count);
+            index.entryPoint = in.readInt();
+            index.maxLevel = in.readInt();
+
+            byte[] bytes = new byte[dimension * Float.BYTES];
+            for (int node = 0; node < count; node++) {
+                String id = in.readUTF();
+                boolean removed = in.readBoolean();
+                in.readFully(bytes);
+                float[] vector = new float[dimension];
+                ByteBuffer.wrap(bytes).asFloatBuffer().get(vector);
+
+                int levels = in.readInt();
+                int[][] nodeLinks = new int[levels][];
+                for (int level = 0; level < levels; level++) {
+                    int[] neighbors = new int[in.readInt()];
+                    for (int i = 0; i < neighbors.length; i++) {
+                        neighbors[i] = in.readInt();
+                    }
+                    nodeLinks[level] = neighbors;
+                }
+
+                index.ids[node] = id;
+                index.vectors[node] = vector;
+                index.links[node] = nodeLinks;
+                if (removed) {
+                    index.deleted.set(node);
+                } else {
+                    index.nodeOf.put(id, node);
+                }
+            }
+            index.count = count;
+            return index;
+        }
+    }
+
+    private record Candidate(int node, float similarity) {
+    }
+}
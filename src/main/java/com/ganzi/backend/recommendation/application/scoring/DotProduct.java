@@ -0,0 +1,31 @@
+package com.ganzi.backend.recommendation.application.scoring;
+
+/**
+ * 단위 벡터 간 내적(=코사인 유사도) 계산.
+ * <p>
+ * 누산기를 4개로 나눠 덧셈 의존 체인을 끊었으며, 분기 없는 카운트 루프라 JIT가 언롤링/벡터화하기 쉽습니다.
+ */
+public final class DotProduct {
+
+    private DotProduct() {
+    }
+
+    public static float dot(float[] a, float[] b, int bOffset, int length) {
+        float s0 = 0f;
+        float s1 = 0f;
+        float s2 = 0f;
+        float s3 = 0f;
+        int i = 0;
+        int upper = length & ~3;
+        for (; i < upper; i += 4) {
+            s0 += a[i] * b[bOffset + i];
+            s1 += a[i + 1] * b[bOffset + i + 1];
+            s2 += a[i + 2] * b[bOffset + i + 2];
+            s3 += a[i + 3] * b[bOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += a[i] * b[bOffset + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+}
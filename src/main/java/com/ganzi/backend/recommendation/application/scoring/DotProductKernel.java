@@ -0,0 +1,11 @@
+package com.ganzi.backend.recommendation.application.scoring;
+
+/**
+ * 질의 벡터 a와 행렬 b의 한 행(bOffset부터 length개) 간 내적을 계산하는 커널.
+ */
+public interface DotProductKernel {
+
+    float dot(float[] a, float[] b, int bOffset, int length);
+
+    String name();
+}
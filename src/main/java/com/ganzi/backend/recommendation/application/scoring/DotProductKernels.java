@@ -0,0 +1,36 @@
+package com.ganzi.backend.recommendation.application.scoring;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class DotProductKernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL_CLASS =
+            "com.ganzi.backend.recommendation.application.scoring.VectorApiDotProductKernel";
+
+    private DotProductKernels() {
+    }
+
+    public static DotProductKernel scalar() {
+        return new ScalarDotProductKernel();
+    }
+
+    /**
+     * --add-modules jdk.incubator.vector 로 기동된 경우 SIMD 커널을, 그렇지 않으면 스칼라 커널을 반환합니다.
+     */
+    public static DotProductKernel best() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            log.info("{} 모듈이 비활성화되어 스칼라 내적 커널을 사용합니다", VECTOR_MODULE);
+            return scalar();
+        }
+        try {
+            return (DotProductKernel) Class.forName(VECTOR_KERNEL_CLASS)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("Vector API 커널 초기화 실패로 스칼라 내적 커널을 사용합니다", e);
+            return scalar();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.ganzi.backend.recommendation.application.scoring;
+
+import com.ganzi.backend.recommendation.application.index.AnimalEmbeddingIndex;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 임베딩 인덱스 스냅샷 전체를 질의 벡터와 내적하여 상위 K개 행을 고릅니다.
+ * 질의 벡터와 인덱스 벡터는 모두 단위 벡터여야 하며, 이때 내적은 코사인 유사도와 같습니다.
+ * <p>
+ * 카탈로그가 parallel-threshold 행 이상이면 chunk-rows 단위 구간으로 나눠 전용 ForkJoinPool에서
+ * 병렬로 스코어링하고, 구간별 로컬 top-K를 마지막에 병합합니다.
+ * 필터 비트맵이 주어지면 비트가 켜진 행만 내적을 계산합니다.
+ */
+@Slf4j
+@Component
+public class RecommendationScoringEngine {
+
+    private final DotProductKernel kernel;
+    private final ForkJoinPool scoringPool;
+    private final int chunkRows;
+    private final int parallelThreshold;
+
+    public RecommendationScoringEngine(
+            @Value("${recommendation.scoring.simd-enabled:true}") boolean simdEnabled,
+            @Qualifier("recommendationScoringPool") ForkJoinPool scoringPool,
+            @Value("${recommendation.scoring.chunk-rows:1024}") int chunkRows,
+            @Value("${recommendation.scoring.parallel-threshold:4096}") int parallelThreshold
+    ) {
+        this.kernel = simdEnabled ? DotProductKernels.best() : DotProductKernels.scalar();
+        this.scoringPool = scoringPool;
+        // 블록 경계에 맞춰 한 구간이 블록을 나눠 갖지 않도록 정렬
+        int blocks = Math.max(1, chunkRows / AnimalEmbeddingIndex.BLOCK_ROWS);
+        this.chunkRows = blocks * AnimalEmbeddingIndex.BLOCK_ROWS;
+        this.parallelThreshold = parallelThreshold;
+        log.info("추천 스코어링 커널: {}, 병렬도: {}, 구간 크기: {}행",
+                kernel.name(), scoringPool.getParallelism(), this.chunkRows);
+    }
+
+    public TopKSelector topK(float[] unitQuery, AnimalEmbeddingIndex.Snapshot snapshot, int top) {
+        return topK(unitQuery, snapshot, top, null);
+    }
+
+    /**
+     * @param allowed 스코어링할 행의 비트맵. null이면 모든 행을 스코어링합니다.
+     */
+    public TopKSelector topK(float[] unitQuery, AnimalEmbeddingIndex.Snapshot snapshot, int top, BitSet allowed) {
+        int candidates = allowed == null ? snapshot.size() : allowed.cardinality();
+        int k = Math.max(0, Math.min(top, candidates));
+        if (candidates < parallelThreshold || snapshot.size() <= chunkRows) {
+            TopKSelector selector = new TopKSelector(k);
+            scoreRange(unitQuery, snapshot, 0, snapshot.size(), allowed, selector);
+            return selector;
+        }
+        return parallelTopK(unitQuery, snapshot, k, allowed);
+    }
+
+    private TopKSelector parallelTopK(float[] unitQuery, AnimalEmbeddingIndex.Snapshot snapshot, int k,
+                                      BitSet allowed) {
+        List<ForkJoinTask<TopKSelector>> tasks = new ArrayList<>();
+        for (int start = 0; start < snapshot.size(); start += chunkRows) {
+            int from = start;
+            int to = Math.min(start + chunkRows, snapshot.size());
+            tasks.add(scoringPool.submit(() -> {
+                TopKSelector local = new TopKSelector(k);
+                scoreRange(unitQuery, snapshot, from, to, allowed, local);
+                return local;
+            }));
+        }
+
+        TopKSelector merged = new TopKSelector(k);
+        for (ForkJoinTask<TopKSelector> task : tasks) {
+            merged.merge(task.join());
+        }
+        return merged;
+    }
+
+    private void scoreRange(float[] unitQuery, AnimalEmbeddingIndex.Snapshot snapshot, int fromRow, int toRow,
+                            BitSet allowed, TopKSelector selector) {
+        if (allowed != null) {
+            scoreAllowedRows(unitQuery, snapshot, fromRow, toRow, allowed, selector);
+            return;
+        }
+        int dimension = snapshot.dimension();
+        int row = fromRow;
+        while (row < toRow) {
+            int block = row / AnimalEmbeddingIndex.BLOCK_ROWS;
+            int blockStart = block * AnimalEmbeddingIndex.BLOCK_ROWS;
+            int blockEnd = Math.min(blockStart + snapshot.rowsInBlock(block), toRow);
+            float[] vectors = snapshot.block(block);
+            for (; row < blockEnd; row++) {
+                selector.offer(row, kernel.dot(unitQuery, vectors, (row - blockStart) * dimension, dimension));
+            }
+        }
+    }
+
+    private void scoreAllowedRows(float[] unitQuery, AnimalEmbeddingIndex.Snapshot snapshot, int fromRow, int toRow,
+                                  BitSet allowed, TopKSelector selector) {
+        int dimension = snapshot.dimension();
+        for (int row = allowed.nextSetBit(fromRow); row >= 0 && row < toRow; row = allowed.nextSetBit(row + 1)) {
+            float[] vectors = snapshot.block(row / AnimalEmbeddingIndex.BLOCK_ROWS);
+            int offset = (row % AnimalEmbeddingIndex.BLOCK_ROWS) * dimension;
+            selector.offer(row, kernel.dot(unitQuery, vectors, offset, dimension));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.ganzi.backend.recommendation.application.scoring;
+
+final class ScalarDotProductKernel implements DotProductKernel {
+
+    @Override
+    public float dot(float[] a, float[] b, int bOffset, int length) {
+        return DotProduct.dot(a, b, bOffset, length);
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
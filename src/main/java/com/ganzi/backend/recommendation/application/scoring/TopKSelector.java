@@ -0,0 +1,123 @@
+package com.ganzi.backend.recommendation.application.scoring;
+
+/**
+ * 점수 상위 K개만 유지하는 고정 크기 최소 힙.
+ * <p>
+ * 후보마다 객체를 만들지 않도록 점수와 식별자(행 번호 등)를 병렬 primitive 배열로 관리하며,
+ * 힙이 가득 찬 뒤에는 현재 최솟값보다 큰 후보만 O(log K)로 교체합니다.
+ * 스레드 안전하지 않으므로 스레드마다 별도 인스턴스를 사용한 뒤 {@link #merge(TopKSelector)}로 합칩니다.
+ */
+public final class TopKSelector {
+
+    private final int capacity;
+    private final double[] scores;
+    private final int[] ids;
+    private int size;
+
+    public TopKSelector(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+        }
+        this.capacity = capacity;
+        this.scores = new double[capacity];
+        this.ids = new int[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    /**
+     * 힙에 들어가기 위해 넘어야 하는 점수. 가득 차기 전에는 음의 무한대입니다.
+     */
+    public double threshold() {
+        return isFull() && capacity > 0 ? scores[0] : Double.NEGATIVE_INFINITY;
+    }
+
+    public void offer(int id, double score) {
+        if (capacity == 0 || Double.isNaN(score)) {
+            return;
+        }
+        if (size < capacity) {
+            scores[size] = score;
+            ids[size] = id;
+            siftUp(size++);
+            return;
+        }
+        if (score > scores[0]) {
+            scores[0] = score;
+            ids[0] = id;
+            siftDown(0, size);
+        }
+    }
+
+    public void merge(TopKSelector other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.ids[i], other.scores[i]);
+        }
+    }
+
+    /**
+     * 점수 내림차순으로 정렬된 식별자. 힙 상태는 변경되지 않습니다.
+     */
+    public int[] sortedIds() {
+        double[] heapScores = scores.clone();
+        int[] heapIds = ids.clone();
+        int[] result = new int[size];
+        for (int remaining = size; remaining > 0; remaining--) {
+            result[remaining - 1] = heapIds[0];
+            heapScores[0] = heapScores[remaining - 1];
+            heapIds[0] = heapIds[remaining - 1];
+            siftDown(heapScores, heapIds, 0, remaining - 1);
+        }
+        return result;
+    }
+
+    private void siftUp(int index) {
+        double score = scores[index];
+        int id = ids[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= score) {
+                break;
+            }
+            scores[index] = scores[parent];
+            ids[index] = ids[parent];
+            index = parent;
+        }
+        scores[index] = score;
+        ids[index] = id;
+    }
+
+    private void siftDown(int index, int length) {
+        siftDown(scores, ids, index, length);
+    }
+
+    private static void siftDown(double[] scores, int[] ids, int index, int length) {
+        if (length == 0) {
+            return;
+        }
+        double score = scores[index];
+        int id = ids[index];
+        int half = length >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < length && scores[right] < scores[child]) {
+                child = right;
+            }
+            if (score <= scores[child]) {
+                break;
+            }
+            scores[index] = scores[child];
+            ids[index] = ids[child];
+            index = child;
+        }
+        scores[index] = score;
+        ids[index] = id;
+    }
+}
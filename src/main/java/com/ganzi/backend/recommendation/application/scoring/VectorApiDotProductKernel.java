@@ -0,0 +1,47 @@
+package com.ganzi.backend.recommendation.application.scoring;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * JDK Vector API(jdk.incubator.vector) 기반 SIMD 내적 커널.
+ * <p>
+ * 모듈이 활성화되지 않은 JVM에서는 클래스 로딩 자체가 실패하므로
+ * 반드시 {@link DotProductKernels}를 통해서만 생성해야 합니다.
+ */
+final class VectorApiDotProductKernel implements DotProductKernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public float dot(float[] a, float[] b, int bOffset, int length) {
+        int step = SPECIES.length();
+        int upper = SPECIES.loopBound(length);
+        FloatVector acc0 = FloatVector.zero(SPECIES);
+        FloatVector acc1 = FloatVector.zero(SPECIES);
+
+        int i = 0;
+        for (; i + step < upper; i += step * 2) {
+            acc0 = FloatVector.fromArray(SPECIES, a, i)
+                    .fma(FloatVector.fromArray(SPECIES, b, bOffset + i), acc0);
+            acc1 = FloatVector.fromArray(SPECIES, a, i + step)
+                    .fma(FloatVector.fromArray(SPECIES, b, bOffset + i + step), acc1);
+        }
+        for (; i < upper; i += step) {
+            acc0 = FloatVector.fromArray(SPECIES, a, i)
+                    .fma(FloatVector.fromArray(SPECIES, b, bOffset + i), acc0);
+        }
+
+        float sum = acc0.add(acc1).reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += a[i] * b[bOffset + i];
+        }
+        return sum;
+    }
+
+    @Override
+    public String name() {
+        return "vector-api(" + SPECIES.vectorBitSize() + "bit)";
+    }
+}
@@ -0,0 +1,58 @@
+package com.ganzi.backend.user.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관심 가중치의 지수 감쇠 모델. 시각 t에 더해진 가중치 w는 현재 시각에 w * 0.5^((now - t) / halfLife)로 평가됩니다.
+ * <p>
+ * 모든 기여가 같은 비율로 줄어들므로, 누적 합은 기준 시각과 함께 저장해 두고
+ * 다음 변경 때 경과 시간만큼 한 번 곱한 뒤 새 가중치를 더하면 됩니다.
+ * half-life-days가 0 이하이면 감쇠하지 않습니다.
+ */
+@Component
+public class InterestDecay {
+
+    // 반감기 10회(약 0.1%)가 지난 가중치는 사용자 임베딩 계산에서 제외
+    private static final int HORIZON_HALF_LIVES = 10;
+    private static final LocalDateTime NO_HORIZON = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final double halfLifeSeconds;
+
+    public InterestDecay(@Value("${user.interest.half-life-days:30}") double halfLifeDays) {
+        this.halfLifeSeconds = halfLifeDays > 0 ? halfLifeDays * Duration.ofDays(1).toSeconds() : Double.POSITIVE_INFINITY;
+    }
+
+    public boolean isEnabled() {
+        return Double.isFinite(halfLifeSeconds);
+    }
+
+    /**
+     * from 시각의 가중치를 to 시각으로 옮길 때 곱하는 값. from이 없거나 to보다 늦으면 1입니다.
+     */
+    public double factor(LocalDateTime from, LocalDateTime to) {
+        if (!isEnabled() || from == null || !from.isBefore(to)) {
+            return 1.0;
+        }
+        return Math.pow(0.5, Duration.between(from, to).toSeconds() / halfLifeSeconds);
+    }
+
+    /**
+     * SQL에 전달할 반감기(초). 감쇠하지 않을 때는 지수가 0이 되도록 매우 큰 값을 반환합니다.
+     */
+    public double halfLifeSecondsForSql() {
+        return isEnabled() ? halfLifeSeconds : Double.MAX_VALUE;
+    }
+
+    /**
+     * 이 시각 이전에 마지막으로 갱신된 가중치는 무시해도 되는 크기까지 감쇠한 상태입니다.
+     */
+    public LocalDateTime horizon(LocalDateTime now) {
+        if (!isEnabled()) {
+            return NO_HORIZON;
+        }
+        return now.minusSeconds((long) (halfLifeSeconds * HORIZON_HALF_LIVES));
+    }
+}
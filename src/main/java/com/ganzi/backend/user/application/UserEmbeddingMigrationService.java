@@ -0,0 +1,79 @@
+package com.ganzi.backend.user.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ganzi.backend.global.embedding.EmbeddingVectorReader;
+import com.ganzi.backend.user.domain.UserEmbedding;
+import com.ganzi.backend.user.domain.repository.UserEmbeddingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * embedding_json(TEXT)에 저장된 기존 사용자 임베딩을 바이너리 컬럼으로 이관합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserEmbeddingMigrationService {
+
+    private static final int PAGE_SIZE = 200;
+
+    private final UserEmbeddingRepository userEmbeddingRepository;
+    private final EmbeddingVectorReader embeddingVectorReader;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async("embeddingExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        migrateLegacyJson();
+    }
+
+    public int migrateLegacyJson() {
+        long after = 0L;
+        int migrated = 0;
+        while (true) {
+            long cursor = after;
+            MigrationPage page = transactionTemplate.execute(status -> migratePage(cursor));
+            if (page == null || page.lastUserId() == null) {
+                break;
+            }
+            migrated += page.migrated();
+            after = page.lastUserId();
+        }
+        if (migrated > 0) {
+            log.info("사용자 임베딩 바이너리 이관 완료 - {}건", migrated);
+        }
+        return migrated;
+    }
+
+    private MigrationPage migratePage(long after) {
+        List<UserEmbedding> embeddings = userEmbeddingRepository.findLegacyJsonAfter(after, PageRequest.of(0, PAGE_SIZE));
+        if (embeddings.isEmpty()) {
+            return new MigrationPage(0, null);
+        }
+
+        int migrated = 0;
+        for (UserEmbedding embedding : embeddings) {
+            try {
+                float[] vector = embeddingVectorReader.read(null, embedding.getEmbeddingJson());
+                if (vector != null) {
+                    embedding.updateUserEmbedding(vector);
+                    migrated++;
+                }
+            } catch (JsonProcessingException e) {
+                log.warn("user {} 임베딩 오류 : 바이너리 이관 실패", embedding.getId(), e);
+            }
+        }
+        return new MigrationPage(migrated, embeddings.getLast().getId());
+    }
+
+    private record MigrationPage(int migrated, Long lastUserId) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.ganzi.backend.user.application;
+
+import com.ganzi.backend.user.application.event.UserInterestChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 관심/좋아요 이벤트를 사용자별로 모아 두었다가 주기적으로 한 번에 반영하는 사용자 임베딩 갱신 큐.
+ * <p>
+ * 같은 주기 안에 들어온 한 사용자의 이벤트는 desertionNo별 가중치 합으로 합쳐져
+ * 사용자당 한 번의 트랜잭션(행 잠금)으로 처리됩니다. 처리는 embeddingExecutor에서 실행되며,
+ * 반영 전에 종료되거나 실패한 변경분은 야간 전체 재계산에서 바로잡힙니다.
+ * <ul>
+ *     <li>user.embedding.queue.depth: 반영 대기 중인 사용자 수</li>
+ *     <li>user.embedding.queue.lag: 가장 오래 대기 중인 이벤트의 경과 시간(초)</li>
+ *     <li>user.embedding.queue.apply: 사용자 한 명의 반영 소요 시간</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class UserEmbeddingUpdateQueue {
+
+    private final UserInterestService userInterestService;
+    private final Executor executor;
+    private final int batchSize;
+    private final Timer applyTimer;
+    private final ConcurrentHashMap<Long, PendingUpdate> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public UserEmbeddingUpdateQueue(
+            UserInterestService userInterestService,
+            @Qualifier("embeddingExecutor") Executor executor,
+            MeterRegistry meterRegistry,
+            @Value("${user.embedding.queue.batch-size:500}") int batchSize
+    ) {
+        this.userInterestService = userInterestService;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        Gauge.builder("user.embedding.queue.depth", pending, Map::size)
+                .description("반영 대기 중인 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("user.embedding.queue.lag", this, UserEmbeddingUpdateQueue::lagSeconds)
+                .description("가장 오래 대기 중인 이벤트의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.applyTimer = Timer.builder("user.embedding.queue.apply")
+                .description("사용자 한 명의 임베딩 반영 소요 시간")
+                .register(meterRegistry);
+    }
+
+    // 커밋된 관심/좋아요만 반영해야 전체 재계산으로 대체될 때도 이번 변경이 포함된다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInterestChanged(UserInterestChangedEvent event) {
+        pending.compute(event.userId(), (userId, update) -> {
+            PendingUpdate merged = update != null ? update : new PendingUpdate(System.currentTimeMillis());
+            merged.weightDeltas.merge(event.desertionNo(), event.weightDelta(), Double::sum);
+            return merged;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${user.embedding.queue.flush-interval-ms:2000}")
+    public void flush() {
+        if (pending.isEmpty() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    drain(batchSize);
+                } finally {
+                    draining.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            log.warn("embeddingExecutor 포화로 사용자 임베딩 반영을 다음 주기로 미룹니다. 대기: {}명", pending.size());
+        }
+    }
+
+    @PreDestroy
+    public void onShutdown() {
+        if (!pending.isEmpty()) {
+            log.info("종료 전 대기 중인 사용자 임베딩 반영 - {}명", pending.size());
+            drain(Integer.MAX_VALUE);
+        }
+    }
+
+    public int depth() {
+        return pending.size();
+    }
+
+    double lagSeconds() {
+        long oldest = Long.MAX_VALUE;
+        for (PendingUpdate update : pending.values()) {
+            oldest = Math.min(oldest, update.queuedAt);
+        }
+        return oldest == Long.MAX_VALUE ? 0.0 : (System.currentTimeMillis() - oldest) / 1000.0;
+    }
+
+    private void drain(int limit) {
+        int applied = 0;
+        Iterator<Long> userIds = pending.keySet().iterator();
+        while (applied < limit && userIds.hasNext()) {
+            Long userId = userIds.next();
+            // remove 이후 들어온 이벤트는 새 항목으로 쌓여 다음 주기에 반영된다
+            PendingUpdate update = pending.remove(userId);
+            if (update == null) {
+                continue;
+            }
+            applyTimer.record(() -> apply(userId, update));
+            applied++;
+        }
+        if (applied > 0) {
+            log.debug("사용자 임베딩 반영 - {}명, 남은 대기: {}명", applied, pending.size());
+        }
+    }
+
+    private void apply(Long userId, PendingUpdate update) {
+        try {
+            userInterestService.applyWeightDeltas(userId, update.weightDeltas);
+        } catch (Exception e) {
+            log.warn("사용자 임베딩 반영 실패 userId={}", userId, e);
+        }
+    }
+
+    // compute 안에서만 수정되고, remove로 꺼낸 뒤에는 읽기만 한다
+    private static final class PendingUpdate {
+
+        private final long queuedAt;
+        private final Map<String, Double> weightDeltas = new HashMap<>();
+
+        private PendingUpdate(long queuedAt) {
+            this.queuedAt = queuedAt;
+        }
+    }
+}
@@ -1,28 +1,32 @@
 package com.ganzi.backend.user.application;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ganzi.backend.animal.domain.Animal;
 import com.ganzi.backend.animal.domain.AnimalEmbedding;
 import com.ganzi.backend.animal.domain.repository.AnimalEmbeddingRepository;
 import com.ganzi.backend.animal.domain.repository.AnimalRepository;
 import com.ganzi.backend.global.code.status.ErrorStatus;
+import com.ganzi.backend.global.embedding.EmbeddingVectorReader;
 import com.ganzi.backend.global.exception.GeneralException;
+import com.ganzi.backend.user.application.event.UserEmbeddingChangedEvent;
+import com.ganzi.backend.user.application.event.UserInterestChangedEvent;
 import com.ganzi.backend.user.domain.User;
 import com.ganzi.backend.user.domain.UserEmbedding;
 import com.ganzi.backend.user.domain.UserInterest;
-import com.ganzi.backend.user.domain.UserLike;
+import com.ganzi.backend.user.domain.UserInterestWeight;
 import com.ganzi.backend.user.domain.repository.UserEmbeddingRepository;
 import com.ganzi.backend.user.domain.repository.UserInterestRepository;
-import com.ganzi.backend.user.domain.repository.UserLikeRepository;
+import com.ganzi.backend.user.domain.repository.UserInterestWeightRepository;
 import com.ganzi.backend.user.domain.repository.UserRepository;
+import com.ganzi.backend.user.infrastructure.persistence.UserInterestWeightJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,13 +38,19 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserInterestService {
 
+    // MySQL IN 절 파라미터 수와 한 번에 올리는 임베딩 메모리를 함께 제한
+    static final int EMBEDDING_FETCH_CHUNK_SIZE = 500;
+
     private final UserRepository userRepository;
     private final UserInterestRepository userInterestRepository;
     private final UserEmbeddingRepository userEmbeddingRepository;
     private final AnimalRepository animalRepository;
     private final AnimalEmbeddingRepository animalEmbeddingRepository;
-    private final UserLikeRepository userLikeRepository;
-    private final ObjectMapper objectMapper;
+    private final UserInterestWeightRepository userInterestWeightRepository;
+    private final UserInterestWeightJdbcRepository userInterestWeightJdbcRepository;
+    private final EmbeddingVectorReader embeddingVectorReader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InterestDecay interestDecay;
 
 
     @Transactional
@@ -61,77 +71,112 @@ public class UserInterestService {
                 .build();
 
         userInterestRepository.save(userInterest);
+
+        UserInterestChangedEvent change = new UserInterestChangedEvent(userId, desertionNo, interestWeight(safeDwell));
+        userInterestWeightJdbcRepository.addAll(List.of(change));
+        eventPublisher.publishEvent(change);
+    }
+
+    /**
+     * 사용자 한 명에게 쌓인 관심/좋아요 가중치 변화(desertionNo별 합)를 누적 합에 반영합니다.
+     * 전체 재계산 없이 변화한 동물 수 x O(D)로 끝나며, 누적 값이 없는 사용자(최초 이벤트 또는 기존 데이터)는
+     * 저장된 관심/좋아요 전체로 다시 계산합니다.
+     */
+    @Transactional
+    public void applyWeightDeltas(Long userId, Map<String, Double> weightDeltas) {
+        Optional<UserEmbedding> optUserEmbedding = userEmbeddingRepository.findByUserIdForUpdate(userId);
+        if (optUserEmbedding.isEmpty() || !optUserEmbedding.get().hasWeightedSum()) {
+            computeUserEmbedding(userId);
+            return;
+        }
+
+        UserEmbedding userEmbedding = optUserEmbedding.get();
+        // 마지막 반영 이후 경과 시간만큼 기존 누적 값을 감쇠시킨 뒤 새 가중치를 더한다
+        LocalDateTime now = LocalDateTime.now();
+        userEmbedding.decayTo(interestDecay.factor(userEmbedding.getWeightedSumAt(), now), now);
+        try {
+            for (AnimalEmbedding animalEmbedding : animalEmbeddingRepository.findAllById(weightDeltas.keySet())) {
+                double weightDelta = weightDeltas.get(animalEmbedding.getDesertionNo());
+                if (weightDelta == 0.0) {
+                    continue;
+                }
+                float[] vector = readVector(animalEmbedding);
+                if (vector == null) {
+                    continue;
+                }
+                userEmbedding.applyWeightDelta(vector, weightDelta * animalEmbedding.magnitude(), weightDelta);
+            }
+        } catch (IllegalArgumentException e) {
+            // 임베딩 모델이 바뀌어 차원이 달라진 경우
+            log.warn("User Embedding 증분 갱신 실패로 전체 재계산 userId={}", userId, e);
+            computeUserEmbedding(userId);
+            return;
+        }
+        eventPublisher.publishEvent(new UserEmbeddingChangedEvent(userId));
     }
 
 
     @Transactional
     public void computeUserEmbedding(Long userId) {
+        // 가중치를 읽기 전에(트랜잭션의 첫 조회로) 행을 잠가, 읽은 뒤 커밋된 증분 갱신(applyWeightDeltas)이
+        // resetWeightedSum에 덮이지 않게 한다. 행이 없으면 user_id가 PK라 동시에 만든 쪽은 INSERT에서 충돌한다
+        Optional<UserEmbedding> lockedEmbedding = userEmbeddingRepository.findByUserIdForUpdate(userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
 
-        Map<String, Double> weightMap = buildWeightMap(user);
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Double> weightMap = buildWeightMap(user, now);
         if(weightMap.isEmpty()) {
             return;
         }
 
         float[] sum = null;
         double totalWeight = 0.0;
-        for (Map.Entry<String, Double> entry : weightMap.entrySet()) {
-            String deserNo = entry.getKey();
-            double weight = entry.getValue();
-            Optional<AnimalEmbedding> optEmbedding = animalEmbeddingRepository.findById(deserNo);
-            if (optEmbedding.isEmpty()) {
-                continue;
-            }
-            float[] vector;
-            try {
-                vector = objectMapper.readValue(
-                        optEmbedding.get().getEmbeddingJson(),
-                        new TypeReference<float[]>() {}
-                );
-            } catch (JsonProcessingException e) {
-                log.warn("Animal Embedding 역직렬화 실패 desertionNo={}", deserNo, e);
-                continue;
-            }
-            if (sum == null) {
-                sum = new float[vector.length];
+        // 관심 동물 수만큼 단건 조회하지 않도록 IN 쿼리로 나눠 읽고, 읽은 청크는 바로 누적
+        List<String> desertionNos = new ArrayList<>(weightMap.keySet());
+        for (int from = 0; from < desertionNos.size(); from += EMBEDDING_FETCH_CHUNK_SIZE) {
+            List<String> chunk = desertionNos.subList(from, Math.min(from + EMBEDDING_FETCH_CHUNK_SIZE, desertionNos.size()));
+            for (AnimalEmbedding animalEmbedding : animalEmbeddingRepository.findAllById(chunk)) {
+                float[] vector = readVector(animalEmbedding);
+                if (vector == null) {
+                    continue;
+                }
+                if (sum == null) {
+                    sum = new float[vector.length];
+                }
+                double weight = weightMap.get(animalEmbedding.getDesertionNo());
+                // 정규화 저장된 벡터는 원래 크기로 되돌려 기존 가중 평균과 동일한 결과를 유지
+                double scale = weight * animalEmbedding.magnitude();
+                for (int i = 0; i < vector.length; i++) {
+                    sum[i] += (float) (vector[i] * scale);
+                }
+                totalWeight += weight;
             }
-            for (int i = 0; i < vector.length; i++) {
-                sum[i] += (float) (vector[i] * weight);
-            }
-            totalWeight += weight;
         }
 
         if (sum == null || totalWeight == 0.0) {
             return;
         }
 
-        for (int i = 0; i < sum.length; i++) {
-            sum[i] /= (float) totalWeight;
-        }
+        UserEmbedding userEmbedding = lockedEmbedding
+                .orElseGet(() -> UserEmbedding.builder().user(user).build());
 
-        // L2 정규화
-        double norm = 0.0;
-        for (float v : sum) {
-            norm += v * v;
-        }
-        norm = Math.sqrt(norm);
-        if (norm > 0) {
-            for (int i = 0; i < sum.length; i++) {
-                sum[i] /= (float) norm;
-            }
-        }
+        // 누적 합을 그대로 저장하고, 가중 평균의 L2 정규화 결과를 embedding으로 갱신
+        userEmbedding.resetWeightedSum(sum, totalWeight, now);
+        userEmbeddingRepository.save(userEmbedding);
+        eventPublisher.publishEvent(new UserEmbeddingChangedEvent(userId));
+    }
 
-        UserEmbedding userEmbedding = userEmbeddingRepository.findByUserId(user.getId())
-                .orElseGet(() -> UserEmbedding.builder().user(user).build());
+    static double interestWeight(int dwellSec) {
+        return Math.min(0.1 + dwellSec * 0.02, 0.3);
+    }
 
+    private float[] readVector(AnimalEmbedding animalEmbedding) {
         try {
-            String json = objectMapper.writeValueAsString(sum);
-            userEmbedding.updateUserEmbedding(json, sum.length);
-            userEmbeddingRepository.save(userEmbedding);
+            return embeddingVectorReader.read(animalEmbedding.getEmbedding(), animalEmbedding.getEmbeddingJson());
         } catch (JsonProcessingException e) {
-            log.error("User Embedding 직렬화 실패 userId={}", user.getId(), e);
-            throw new GeneralException(ErrorStatus.DATABASE_ERROR);
+            log.warn("Animal Embedding 역직렬화 실패 desertionNo={}", animalEmbedding.getDesertionNo(), e);
+            return null;
         }
     }
 
@@ -141,26 +186,20 @@ public class UserInterestService {
     public Map<String, Double> buildWeightMap(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
-        return buildWeightMap(user);
+        return buildWeightMap(user, LocalDateTime.now());
     }
 
-    // 내부 재사용 메서드
-    private Map<String, Double> buildWeightMap(User user) {
+    // 내부 재사용 메서드. 집계 가중치를 now 시점으로 감쇠시키며, 충분히 감쇠한 오래된 항목은 읽지 않는다
+    private Map<String, Double> buildWeightMap(User user, LocalDateTime now) {
         Map<String, Double> weightMap = new HashMap<>();
-
-        List<UserInterest> interests = userInterestRepository.findByUserId(user.getId());
-        for (UserInterest ui : interests) {
-            int dwellSec = ui.getDwellTimeSeconds() != null ? ui.getDwellTimeSeconds() : 0;
-            double weight = 0.1 + dwellSec * 0.02;
-            weight = Math.min(weight, 0.3);
-            weightMap.merge(ui.getAnimal().getDesertionNo(), weight, Double::sum);
-        }
-
-        List<UserLike> likes = userLikeRepository.findByUserIdAndLikedTrue(user.getId());
-        for (UserLike like : likes) {
-            weightMap.merge(like.getAnimal().getDesertionNo(), 1.0, Double::sum);
+        List<UserInterestWeight> interestWeights =
+                userInterestWeightRepository.findByUserIdAndLastSeenAfter(user.getId(), interestDecay.horizon(now));
+        for (UserInterestWeight interestWeight : interestWeights) {
+            double weight = interestWeight.getWeight() * interestDecay.factor(interestWeight.getLastSeen(), now);
+            if (weight > 0.0) {
+                weightMap.put(interestWeight.getDesertionNo(), weight);
+            }
         }
-
         return weightMap;
     }
-}
\ No newline at end of file
+}
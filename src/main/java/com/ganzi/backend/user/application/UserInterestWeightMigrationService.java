@@ -0,0 +1,63 @@
+package com.ganzi.backend.user.application;
+
+import com.ganzi.backend.user.domain.UserInterestWeightBackfill;
+import com.ganzi.backend.user.domain.repository.UserInterestWeightBackfillRepository;
+import com.ganzi.backend.user.infrastructure.persistence.UserInterestWeightJdbcRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * user_interest_weights 도입 이전의 관심 기록/좋아요를 집계 테이블로 한 번 옮깁니다.
+ * <p>
+ * 관심/좋아요 저장이 집계를 갱신하기 전에 끝나도록 웹 서버가 요청을 받기 전(싱글톤 초기화 직후) 동기로 실행하고,
+ * 완료 여부는 이관 기록 행으로 남깁니다. 이관 기록 INSERT와 이관이 한 트랜잭션이라 여러 인스턴스가 동시에 떠도
+ * PK 충돌로 한 곳만 이관하며, 실패하면 이관 기록도 롤백되어 다음 기동 때 다시 시도합니다.
+ * 이관이 끝나기 전에는 원본 관심 기록을 정리하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserInterestWeightMigrationService implements SmartInitializingSingleton {
+
+    static final String BACKFILL_NAME = "raw-interests-and-likes";
+
+    private final UserInterestWeightBackfillRepository backfillRepository;
+    private final UserInterestWeightJdbcRepository userInterestWeightJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrateOnStartup();
+    }
+
+    public void migrateOnStartup() {
+        try {
+            Integer created = transactionTemplate.execute(status -> backfillOnce());
+            if (created != null) {
+                log.info("사용자 관심 가중치 집계 이관 완료 - {}건", created);
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.info("다른 인스턴스가 사용자 관심 가중치 집계를 이관해 건너뜀");
+        } catch (Exception e) {
+            log.error("사용자 관심 가중치 집계 이관 실패 - 다음 기동 때 다시 시도하며, 그때까지 원본 관심 기록을 정리하지 않음", e);
+        }
+    }
+
+    public boolean isCompleted() {
+        return backfillRepository.existsById(BACKFILL_NAME);
+    }
+
+    private Integer backfillOnce() {
+        if (backfillRepository.existsById(BACKFILL_NAME)) {
+            return null;
+        }
+        LocalDateTime cutoff = LocalDateTime.now();
+        backfillRepository.saveAndFlush(UserInterestWeightBackfill.of(BACKFILL_NAME, cutoff));
+        return userInterestWeightJdbcRepository.backfillBefore(cutoff);
+    }
+}
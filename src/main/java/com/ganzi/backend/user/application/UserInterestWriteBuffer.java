@@ -0,0 +1,174 @@
+package com.ganzi.backend.user.application;
+
+import com.ganzi.backend.user.application.dto.UserInterestRecord;
+import com.ganzi.backend.user.application.event.UserInterestChangedEvent;
+import com.ganzi.backend.user.infrastructure.persistence.UserInterestJdbcRepository;
+import com.ganzi.backend.user.infrastructure.persistence.UserInterestWeightJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관심(조회) 이벤트 write-behind 버퍼.
+ * <p>
+ * 요청 스레드는 고정 크기 큐에 넣기만 하고, flush-interval-ms마다 또는 flush-size건이 쌓이면
+ * interestWriteExecutor에서 원본 기록과 가중치 집계를 JDBC 배치로 저장한 뒤 사용자 임베딩 갱신 이벤트를 발행합니다.
+ * 큐가 가득 차면 overflow-policy에 따라 요청 스레드에서 바로 저장(CALLER_RUNS)하거나 버립니다(DROP).
+ * 종료 시 남은 이벤트를 모두 저장합니다.
+ */
+@Slf4j
+@Component
+public class UserInterestWriteBuffer {
+
+    public enum OverflowPolicy {
+        CALLER_RUNS,
+        DROP
+    }
+
+    private final UserInterestJdbcRepository userInterestJdbcRepository;
+    private final UserInterestWeightJdbcRepository userInterestWeightJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor executor;
+    private final BlockingQueue<UserInterestRecord> queue;
+    private final int flushSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Counter droppedCounter;
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final Object flushLock = new Object();
+
+    public UserInterestWriteBuffer(
+            UserInterestJdbcRepository userInterestJdbcRepository,
+            UserInterestWeightJdbcRepository userInterestWeightJdbcRepository,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Qualifier("interestWriteExecutor") Executor executor,
+            MeterRegistry meterRegistry,
+            @Value("${user.interest.buffer.capacity:10000}") int capacity,
+            @Value("${user.interest.buffer.flush-size:500}") int flushSize,
+            @Value("${user.interest.buffer.overflow-policy:CALLER_RUNS}") OverflowPolicy overflowPolicy
+    ) {
+        this.userInterestJdbcRepository = userInterestJdbcRepository;
+        this.userInterestWeightJdbcRepository = userInterestWeightJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.executor = executor;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.flushSize = flushSize;
+        this.overflowPolicy = overflowPolicy;
+        Gauge.builder("user.interest.buffer.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 관심 기록 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("user.interest.buffer.dropped")
+                .description("버퍼 포화로 버려진 관심 기록 수")
+                .register(meterRegistry);
+    }
+
+    public void add(Long userId, String desertionNo, Integer dwellTimeSeconds) {
+        UserInterestRecord record = new UserInterestRecord(
+                userId, desertionNo, dwellTimeSeconds != null ? dwellTimeSeconds : 0, LocalDateTime.now());
+        if (!queue.offer(record)) {
+            handleOverflow(record);
+            return;
+        }
+        if (queue.size() >= flushSize) {
+            requestFlush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${user.interest.buffer.flush-interval-ms:1000}")
+    public void requestFlush() {
+        if (queue.isEmpty() || !flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            flushing.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void onShutdown() {
+        if (!queue.isEmpty()) {
+            log.info("종료 전 관심 기록 저장 - {}건", queue.size());
+            flush();
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    void flush() {
+        synchronized (flushLock) {
+            List<UserInterestRecord> batch = new ArrayList<>(flushSize);
+            while (queue.drainTo(batch, flushSize) > 0) {
+                try {
+                    write(batch);
+                } catch (DataAccessException e) {
+                    requeue(batch);
+                    log.warn("관심 기록 저장 실패로 다음 주기에 재시도 - {}건", batch.size(), e);
+                    return;
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    private void handleOverflow(UserInterestRecord record) {
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            droppedCounter.increment();
+            return;
+        }
+        // 저장 속도가 유입을 못 따라가면 요청 스레드가 직접 저장하면서 유입 속도를 늦춘다
+        write(List.of(record));
+    }
+
+    // 원본 기록과 가중치 집계를 한 트랜잭션으로 저장한 뒤 임베딩 갱신 이벤트 발행
+    private void write(List<UserInterestRecord> records) {
+        List<UserInterestChangedEvent> changes = transactionTemplate.execute(status -> {
+            List<UserInterestChangedEvent> inserted = new ArrayList<>(records.size());
+            for (UserInterestRecord record : userInterestJdbcRepository.insertAll(records)) {
+                inserted.add(new UserInterestChangedEvent(
+                        record.userId(), record.desertionNo(), UserInterestService.interestWeight(record.dwellTimeSeconds())));
+            }
+            userInterestWeightJdbcRepository.addAll(inserted);
+            return inserted;
+        });
+        if (changes != null) {
+            changes.forEach(eventPublisher::publishEvent);
+        }
+    }
+
+    private void requeue(List<UserInterestRecord> batch) {
+        for (UserInterestRecord record : batch) {
+            if (!queue.offer(record)) {
+                droppedCounter.increment();
+            }
+        }
+    }
+}
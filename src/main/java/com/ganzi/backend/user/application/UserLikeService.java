@@ -4,15 +4,19 @@ import com.ganzi.backend.animal.domain.Animal;
 import com.ganzi.backend.animal.domain.repository.AnimalRepository;
 import com.ganzi.backend.global.code.status.ErrorStatus;
 import com.ganzi.backend.global.exception.GeneralException;
+import com.ganzi.backend.user.application.event.UserInterestChangedEvent;
 import com.ganzi.backend.user.domain.User;
 import com.ganzi.backend.user.domain.UserLike;
 import com.ganzi.backend.user.domain.repository.UserLikeRepository;
 import com.ganzi.backend.user.domain.repository.UserRepository;
+import com.ganzi.backend.user.infrastructure.persistence.UserInterestWeightJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -23,6 +27,9 @@ public class UserLikeService {
     private final UserRepository userRepository;
     private final AnimalRepository animalRepository;
     private final UserLikeRepository userLikeRepository;
+    private final UserInterestWeightJdbcRepository userInterestWeightJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InterestDecay interestDecay;
 
     @Transactional
     public void setUserLike(Long userId, String desertionNo, boolean liked) {
@@ -39,11 +46,22 @@ public class UserLikeService {
                         .liked(liked)
                         .build());
 
+        boolean wasLiked = userLike.getId() != null && userLike.isLiked();
+        // 좋아요 가중치 1.0도 좋아요한 시점(마지막 변경 시각)부터 감쇠하므로, 취소 시에는 현재까지 감쇠한 만큼을 뺀다
+        double likedWeight = wasLiked ? interestDecay.factor(userLike.getUpdatedAt(), LocalDateTime.now()) : 0.0;
         if (userLike.getId() != null) {
             userLike.updateLiked(liked);
         }
 
         userLikeRepository.save(userLike);
+
+        // 상태가 바뀐 경우에만 사용자 임베딩에 반영
+        if (liked != wasLiked) {
+            double weightDelta = liked ? 1.0 : -likedWeight;
+            UserInterestChangedEvent change = new UserInterestChangedEvent(userId, desertionNo, weightDelta);
+            userInterestWeightJdbcRepository.addAll(List.of(change));
+            eventPublisher.publishEvent(change);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,14 @@
+package com.ganzi.backend.user.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 대기 중인 관심(조회) 이벤트 한 건.
+ */
+public record UserInterestRecord(
+        Long userId,
+        String desertionNo,
+        int dwellTimeSeconds,
+        LocalDateTime viewedAt
+) {
+}
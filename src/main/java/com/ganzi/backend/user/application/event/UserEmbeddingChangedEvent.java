@@ -0,0 +1,9 @@
+package com.ganzi.backend.user.application.event;
+
+/**
+ * 사용자 임베딩이 다시 계산되거나 증분 갱신되었음을 알리는 이벤트.
+ */
+public record UserEmbeddingChangedEvent(
+        Long userId
+) {
+}
@@ -0,0 +1,11 @@
+package com.ganzi.backend.user.application.event;
+
+/**
+ * 관심 기록/좋아요 변경으로 사용자 임베딩에서 동물 한 마리의 가중치가 weightDelta만큼 바뀌었음을 알리는 이벤트.
+ */
+public record UserInterestChangedEvent(
+        Long userId,
+        String desertionNo,
+        double weightDelta
+) {
+}
@@ -1,5 +1,8 @@
 package com.ganzi.backend.user.domain;
 
+import com.ganzi.backend.global.embedding.EmbeddingVectorConverter;
+import com.ganzi.backend.global.embedding.EmbeddingVectors;
+import com.ganzi.backend.global.embedding.Float32VectorConverter;
 import com.ganzi.backend.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -25,18 +28,91 @@ public class UserEmbedding extends BaseEntity {
     @JoinColumn(name = "user_id")
     private User user;
 
+    // 바이너리 컬럼(embedding)으로 이관되기 전의 레거시 JSON
     @Lob
     @Column(name="embedding_json", columnDefinition = "TEXT")
     private String embeddingJson;
 
+    @Convert(converter = EmbeddingVectorConverter.class)
+    @Column(name = "embedding", columnDefinition = "MEDIUMBLOB")
+    private float[] embedding;
+
     @Column(name = "dimension")
     private Integer dimension;
 
+    // 관심/좋아요 가중치로 누적한 Σ(weight * 동물 원본 벡터)와 Σweight를 weightedSumAt 시점으로 감쇠한 값.
+    // embedding은 weightedSum을 정규화한 값
+    @Convert(converter = Float32VectorConverter.class)
+    @Column(name = "weighted_sum", columnDefinition = "MEDIUMBLOB")
+    private float[] weightedSum;
+
+    private Double totalWeight;
+
+    private LocalDateTime weightedSumAt;
+
     private LocalDateTime updatedAt;
 
-    public void updateUserEmbedding(String json, int dimension) {
-        this.embeddingJson = json;
-        this.dimension = dimension;
+    public void updateUserEmbedding(float[] embedding) {
+        this.embedding = embedding;
+        this.embeddingJson = null;
+        this.dimension = embedding.length;
         this.updatedAt = LocalDateTime.now();
     }
+
+    public boolean hasWeightedSum() {
+        return weightedSum != null && totalWeight != null && weightedSumAt != null;
+    }
+
+    /**
+     * 전체 재계산 결과(at 시점 기준)로 누적 값을 교체하고 embedding을 갱신합니다.
+     */
+    public void resetWeightedSum(float[] weightedSum, double totalWeight, LocalDateTime at) {
+        this.weightedSum = weightedSum;
+        this.totalWeight = totalWeight;
+        this.weightedSumAt = at;
+        refreshEmbedding();
+    }
+
+    /**
+     * 누적 값을 at 시점으로 옮깁니다. 모든 기여가 같은 비율로 줄어 embedding 방향은 그대로입니다.
+     */
+    public void decayTo(double factor, LocalDateTime at) {
+        if (factor != 1.0) {
+            float[] sum = weightedSum.clone();
+            for (int i = 0; i < sum.length; i++) {
+                sum[i] *= (float) factor;
+            }
+            this.weightedSum = sum;
+            this.totalWeight = totalWeight * factor;
+        }
+        this.weightedSumAt = at;
+    }
+
+    /**
+     * 누적 값에 {@code vector * scale}을 더하고 가중치 합을 weightDelta만큼 변경합니다. O(D)
+     */
+    public void applyWeightDelta(float[] vector, double scale, double weightDelta) {
+        if (vector.length != weightedSum.length) {
+            throw new IllegalArgumentException(
+                    "dimension mismatch: expected=" + weightedSum.length + ", actual=" + vector.length);
+        }
+        float[] sum = weightedSum.clone();
+        for (int i = 0; i < sum.length; i++) {
+            sum[i] += (float) (vector[i] * scale);
+        }
+        this.weightedSum = sum;
+        this.totalWeight = totalWeight + weightDelta;
+        refreshEmbedding();
+    }
+
+    // 가중 평균을 L2 정규화하면 가중 합을 정규화한 것과 같으므로 totalWeight로 나누지 않음
+    private void refreshEmbedding() {
+        if (totalWeight <= 0.0) {
+            return;
+        }
+        float[] unit = weightedSum.clone();
+        if (EmbeddingVectors.normalizeInPlace(unit) > 0) {
+            updateUserEmbedding(unit);
+        }
+    }
 }
@@ -0,0 +1,43 @@
+package com.ganzi.backend.user.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자-동물별 관심 가중치 집계. 관심 기록(조회 시간 가중치)과 좋아요(1.0)가 저장될 때 함께 누적되며,
+ * 사용자 임베딩 계산은 원본 관심 기록 대신 이 테이블을 읽습니다.
+ * 쓰기는 UserInterestWeightJdbcRepository의 upsert로만 이뤄집니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_interest_weights",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_interest_weights_user_animal",
+                columnNames = {"user_id", "desertion_no"}))
+public class UserInterestWeight {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "desertion_no", nullable = false)
+    private String desertionNo;
+
+    @Column(nullable = false)
+    private double weight;
+
+    @Column(nullable = false)
+    private LocalDateTime lastSeen;
+}
@@ -0,0 +1,37 @@
+package com.ganzi.backend.user.domain;
+
+import com.ganzi.backend.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원본 관심 기록/좋아요를 user_interest_weights로 옮긴 이관 기록. 행이 있으면 이관이 끝난 것입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_interest_weight_backfills")
+public class UserInterestWeightBackfill extends BaseEntity {
+
+    @Id
+    private String name;
+
+    // 이 시각 이전의 원본 기록까지 이관했고, 이후 기록은 관심/좋아요 저장 시 바로 집계된다
+    @Column(nullable = false)
+    private LocalDateTime cutoff;
+
+    private UserInterestWeightBackfill(String name, LocalDateTime cutoff) {
+        this.name = name;
+        this.cutoff = cutoff;
+    }
+
+    public static UserInterestWeightBackfill of(String name, LocalDateTime cutoff) {
+        return new UserInterestWeightBackfill(name, cutoff);
+    }
+}
@@ -1,10 +1,29 @@
 package com.ganzi.backend.user.domain.repository;
 
 import com.ganzi.backend.user.domain.UserEmbedding;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserEmbeddingRepository extends JpaRepository<UserEmbedding, Long> {
     Optional<UserEmbedding> findByUserId(Long userId);
+
+    // 같은 사용자의 동시 이벤트가 누적 합을 덮어쓰지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM UserEmbedding e WHERE e.user.id = :userId")
+    Optional<UserEmbedding> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    @Query("SELECT e.user.id FROM UserEmbedding e WHERE e.user.id > :after ORDER BY e.user.id")
+    List<Long> findUserIdsAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("SELECT e FROM UserEmbedding e " +
+            "WHERE e.embedding IS NULL AND e.embeddingJson IS NOT NULL AND e.id > :after " +
+            "ORDER BY e.id")
+    List<UserEmbedding> findLegacyJsonAfter(@Param("after") Long after, Pageable pageable);
 }
@@ -0,0 +1,7 @@
+package com.ganzi.backend.user.domain.repository;
+
+import com.ganzi.backend.user.domain.UserInterestWeightBackfill;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserInterestWeightBackfillRepository extends JpaRepository<UserInterestWeightBackfill, String> {
+}
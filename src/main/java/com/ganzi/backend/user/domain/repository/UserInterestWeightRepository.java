@@ -0,0 +1,11 @@
+package com.ganzi.backend.user.domain.repository;
+
+import com.ganzi.backend.user.domain.UserInterestWeight;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserInterestWeightRepository extends JpaRepository<UserInterestWeight, Long> {
+    List<UserInterestWeight> findByUserIdAndLastSeenAfter(Long userId, LocalDateTime lastSeen);
+}
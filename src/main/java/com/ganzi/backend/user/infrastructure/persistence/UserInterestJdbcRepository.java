@@ -0,0 +1,99 @@
+package com.ganzi.backend.user.infrastructure.persistence;
+
+import com.ganzi.backend.user.application.dto.UserInterestRecord;
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 버퍼에 모인 user_interests 다건 INSERT.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class UserInterestJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO user_interests "
+            + "(user_id, animal_desertion_no, viewed_at, dwell_time_seconds, liked, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, false, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 배치로 저장하고 저장된 건을 반환합니다. 존재하지 않는 동물 등으로 배치가 실패하면
+     * 드라이버가 보고한 건별 결과(getUpdateCounts)로 이미 저장된 건은 그대로 두고, 실패했거나 실행되지 않은 건만 한 건씩 다시 저장합니다.
+     */
+    public List<UserInterestRecord> insertAll(List<UserInterestRecord> records) {
+        if (records.isEmpty()) {
+            return records;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (ps, record) -> {
+                ps.setLong(1, record.userId());
+                ps.setString(2, record.desertionNo());
+                ps.setTimestamp(3, Timestamp.valueOf(record.viewedAt()));
+                ps.setInt(4, record.dwellTimeSeconds());
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            });
+            return records;
+        } catch (DataAccessException e) {
+            BatchUpdateException batchFailure = findBatchUpdateException(e);
+            if (batchFailure == null) {
+                throw e;
+            }
+            log.warn("관심 기록 배치 저장 실패로 실패한 건만 건별 저장으로 전환 - {}건", records.size(), e);
+            return insertFailed(records, batchFailure.getUpdateCounts(), now);
+        }
+    }
+
+    /**
+     * viewedAt이 기준 시각 이전인 원본 관심 기록을 최대 limit건 삭제합니다. (MySQL DELETE ... LIMIT)
+     */
+    public int deleteViewedBefore(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.update("DELETE FROM user_interests WHERE viewed_at < ? LIMIT ?",
+                Timestamp.valueOf(threshold), limit);
+    }
+
+    /**
+     * 드라이버에 따라 실패 이후 건을 계속 실행하거나(실패 건만 EXECUTE_FAILED) 중단하거나(실행된 앞부분까지만 결과 반환),
+     * multi-row INSERT로 재작성해 전체를 EXECUTE_FAILED로 보고합니다. 어느 경우든 성공으로 보고된 건은 이미 저장된 것입니다.
+     */
+    private List<UserInterestRecord> insertFailed(List<UserInterestRecord> records, int[] updateCounts, Timestamp now) {
+        List<UserInterestRecord> inserted = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            UserInterestRecord record = records.get(i);
+            if (i < updateCounts.length && updateCounts[i] != Statement.EXECUTE_FAILED) {
+                inserted.add(record);
+                continue;
+            }
+            try {
+                jdbcTemplate.update(INSERT_SQL, record.userId(), record.desertionNo(),
+                        Timestamp.valueOf(record.viewedAt()), record.dwellTimeSeconds(), now, now);
+                inserted.add(record);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("관심 기록 저장 건너뜀 userId={}, desertionNo={}", record.userId(), record.desertionNo());
+            }
+        }
+        return inserted;
+    }
+
+    private BatchUpdateException findBatchUpdateException(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BatchUpdateException batchUpdateException) {
+                return batchUpdateException;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.ganzi.backend.user.infrastructure.persistence;
+
+import com.ganzi.backend.user.application.InterestDecay;
+import com.ganzi.backend.user.application.event.UserInterestChangedEvent;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * user_interest_weights 집계 upsert. (user_id, desertion_no) 유니크 키로 가중치를 더합니다.
+ * weight는 last_seen 시점으로 감쇠한 값이며, 더하기 전에 기존 값을 새 시점으로 감쇠시킵니다. ({@link InterestDecay})
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserInterestWeightJdbcRepository {
+
+    // MySQL은 ON DUPLICATE KEY UPDATE 절을 왼쪽부터 적용하므로 weight 계산 시점의 last_seen은 이전 값이다
+    private static final String UPSERT_SQL = "INSERT INTO user_interest_weights (user_id, desertion_no, weight, last_seen) "
+            + "VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "weight = weight * POW(0.5, GREATEST(TIMESTAMPDIFF(SECOND, last_seen, VALUES(last_seen)), 0) / ?) + VALUES(weight), "
+            + "last_seen = GREATEST(last_seen, VALUES(last_seen))";
+
+    // 가중치 식은 UserInterestService.interestWeight와 같아야 한다. 이미 집계된 행이 있으면 UPSERT_SQL처럼 감쇠시킨 뒤 더한다
+    private static final String BACKFILL_SQL = "INSERT INTO user_interest_weights (user_id, desertion_no, weight, last_seen) "
+            + "SELECT user_id, desertion_no, "
+            + "       SUM(weight * POW(0.5, GREATEST(TIMESTAMPDIFF(SECOND, seen_at, ?), 0) / ?)), ? "
+            + "FROM ("
+            + "  SELECT user_id, animal_desertion_no AS desertion_no, "
+            + "         LEAST(0.1 + COALESCE(dwell_time_seconds, 0) * 0.02, 0.3) AS weight, viewed_at AS seen_at "
+            + "  FROM user_interests WHERE viewed_at < ?"
+            + "  UNION ALL"
+            + "  SELECT user_id, animal_desertion_no, 1.0, updated_at FROM user_likes WHERE liked = true AND updated_at < ?"
+            + ") t GROUP BY user_id, desertion_no "
+            + "ON DUPLICATE KEY UPDATE "
+            + "weight = weight * POW(0.5, GREATEST(TIMESTAMPDIFF(SECOND, last_seen, VALUES(last_seen)), 0) / ?) + VALUES(weight), "
+            + "last_seen = GREATEST(last_seen, VALUES(last_seen))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InterestDecay interestDecay;
+
+    public void addAll(List<UserInterestChangedEvent> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        double halfLifeSeconds = interestDecay.halfLifeSecondsForSql();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setLong(1, change.userId());
+            ps.setString(2, change.desertionNo());
+            ps.setDouble(3, change.weightDelta());
+            ps.setTimestamp(4, now);
+            ps.setDouble(5, halfLifeSeconds);
+        });
+    }
+
+    /**
+     * cutoff 이전의 원본 관심 기록/좋아요를 cutoff 시점으로 감쇠시켜 집계에 더하고 영향받은 행 수를 반환합니다.
+     */
+    public int backfillBefore(LocalDateTime cutoff) {
+        Timestamp at = Timestamp.valueOf(cutoff);
+        double halfLifeSeconds = interestDecay.halfLifeSecondsForSql();
+        return jdbcTemplate.update(BACKFILL_SQL, at, halfLifeSeconds, at, at, at, halfLifeSeconds);
+    }
+
+    /**
+     * 감쇠 한계 시각 이전에 마지막으로 갱신된 집계를 최대 limit건 삭제합니다. (MySQL DELETE ... LIMIT)
+     */
+    public int deleteLastSeenBefore(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.update("DELETE FROM user_interest_weights WHERE last_seen < ? LIMIT ?",
+                Timestamp.valueOf(threshold), limit);
+    }
+}
@@ -0,0 +1,50 @@
+package com.ganzi.backend.user.infrastructure.scheduler;
+
+import com.ganzi.backend.user.application.UserInterestService;
+import com.ganzi.backend.user.domain.repository.UserEmbeddingRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 증분 갱신으로 쌓인 float 누적 오차와 동물 임베딩 재생성분을 바로잡기 위해
+ * 사용자 임베딩을 저장된 관심/좋아요 전체로 주기적으로 다시 계산합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEmbeddingRecomputeScheduler {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final UserEmbeddingRepository userEmbeddingRepository;
+    private final UserInterestService userInterestService;
+
+    @Scheduled(cron = "${user.embedding.recompute-cron:0 30 4 * * *}")
+    public void recomputeUserEmbeddings() {
+        log.info("사용자 임베딩 전체 재계산 시작");
+        long lastUserId = 0L;
+        int recomputed = 0;
+        int failed = 0;
+        while (true) {
+            List<Long> userIds = userEmbeddingRepository.findUserIdsAfter(lastUserId, PageRequest.of(0, PAGE_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            for (Long userId : userIds) {
+                try {
+                    userInterestService.computeUserEmbedding(userId);
+                    recomputed++;
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("사용자 임베딩 재계산 실패 userId={}", userId, e);
+                }
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+        log.info("사용자 임베딩 전체 재계산 완료 - 성공: {}, 실패: {}", recomputed, failed);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ganzi.backend.user.infrastructure.scheduler;
+
+import com.ganzi.backend.user.application.InterestDecay;
+import com.ganzi.backend.user.application.UserInterestWeightMigrationService;
+import com.ganzi.backend.user.infrastructure.persistence.UserInterestJdbcRepository;
+import com.ganzi.backend.user.infrastructure.persistence.UserInterestWeightJdbcRepository;
+import java.time.LocalDateTime;
+import java.util.function.IntUnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가중치가 user_interest_weights에 집계된 뒤에는 원본 관심 기록을 읽지 않으므로,
+ * 보존 기간이 지난 기록과 무시할 수 있을 만큼 감쇠한 집계를 나눠서 삭제합니다.
+ */
+@Slf4j
+@Component
+public class UserInterestCompactionScheduler {
+
+    private static final int DELETE_CHUNK_SIZE = 5000;
+
+    private final UserInterestJdbcRepository userInterestJdbcRepository;
+    private final UserInterestWeightJdbcRepository userInterestWeightJdbcRepository;
+    private final UserInterestWeightMigrationService userInterestWeightMigrationService;
+    private final InterestDecay interestDecay;
+    private final int retentionDays;
+
+    public UserInterestCompactionScheduler(
+            UserInterestJdbcRepository userInterestJdbcRepository,
+            UserInterestWeightJdbcRepository userInterestWeightJdbcRepository,
+            UserInterestWeightMigrationService userInterestWeightMigrationService,
+            InterestDecay interestDecay,
+            @Value("${user.interest.raw-retention-days:90}") int retentionDays
+    ) {
+        this.userInterestJdbcRepository = userInterestJdbcRepository;
+        this.userInterestWeightJdbcRepository = userInterestWeightJdbcRepository;
+        this.userInterestWeightMigrationService = userInterestWeightMigrationService;
+        this.interestDecay = interestDecay;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(cron = "${user.interest.compaction-cron:0 0 5 * * *}")
+    public void compactRawInterests() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime rawThreshold = now.minusDays(retentionDays);
+        // 집계 이관 전에 지우면 이관되지 않은 관심 기록이 사라진다
+        if (userInterestWeightMigrationService.isCompleted()) {
+            deleteInChunks("원본 관심 기록", limit -> userInterestJdbcRepository.deleteViewedBefore(rawThreshold, limit));
+        } else {
+            log.warn("사용자 관심 가중치 집계 이관 전이라 원본 관심 기록 정리를 건너뜀");
+        }
+        if (interestDecay.isEnabled()) {
+            LocalDateTime horizon = interestDecay.horizon(now);
+            deleteInChunks("감쇠한 관심 가중치", limit -> userInterestWeightJdbcRepository.deleteLastSeenBefore(horizon, limit));
+        }
+    }
+
+    private void deleteInChunks(String target, IntUnaryOperator deleteChunk) {
+        int deleted = 0;
+        try {
+            int chunk;
+            do {
+                chunk = deleteChunk.applyAsInt(DELETE_CHUNK_SIZE);
+                deleted += chunk;
+            } while (chunk == DELETE_CHUNK_SIZE);
+            log.info("{} 정리 완료 - {}건 삭제", target, deleted);
+        } catch (Exception e) {
+            log.error("{} 정리 실패 - {}건 삭제 후 중단", target, deleted, e);
+        }
+    }
+}
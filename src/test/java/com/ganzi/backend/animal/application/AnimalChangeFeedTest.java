@@ -0,0 +1,144 @@
+package com.ganzi.backend.animal.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ganzi.backend.animal.domain.AnimalChangeCheckpoint;
+import com.ganzi.backend.animal.domain.AnimalChangeLog;
+import com.ganzi.backend.animal.domain.AnimalChangeType;
+import com.ganzi.backend.animal.domain.ProcessState;
+import com.ganzi.backend.animal.domain.repository.AnimalChangeCheckpointRepository;
+import com.ganzi.backend.animal.domain.repository.AnimalChangeLogRepository;
+import com.ganzi.backend.animal.infrastructure.persistence.AnimalChangeLogJdbcRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnimalChangeFeed 단위 테스트")
+class AnimalChangeFeedTest {
+
+    @Mock
+    private AnimalChangeLogRepository changeLogRepository;
+
+    @Mock
+    private AnimalChangeCheckpointRepository checkpointRepository;
+
+    @Mock
+    private AnimalChangeLogJdbcRepository changeLogJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<AnimalChangeCheckpoint> checkpointCaptor;
+
+    @Test
+    @DisplayName("체크포인트 이후의 로그를 배치 단위로 전달하고 배치마다 체크포인트 전진")
+    void 체크포인트_이후의_로그를_배치_단위로_전달하고_배치마다_체크포인트_전진() {
+        // given
+        RecordingConsumer consumer = new RecordingConsumer(false);
+        AnimalChangeFeed feed = 테스트용_피드_생성(consumer);
+        given(checkpointRepository.findById("test")).willReturn(Optional.empty());
+        given(changeLogRepository.findSettledAfter(eq(0L), any(), any())).willReturn(List.of(
+                테스트용_로그_생성(1L, "A1"), 테스트용_로그_생성(2L, "A2")));
+        given(changeLogRepository.findSettledAfter(eq(2L), any(), any())).willReturn(List.of(
+                테스트용_로그_생성(3L, "A3")));
+        given(changeLogRepository.findSettledAfter(eq(3L), any(), any())).willReturn(List.of());
+
+        // when
+        int delivered = feed.drain(consumer);
+
+        // then
+        assertThat(delivered).isEqualTo(3);
+        assertThat(consumer.received).containsExactly("A1", "A2", "A3");
+        verify(checkpointRepository, times(2)).save(checkpointCaptor.capture());
+        assertThat(checkpointCaptor.getAllValues().getLast().getLastSequence()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("구독자가 실패하면 체크포인트를 남기지 않고 중단")
+    void 구독자가_실패하면_체크포인트를_남기지_않고_중단() {
+        // given
+        RecordingConsumer consumer = new RecordingConsumer(true);
+        AnimalChangeFeed feed = 테스트용_피드_생성(consumer);
+        AnimalChangeCheckpoint checkpoint = AnimalChangeCheckpoint.of("test");
+        checkpoint.advanceTo(5L);
+        given(checkpointRepository.findById("test")).willReturn(Optional.of(checkpoint));
+        given(changeLogRepository.findSettledAfter(eq(5L), any(), any())).willReturn(List.of(
+                테스트용_로그_생성(6L, "A6")));
+
+        // when
+        int delivered = feed.drain(consumer);
+
+        // then
+        assertThat(delivered).isZero();
+        verify(checkpointRepository, never()).save(any());
+        verify(changeLogRepository, never()).findSettledAfter(eq(6L), any(), any());
+    }
+
+    @Test
+    @DisplayName("체크포인트가 없는 구독자가 있으면 로그를 정리하지 않음")
+    void 체크포인트가_없는_구독자가_있으면_로그를_정리하지_않음() {
+        // given
+        AnimalChangeFeed feed = 테스트용_피드_생성(new RecordingConsumer(false));
+        given(checkpointRepository.findById("test")).willReturn(Optional.empty());
+
+        // when
+        feed.prune();
+
+        // then
+        verify(changeLogRepository, never()).deleteConsumedBefore(anyLong(), any());
+    }
+
+    // 테스트 헬퍼 메서드
+    private AnimalChangeFeed 테스트용_피드_생성(AnimalChangeConsumer consumer) {
+        return new AnimalChangeFeed(changeLogRepository, checkpointRepository, changeLogJdbcRepository,
+                List.of(consumer), new TransactionTemplate(transactionManager), Runnable::run, 2, 0, 30);
+    }
+
+    private AnimalChangeLog 테스트용_로그_생성(long sequence, String desertionNo) {
+        AnimalChangeLog change = AnimalChangeLog.of(desertionNo, AnimalChangeType.INSERTED, ProcessState.PROTECTING);
+        ReflectionTestUtils.setField(change, "sequence", sequence);
+        return change;
+    }
+
+    private static class RecordingConsumer implements AnimalChangeConsumer {
+
+        private final boolean failing;
+        private final List<String> received = new ArrayList<>();
+
+        RecordingConsumer(boolean failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public String consumerName() {
+            return "test";
+        }
+
+        @Override
+        public void onChanges(List<AnimalChangeLog> changes) {
+            if (failing) {
+                throw new IllegalStateException("consumer failure");
+            }
+            changes.forEach(change -> received.add(change.getDesertionNo()));
+        }
+    }
+}
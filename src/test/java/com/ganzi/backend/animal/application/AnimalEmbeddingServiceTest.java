@@ -0,0 +1,250 @@
+package com.ganzi.backend.animal.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ganzi.backend.animal.application.event.AnimalEmbeddingUpdatedEvent;
+import com.ganzi.backend.animal.domain.Animal;
+import com.ganzi.backend.animal.domain.AnimalChangeLog;
+import com.ganzi.backend.animal.domain.AnimalChangeType;
+import com.ganzi.backend.animal.domain.AnimalType;
+import com.ganzi.backend.animal.domain.ProcessState;
+import com.ganzi.backend.animal.domain.repository.AnimalEmbeddingFailureRepository;
+import com.ganzi.backend.animal.domain.repository.AnimalEmbeddingHashRow;
+import com.ganzi.backend.animal.domain.repository.AnimalEmbeddingRepository;
+import com.ganzi.backend.animal.domain.repository.AnimalRepository;
+import com.ganzi.backend.animal.infrastructure.client.UpstageEmbeddingClient;
+import com.ganzi.backend.animal.infrastructure.mapper.AnimalEmbeddingMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnimalEmbeddingService 단위 테스트")
+class AnimalEmbeddingServiceTest {
+
+    @Mock
+    private AnimalRepository animalRepository;
+
+    @Mock
+    private AnimalEmbeddingRepository embeddingRepository;
+
+    @Mock
+    private AnimalEmbeddingFailureRepository failureRepository;
+
+    @Mock
+    private UpstageEmbeddingClient embeddingClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Captor
+    private ArgumentCaptor<List<String>> textsCaptor;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("페이지를 배치 크기로 나눠 배치당 한 번만 임베딩 API 호출")
+    void 페이지를_배치_크기로_나눠_배치당_한_번만_임베딩_API_호출() {
+        // given
+        AnimalEmbeddingService service = 테스트용_서비스_생성(64, 2);
+        List<Animal> animals = 테스트용_Animal_목록_생성(130);
+        given(animalRepository.findPageAfter(eq(""), any())).willReturn(animals.subList(0, 128));
+        given(animalRepository.findPageAfter(eq(animals.get(127).getDesertionNo()), any()))
+                .willReturn(animals.subList(128, 130));
+        given(animalRepository.findPageAfter(eq(animals.get(129).getDesertionNo()), any())).willReturn(List.of());
+        given(embeddingClient.embedTexts(anyList())).willAnswer(invocation -> 테스트용_벡터_생성(invocation.getArgument(0)));
+
+        // when
+        int saved = service.generateAllEmbeddings(EmbeddingGenerationMode.ALL);
+
+        // then
+        assertThat(saved).isEqualTo(130);
+        verify(embeddingClient, times(3)).embedTexts(anyList());
+        verify(embeddingRepository, times(3)).saveAll(anyList());
+        verify(eventPublisher, times(130)).publishEvent(any(AnimalEmbeddingUpdatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("동시에 진행되는 배치 수는 max-in-flight를 넘지 않음")
+    void 동시에_진행되는_배치_수는_max_in_flight를_넘지_않음() {
+        // given
+        AnimalEmbeddingService service = 테스트용_서비스_생성(2, 2);
+        List<Animal> animals = 테스트용_Animal_목록_생성(20);
+        given(animalRepository.findPageAfter(anyString(), any())).willAnswer(invocation -> {
+            String after = invocation.getArgument(0);
+            return animals.stream().filter(animal -> animal.getDesertionNo().compareTo(after) > 0).limit(4).toList();
+        });
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        given(embeddingClient.embedTexts(anyList())).willAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return 테스트용_벡터_생성(invocation.getArgument(0));
+        });
+
+        // when
+        int saved = service.generateAllEmbeddings(EmbeddingGenerationMode.ALL);
+
+        // then
+        assertThat(saved).isEqualTo(20);
+        assertThat(maxRunning.get()).isBetween(1, 2);
+        verify(embeddingClient, times(10)).embedTexts(anyList());
+    }
+
+    @Test
+    @DisplayName("응답 수가 다르거나 호출이 실패한 배치만 실패 목록에 남기고 나머지는 저장")
+    void 응답_수가_다르거나_호출이_실패한_배치만_실패_목록에_남기고_나머지는_저장() {
+        // given
+        AnimalEmbeddingService service = 테스트용_서비스_생성(2, 4);
+        List<Animal> animals = 테스트용_Animal_목록_생성(6);
+        given(animalRepository.findPageAfter(eq(""), any())).willReturn(animals);
+        given(animalRepository.findPageAfter(eq(animals.getLast().getDesertionNo()), any())).willReturn(List.of());
+        AtomicInteger calls = new AtomicInteger();
+        given(embeddingClient.embedTexts(anyList())).willAnswer(invocation -> {
+            List<String> inputs = invocation.getArgument(0);
+            return switch (calls.incrementAndGet()) {
+                case 1 -> 테스트용_벡터_생성(inputs.subList(0, 1));
+                case 2 -> throw new IllegalStateException("stub failure");
+                default -> 테스트용_벡터_생성(inputs);
+            };
+        });
+
+        // when
+        int saved = service.generateAllEmbeddings(EmbeddingGenerationMode.ALL);
+
+        // then
+        assertThat(saved).isEqualTo(2);
+        verify(embeddingRepository, times(1)).saveAll(anyList());
+        verify(failureRepository, times(2)).saveAll(any());
+        verify(failureRepository, times(1)).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("입력 해시와 모델이 같은 동물은 임베딩 API 호출 없이 건너뜀")
+    void 입력_해시와_모델이_같은_동물은_임베딩_API_호출_없이_건너뜀() {
+        // given
+        AnimalEmbeddingService service = 테스트용_서비스_생성(64, 1);
+        List<Animal> animals = 테스트용_Animal_목록_생성(3);
+        AnimalEmbeddingMapper mapper = new AnimalEmbeddingMapper();
+        String unchangedHash = mapper.toInputHash(mapper.toEmbeddingInput(animals.get(0)));
+        String modelChangedHash = mapper.toInputHash(mapper.toEmbeddingInput(animals.get(1)));
+        given(animalRepository.findPageAfter(eq(""), any())).willReturn(animals);
+        given(animalRepository.findPageAfter(eq(animals.getLast().getDesertionNo()), any())).willReturn(List.of());
+        given(embeddingClient.model()).willReturn("model-v2");
+        given(embeddingRepository.findHashRowsByDesertionNoIn(anyList())).willReturn(List.of(
+                new AnimalEmbeddingHashRow(animals.get(0).getDesertionNo(), unchangedHash, "model-v2"),
+                new AnimalEmbeddingHashRow(animals.get(1).getDesertionNo(), modelChangedHash, "model-v1")));
+        given(embeddingClient.embedTexts(anyList())).willAnswer(invocation -> 테스트용_벡터_생성(invocation.getArgument(0)));
+
+        // when
+        int saved = service.generateAllEmbeddings(EmbeddingGenerationMode.CHANGED);
+
+        // then
+        assertThat(saved).isEqualTo(2);
+        verify(embeddingClient).embedTexts(textsCaptor.capture());
+        assertThat(textsCaptor.getValue()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("MISSING 모드는 임베딩 행이 없는 동물만 조회하고 해시를 비교하지 않음")
+    void MISSING_모드는_임베딩_행이_없는_동물만_조회하고_해시를_비교하지_않음() {
+        // given
+        AnimalEmbeddingService service = 테스트용_서비스_생성(64, 1);
+        List<Animal> animals = 테스트용_Animal_목록_생성(2);
+        given(animalRepository.findPageWithoutEmbeddingAfter(eq(""), any())).willReturn(animals);
+        given(animalRepository.findPageWithoutEmbeddingAfter(eq(animals.getLast().getDesertionNo()), any()))
+                .willReturn(List.of());
+        given(embeddingClient.embedTexts(anyList())).willAnswer(invocation -> 테스트용_벡터_생성(invocation.getArgument(0)));
+
+        // when
+        int saved = service.generateAllEmbeddings(EmbeddingGenerationMode.MISSING);
+
+        // then
+        assertThat(saved).isEqualTo(2);
+        verify(animalRepository, never()).findPageAfter(anyString(), any());
+        verify(embeddingRepository, never()).findHashRowsByDesertionNoIn(anyList());
+    }
+
+    @Test
+    @DisplayName("변경 피드의 신규/갱신 동물만 배치 크기로 나눠 임베딩하고 상태 변경은 무시")
+    void 변경_피드의_신규_갱신_동물만_배치_크기로_나눠_임베딩하고_상태_변경은_무시() {
+        // given
+        AnimalEmbeddingService service = 테스트용_서비스_생성(2, 1);
+        List<Animal> animals = 테스트용_Animal_목록_생성(3);
+        List<String> desertionNos = animals.stream().map(Animal::getDesertionNo).toList();
+        List<AnimalChangeLog> changes = List.of(
+                AnimalChangeLog.of(desertionNos.get(0), AnimalChangeType.INSERTED, ProcessState.PROTECTING),
+                AnimalChangeLog.of(desertionNos.get(1), AnimalChangeType.UPDATED, ProcessState.PROTECTING),
+                AnimalChangeLog.of(desertionNos.get(1), AnimalChangeType.STATUS_CHANGED, ProcessState.PROTECTING),
+                AnimalChangeLog.of(desertionNos.get(2), AnimalChangeType.UPDATED, ProcessState.PROTECTING),
+                AnimalChangeLog.of("TEST9999", AnimalChangeType.STATUS_CHANGED, ProcessState.ADOPTED));
+        given(animalRepository.findAllById(desertionNos)).willReturn(animals);
+        given(embeddingClient.embedTexts(anyList())).willAnswer(invocation -> 테스트용_벡터_생성(invocation.getArgument(0)));
+
+        // when
+        service.onChanges(changes);
+
+        // then
+        verify(embeddingClient, times(2)).embedTexts(anyList());
+        verify(embeddingRepository, times(2)).findHashRowsByDesertionNoIn(anyList());
+        verify(eventPublisher, times(3)).publishEvent(any(AnimalEmbeddingUpdatedEvent.class));
+    }
+
+    // 테스트 헬퍼 메서드
+    private AnimalEmbeddingService 테스트용_서비스_생성(int batchSize, int maxInFlight) {
+        return new AnimalEmbeddingService(animalRepository, embeddingRepository, failureRepository, embeddingClient,
+                new AnimalEmbeddingMapper(), eventPublisher, new TransactionTemplate(transactionManager),
+                executor, batchSize, maxInFlight);
+    }
+
+    private List<Animal> 테스트용_Animal_목록_생성(int count) {
+        List<Animal> animals = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            animals.add(Animal.builder()
+                    .desertionNo(String.format("TEST%04d", i))
+                    .breedName("말티즈")
+                    .animalType(AnimalType.DOG)
+                    .status(ProcessState.PROTECTING)
+                    .build());
+        }
+        return animals;
+    }
+
+    private List<float[]> 테스트용_벡터_생성(List<String> inputs) {
+        List<float[]> vectors = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            vectors.add(new float[]{1.0f, (float) i});
+        }
+        return vectors;
+    }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.ganzi.backend.animal.api.dto.request.AnimalSearchRequest;
@@ -148,6 +149,26 @@ class AnimalServiceTest {
         verify(animalRepository).findById(desertionNo);
     }
 
+    @Test
+    @DisplayName("동물 일괄 상세 조회 - 요청 순서 유지 및 없는 동물 제외")
+    void 동물_일괄_상세_조회_요청_순서_유지_및_없는_동물_제외() {
+        // given
+        Animal animal1 = 테스트용_Animal_생성("TEST001");
+        Animal animal2 = 테스트용_Animal_생성("TEST002");
+        List<String> desertionNos = List.of("TEST002", "NOTFOUND001", "TEST001");
+
+        given(animalRepository.findAllWithImagesByDesertionNoIn(desertionNos))
+                .willReturn(List.of(animal1, animal2));
+
+        // when
+        List<AnimalDetailResponse> result = animalService.findAnimalsByIds(desertionNos);
+
+        // then
+        assertThat(result).extracting(AnimalDetailResponse::desertionNo)
+                .containsExactly("TEST002", "TEST001");
+        verify(animalRepository).findAllWithImagesByDesertionNoIn(desertionNos);
+    }
+
     @Test
     @DisplayName("시도 목록 조회 성공")
     void 시도_목록_조회_성공() {
@@ -216,10 +237,41 @@ class AnimalServiceTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("존재가 확인된 동물은 다시 조회하지 않음")
+    void 존재가_확인된_동물은_다시_조회하지_않음() {
+        // given
+        given(animalRepository.existsById("TEST001")).willReturn(true);
+
+        // when
+        animalService.validateAnimalExists("TEST001");
+        animalService.validateAnimalExists("TEST001");
+
+        // then
+        verify(animalRepository, times(1)).existsById("TEST001");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 동물이면 ANIMAL_NOT_FOUND 예외 발생")
+    void 존재하지_않는_동물이면_ANIMAL_NOT_FOUND_예외_발생() {
+        // given
+        given(animalRepository.existsById("NONE")).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> animalService.validateAnimalExists("NONE"))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code")
+                .isEqualTo(ErrorStatus.ANIMAL_NOT_FOUND);
+    }
+
     // 테스트 헬퍼 메서드
     private Animal 테스트용_Animal_생성() {
+        return 테스트용_Animal_생성("TEST001");
+    }
+
+    private Animal 테스트용_Animal_생성(String desertionNo) {
         return Animal.builder()
-                .desertionNo("TEST001")
+                .desertionNo(desertionNo)
                 .rfidCode("RFID001")
                 .breedName("말티즈")
                 .animalType(AnimalType.DOG)
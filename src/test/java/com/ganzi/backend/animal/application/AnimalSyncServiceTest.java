@@ -1,21 +1,50 @@
 package com.ganzi.backend.animal.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.ganzi.backend.animal.application.event.AnimalAttributesChangedEvent;
+import com.ganzi.backend.animal.application.event.AnimalAttributesChangedEvent.ChangedAnimal;
+import com.ganzi.backend.animal.application.event.AnimalProtectionEndedEvent;
+import com.ganzi.backend.animal.application.event.AnimalSyncCompletedEvent;
 import com.ganzi.backend.animal.domain.Animal;
+import com.ganzi.backend.animal.domain.AnimalChangeLog;
+import com.ganzi.backend.animal.domain.AnimalChangeType;
+import com.ganzi.backend.animal.domain.AnimalSyncMode;
+import com.ganzi.backend.animal.domain.AnimalSyncPageLog;
+import com.ganzi.backend.animal.domain.AnimalSyncRun;
+import com.ganzi.backend.animal.domain.AnimalSyncType;
 import com.ganzi.backend.animal.domain.AnimalType;
 import com.ganzi.backend.animal.domain.NeuterStatus;
 import com.ganzi.backend.animal.domain.ProcessState;
 import com.ganzi.backend.animal.domain.Sex;
+import com.ganzi.backend.animal.domain.repository.AnimalFingerprintRow;
 import com.ganzi.backend.animal.domain.repository.AnimalRepository;
+import com.ganzi.backend.animal.infrastructure.client.AnimalApiClient;
 import com.ganzi.backend.animal.infrastructure.dto.AnimalApiItem;
+import com.ganzi.backend.animal.infrastructure.dto.AnimalApiResponse;
 import com.ganzi.backend.animal.infrastructure.mapper.AnimalMapper;
+import com.ganzi.backend.animal.infrastructure.persistence.AnimalJdbcRepository;
+import com.ganzi.backend.global.code.status.ErrorStatus;
+import com.ganzi.backend.global.exception.GeneralException;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +53,10 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AnimalSyncService 단위 테스트")
@@ -32,23 +65,47 @@ class AnimalSyncServiceTest {
     @Mock
     private AnimalRepository animalRepository;
 
+    @Mock
+    private AnimalJdbcRepository animalJdbcRepository;
+
+    @Mock
+    private AnimalChangeFeed animalChangeFeed;
+
     @Mock
     private AnimalMapper animalMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AnimalApiClient animalApiClient;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private AnimalSyncRunService animalSyncRunService;
+
     @InjectMocks
     private AnimalSyncService animalSyncService;
 
     @Captor
     private ArgumentCaptor<List<Animal>> animalListCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<AnimalChangeLog>> changeListCaptor;
+
+    @Captor
+    private ArgumentCaptor<AnimalSyncPageLog> pageLogCaptor;
+
     @Test
     @DisplayName("신규 동물 데이터 저장 성공")
     void 신규_동물_데이터_저장_성공() {
         // given
-        AnimalApiItem item = new AnimalApiItem();
+        AnimalApiItem item = 테스트용_Item_생성("TEST001");
         Animal animal = 테스트용_Animal_생성();
 
-        given(animalRepository.existsById(any())).willReturn(false);
+        given(animalRepository.findExistingDesertionNos(List.of("TEST001"))).willReturn(List.of());
         given(animalMapper.toEntity(item)).willReturn(animal);
 
         // when
@@ -56,18 +113,22 @@ class AnimalSyncServiceTest {
 
         // then
         assertThat(savedCount).isEqualTo(1);
-        verify(animalRepository).saveAll(animalListCaptor.capture());
+        verify(animalJdbcRepository).insertAll(animalListCaptor.capture());
         assertThat(animalListCaptor.getValue()).hasSize(1);
         assertThat(animalListCaptor.getValue().get(0)).isEqualTo(animal);
+        verify(animalChangeFeed).append(changeListCaptor.capture());
+        assertThat(changeListCaptor.getValue())
+                .extracting(AnimalChangeLog::getChangeType)
+                .containsExactly(AnimalChangeType.INSERTED);
     }
 
     @Test
     @DisplayName("이미 존재하는 동물은 스킵")
     void 이미_존재하는_동물은_스킵() {
         // given
-        AnimalApiItem item = new AnimalApiItem();
+        AnimalApiItem item = 테스트용_Item_생성("TEST001");
 
-        given(animalRepository.existsById(any())).willReturn(true);
+        given(animalRepository.findExistingDesertionNos(any())).willReturn(List.of("TEST001"));
 
         // when
         int savedCount = animalSyncService.saveAnimalsInTransaction(List.of(item));
@@ -75,21 +136,49 @@ class AnimalSyncServiceTest {
         // then
         assertThat(savedCount).isEqualTo(0);
         verify(animalMapper, never()).toEntity(any());
-        verify(animalRepository, never()).saveAll(any());
+        verify(animalJdbcRepository, never()).insertAll(any());
+        verify(animalRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("이미 존재하는 동물이 보호 종료되면 상태 변경 후 이벤트 발행")
+    void 이미_존재하는_동물이_보호_종료되면_상태_변경_후_이벤트_발행() {
+        // given
+        AnimalApiItem item = 테스트용_Item_생성("TEST001");
+        ReflectionTestUtils.setField(item, "processState", ProcessState.ADOPTED.getApiValue());
+        Animal animal = 테스트용_Animal_생성();
+
+        given(animalRepository.findExistingDesertionNos(any())).willReturn(List.of("TEST001"));
+        given(animalRepository.findAllById(any())).willReturn(List.of(animal));
+
+        // when
+        int savedCount = animalSyncService.saveAnimalsInTransaction(List.of(item));
+
+        // then
+        assertThat(savedCount).isEqualTo(0);
+        assertThat(animal.getStatus()).isEqualTo(ProcessState.ADOPTED);
+        verify(eventPublisher).publishEvent(new AnimalProtectionEndedEvent("TEST001", ProcessState.ADOPTED));
+        verify(eventPublisher).publishEvent(new AnimalAttributesChangedEvent(List.of(
+                new ChangedAnimal("TEST001", AnimalType.DOG, "서울특별시", "강남구", ProcessState.ADOPTED))));
+        verify(animalJdbcRepository, never()).insertAll(any());
+        verify(animalChangeFeed).append(changeListCaptor.capture());
+        assertThat(changeListCaptor.getValue())
+                .extracting(AnimalChangeLog::getChangeType, AnimalChangeLog::getStatus)
+                .containsExactly(tuple(AnimalChangeType.STATUS_CHANGED, ProcessState.ADOPTED));
     }
 
     @Test
     @DisplayName("변환 실패해도 전체 동기화는 계속 진행")
     void 변환_실패해도_전체_동기화는_계속_진행() {
         // given
-        AnimalApiItem item1 = new AnimalApiItem();
-        AnimalApiItem item2 = new AnimalApiItem();
-        AnimalApiItem item3 = new AnimalApiItem();
+        AnimalApiItem item1 = 테스트용_Item_생성("TEST001");
+        AnimalApiItem item2 = 테스트용_Item_생성("TEST002");
+        AnimalApiItem item3 = 테스트용_Item_생성("TEST003");
 
         Animal animal1 = 테스트용_Animal_생성();
         Animal animal3 = 테스트용_Animal_생성();
 
-        given(animalRepository.existsById(any())).willReturn(false);
+        given(animalRepository.findExistingDesertionNos(any())).willReturn(List.of());
         given(animalMapper.toEntity(item1)).willReturn(animal1);
         given(animalMapper.toEntity(item2)).willThrow(new RuntimeException("변환 실패"));
         given(animalMapper.toEntity(item3)).willReturn(animal3);
@@ -99,7 +188,7 @@ class AnimalSyncServiceTest {
 
         // then
         assertThat(savedCount).isEqualTo(2);  // item2는 실패했지만 나머지는 성공
-        verify(animalRepository).saveAll(animalListCaptor.capture());
+        verify(animalJdbcRepository).insertAll(animalListCaptor.capture());
         assertThat(animalListCaptor.getValue()).hasSize(2);
     }
 
@@ -114,23 +203,22 @@ class AnimalSyncServiceTest {
 
         // then
         assertThat(savedCount).isEqualTo(0);
-        verify(animalRepository, never()).saveAll(any());
+        verify(animalJdbcRepository, never()).insertAll(any());
     }
 
     @Test
     @DisplayName("여러 동물 중 일부만 신규인 경우")
     void 여러_동물_중_일부만_신규인_경우() {
         // given
-        AnimalApiItem item1 = new AnimalApiItem();
-        AnimalApiItem item2 = new AnimalApiItem();
-        AnimalApiItem item3 = new AnimalApiItem();
+        AnimalApiItem item1 = 테스트용_Item_생성("TEST001");
+        AnimalApiItem item2 = 테스트용_Item_생성("TEST002");
+        AnimalApiItem item3 = 테스트용_Item_생성("TEST003");
 
         Animal animal2 = 테스트용_Animal_생성();
 
-        given(animalRepository.existsById(any()))
-                .willReturn(true)   // item1: 이미 존재
-                .willReturn(false)  // item2: 신규
-                .willReturn(true);  // item3: 이미 존재
+        // item1, item3: 이미 존재 / item2: 신규
+        given(animalRepository.findExistingDesertionNos(List.of("TEST001", "TEST002", "TEST003")))
+                .willReturn(List.of("TEST001", "TEST003"));
 
         given(animalMapper.toEntity(item2)).willReturn(animal2);
 
@@ -140,7 +228,8 @@ class AnimalSyncServiceTest {
         // then
         assertThat(savedCount).isEqualTo(1);  // item2만 저장
         verify(animalMapper, times(1)).toEntity(any());  // item2만 변환
-        verify(animalRepository).saveAll(animalListCaptor.capture());
+        verify(animalRepository, times(1)).findExistingDesertionNos(any());  // 존재 여부는 한 번에 조회
+        verify(animalJdbcRepository).insertAll(animalListCaptor.capture());
         assertThat(animalListCaptor.getValue()).hasSize(1);
     }
 
@@ -148,10 +237,10 @@ class AnimalSyncServiceTest {
     @DisplayName("모든 동물이 이미 존재하는 경우")
     void 모든_동물이_이미_존재하는_경우() {
         // given
-        AnimalApiItem item1 = new AnimalApiItem();
-        AnimalApiItem item2 = new AnimalApiItem();
+        AnimalApiItem item1 = 테스트용_Item_생성("TEST001");
+        AnimalApiItem item2 = 테스트용_Item_생성("TEST002");
 
-        given(animalRepository.existsById(any())).willReturn(true);
+        given(animalRepository.findExistingDesertionNos(any())).willReturn(List.of("TEST001", "TEST002"));
 
         // when
         int savedCount = animalSyncService.saveAnimalsInTransaction(List.of(item1, item2));
@@ -159,17 +248,17 @@ class AnimalSyncServiceTest {
         // then
         assertThat(savedCount).isEqualTo(0);
         verify(animalMapper, never()).toEntity(any());
-        verify(animalRepository, never()).saveAll(any());
+        verify(animalJdbcRepository, never()).insertAll(any());
     }
 
     @Test
     @DisplayName("모든 변환이 실패하는 경우")
     void 모든_변환이_실패하는_경우() {
         // given
-        AnimalApiItem item1 = new AnimalApiItem();
-        AnimalApiItem item2 = new AnimalApiItem();
+        AnimalApiItem item1 = 테스트용_Item_생성("TEST001");
+        AnimalApiItem item2 = 테스트용_Item_생성("TEST002");
 
-        given(animalRepository.existsById(any())).willReturn(false);
+        given(animalRepository.findExistingDesertionNos(any())).willReturn(List.of());
         given(animalMapper.toEntity(any()))
                 .willThrow(new RuntimeException("변환 실패"));
 
@@ -178,10 +267,311 @@ class AnimalSyncServiceTest {
 
         // then
         assertThat(savedCount).isEqualTo(0);
-        verify(animalRepository, never()).saveAll(any());
+        verify(animalJdbcRepository, never()).insertAll(any());
+    }
+
+    @Test
+    @DisplayName("UPSERT 모드는 fingerprint가 같은 동물은 건너뛰고 바뀐 동물과 신규 동물만 저장")
+    void UPSERT_모드는_fingerprint가_같은_동물은_건너뛰고_바뀐_동물과_신규_동물만_저장() {
+        // given
+        AnimalApiItem unchanged = 테스트용_Item_생성("TEST001");
+        AnimalApiItem changed = 테스트용_Item_생성("TEST002");
+        AnimalApiItem created = 테스트용_Item_생성("TEST003");
+
+        given(animalRepository.findFingerprintRowsByDesertionNoIn(List.of("TEST001", "TEST002", "TEST003")))
+                .willReturn(List.of(
+                        new AnimalFingerprintRow("TEST001", "fp-1", ProcessState.PROTECTING),
+                        new AnimalFingerprintRow("TEST002", "fp-2-old", ProcessState.PROTECTING)));
+        given(animalMapper.toFingerprint(unchanged)).willReturn("fp-1");
+        given(animalMapper.toFingerprint(changed)).willReturn("fp-2-new");
+        given(animalMapper.toEntity(changed)).willReturn(테스트용_Animal_생성());
+        given(animalMapper.toEntity(created)).willReturn(테스트용_Animal_생성());
+
+        // when
+        int savedCount = animalSyncService.upsertAnimalsInTransaction(List.of(unchanged, changed, created));
+
+        // then
+        assertThat(savedCount).isEqualTo(2);
+        verify(animalMapper, never()).toEntity(unchanged);
+        verify(animalJdbcRepository).upsertAll(animalListCaptor.capture(), eq(List.of("TEST002")));
+        assertThat(animalListCaptor.getValue()).hasSize(2);
+        verify(animalChangeFeed).append(changeListCaptor.capture());
+        assertThat(changeListCaptor.getValue())
+                .extracting(AnimalChangeLog::getDesertionNo, AnimalChangeLog::getChangeType)
+                .containsExactly(tuple("TEST002", AnimalChangeType.UPDATED), tuple("TEST003", AnimalChangeType.INSERTED));
+        verify(eventPublisher, never()).publishEvent(any(AnimalProtectionEndedEvent.class));
+    }
+
+    @Test
+    @DisplayName("UPSERT 모드에서 보호 중이던 동물이 입양되면 보호 종료 이벤트 발행")
+    void UPSERT_모드에서_보호_중이던_동물이_입양되면_보호_종료_이벤트_발행() {
+        // given
+        AnimalApiItem item = 테스트용_Item_생성("TEST001");
+        Animal adopted = 테스트용_Animal_생성();
+        adopted.changeStatus(ProcessState.ADOPTED);
+
+        given(animalRepository.findFingerprintRowsByDesertionNoIn(any()))
+                .willReturn(List.of(new AnimalFingerprintRow("TEST001", "fp-old", ProcessState.PROTECTING)));
+        given(animalMapper.toFingerprint(item)).willReturn("fp-new");
+        given(animalMapper.toEntity(item)).willReturn(adopted);
+
+        // when
+        int savedCount = animalSyncService.upsertAnimalsInTransaction(List.of(item));
+
+        // then
+        assertThat(savedCount).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new AnimalProtectionEndedEvent("TEST001", ProcessState.ADOPTED));
+        verify(animalChangeFeed).append(changeListCaptor.capture());
+        assertThat(changeListCaptor.getValue())
+                .extracting(AnimalChangeLog::getChangeType)
+                .containsExactly(AnimalChangeType.UPDATED, AnimalChangeType.STATUS_CHANGED);
+    }
+
+    @Test
+    @DisplayName("UPSERT 모드에서 지역만 바뀐 동물은 속성 변경 이벤트 발행")
+    void UPSERT_모드에서_지역만_바뀐_동물은_속성_변경_이벤트_발행() {
+        // given
+        AnimalApiItem item = 테스트용_Item_생성("TEST001");
+        Animal moved = 테스트용_Animal_생성();
+        ReflectionTestUtils.setField(moved, "province", "부산광역시");
+        ReflectionTestUtils.setField(moved, "city", "해운대구");
+
+        given(animalRepository.findFingerprintRowsByDesertionNoIn(any()))
+                .willReturn(List.of(new AnimalFingerprintRow("TEST001", "fp-old", ProcessState.PROTECTING)));
+        given(animalMapper.toFingerprint(item)).willReturn("fp-new");
+        given(animalMapper.toEntity(item)).willReturn(moved);
+
+        // when
+        animalSyncService.upsertAnimalsInTransaction(List.of(item));
+
+        // then
+        verify(eventPublisher).publishEvent(new AnimalAttributesChangedEvent(List.of(
+                new ChangedAnimal("TEST001", AnimalType.DOG, "부산광역시", "해운대구", ProcessState.PROTECTING))));
+        verify(eventPublisher, never()).publishEvent(any(AnimalProtectionEndedEvent.class));
+    }
+
+    @Test
+    @DisplayName("UPSERT 모드에서 바뀐 동물이 없으면 쓰기와 이벤트 발행을 하지 않음")
+    void UPSERT_모드에서_바뀐_동물이_없으면_쓰기와_이벤트_발행을_하지_않음() {
+        // given
+        AnimalApiItem item = 테스트용_Item_생성("TEST001");
+
+        given(animalRepository.findFingerprintRowsByDesertionNoIn(any()))
+                .willReturn(List.of(new AnimalFingerprintRow("TEST001", "fp-1", ProcessState.PROTECTING)));
+        given(animalMapper.toFingerprint(item)).willReturn("fp-1");
+
+        // when
+        int savedCount = animalSyncService.upsertAnimalsInTransaction(List.of(item));
+
+        // then
+        assertThat(savedCount).isZero();
+        verify(animalJdbcRepository, never()).upsertAll(any(), any());
+        verify(animalChangeFeed, never()).append(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("첫 페이지의 totalCount로 나머지 페이지를 동시에 조회해 페이지마다 저장")
+    void 첫_페이지의_totalCount로_나머지_페이지를_동시에_조회해_페이지마다_저장() {
+        // given
+        테스트용_파이프라인_설정();
+        AnimalApiResponse page1 = 테스트용_응답_생성(0, 1000);
+        given(page1.getResponse().getBody().getTotalCount()).willReturn(2500);
+        AnimalApiResponse page2 = 테스트용_응답_생성(1000, 1000);
+        AnimalApiResponse page3 = 테스트용_응답_생성(2000, 500);
+        given(animalApiClient.fetchAbandonedAnimals(any(), any(), eq(1))).willReturn(page1);
+        given(animalApiClient.fetchAbandonedAnimals(any(), any(), eq(2))).willReturn(page2);
+        given(animalApiClient.fetchAbandonedAnimals(any(), any(), eq(3))).willReturn(page3);
+        given(animalRepository.findExistingDesertionNos(any())).willReturn(List.of());
+        given(animalMapper.toEntity(any())).willReturn(테스트용_Animal_생성());
+
+        // when
+        animalSyncService.dailySync(AnimalSyncMode.INSERT_ONLY);
+
+        // then
+        verify(animalApiClient, times(3)).fetchAbandonedAnimals(any(), any(), anyInt());
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(eventPublisher).publishEvent(new AnimalSyncCompletedEvent(2500));
+    }
+
+    @Test
+    @DisplayName("페이지 조회가 실패하면 예외를 전파하고 완료 이벤트를 발행하지 않음")
+    void 페이지_조회가_실패하면_예외를_전파하고_완료_이벤트를_발행하지_않음() {
+        // given
+        테스트용_파이프라인_설정();
+        AnimalApiResponse page1 = 테스트용_응답_생성(0, 1000);
+        given(page1.getResponse().getBody().getTotalCount()).willReturn(2000);
+        given(animalApiClient.fetchAbandonedAnimals(any(), any(), eq(1))).willReturn(page1);
+        given(animalApiClient.fetchAbandonedAnimals(any(), any(), eq(2)))
+                .willThrow(new GeneralException(ErrorStatus.ANIMAL_API_TIMEOUT));
+        given(animalRepository.findExistingDesertionNos(any()))
+                .willAnswer(invocation -> new ArrayList<>(invocation.<List<String>>getArgument(0)));
+
+        // when & then
+        assertThatThrownBy(() -> animalSyncService.dailySync(AnimalSyncMode.INSERT_ONLY))
+                .isInstanceOf(GeneralException.class);
+        verify(eventPublisher, never()).publishEvent(any(AnimalSyncCompletedEvent.class));
+        verify(animalApiClient, times(2)).fetchAbandonedAnimals(any(), any(), eq(2));
+        verify(animalSyncRunService).fail(eq(1L), anyString());
+        verify(animalSyncRunService, never()).complete(any());
+    }
+
+    @Test
+    @DisplayName("페이지 조회가 일시적으로 실패하면 재시도해 저장하고 시도 횟수를 기록")
+    void 페이지_조회가_일시적으로_실패하면_재시도해_저장하고_시도_횟수를_기록() {
+        // given
+        테스트용_파이프라인_설정();
+        AnimalApiResponse page1 = 테스트용_응답_생성(0, 1000);
+        given(page1.getResponse().getBody().getTotalCount()).willReturn(1500);
+        AnimalApiResponse page2 = 테스트용_응답_생성(1000, 500);
+        given(animalApiClient.fetchAbandonedAnimals(any(), any(), eq(1))).willReturn(page1);
+        given(animalApiClient.fetchAbandonedAnimals(any(), any(), eq(2)))
+                .willThrow(new GeneralException(ErrorStatus.ANIMAL_API_TIMEOUT))
+                .willReturn(page2);
+        given(animalRepository.findExistingDesertionNos(any())).willReturn(List.of());
+        given(animalMapper.toEntity(any())).willReturn(테스트용_Animal_생성());
+
+        // when
+        animalSyncService.dailySync(AnimalSyncMode.INSERT_ONLY);
+
+        // then
+        verify(animalSyncRunService, times(2)).recordPage(pageLogCaptor.capture(), anyInt());
+        assertThat(pageLogCaptor.getAllValues())
+                .extracting(AnimalSyncPageLog::getPageNo, AnimalSyncPageLog::getFetchAttempts)
+                .containsExactly(tuple(1, 1), tuple(2, 2));
+        verify(animalSyncRunService).recordPage(any(), eq(2));
+        verify(animalSyncRunService).complete(1L);
+        verify(eventPublisher).publishEvent(new AnimalSyncCompletedEvent(1500));
+    }
+
+    @Test
+    @DisplayName("미완료 실행을 원래 기간으로 재개해 기록이 없는 페이지만 저장")
+    void 미완료_실행을_원래_기간으로_재개해_기록이_없는_페이지만_저장() {
+        // given
+        테스트용_파이프라인_설정();
+        AnimalSyncRun unfinished = 테스트용_실행_생성(7L, AnimalSyncType.INITIAL);
+        given(animalSyncRunService.findUnfinished()).willReturn(Optional.of(unfinished), Optional.of(unfinished),
+                Optional.empty());
+        given(animalSyncRunService.resume(7L)).willReturn(unfinished);
+        given(animalSyncRunService.findCompletedPageNos(7L)).willReturn(Set.of(1, 2));
+        AnimalApiResponse page1 = 테스트용_응답_생성(0, 1000);
+        given(page1.getResponse().getBody().getTotalCount()).willReturn(2500);
+        AnimalApiResponse page3 = 테스트용_응답_생성(2000, 500);
+        given(animalApiClient.fetchAbandonedAnimals(unfinished.getStartDate(), unfinished.getEndDate(), 1))
+                .willReturn(page1);
+        given(animalApiClient.fetchAbandonedAnimals(unfinished.getStartDate(), unfinished.getEndDate(), 3))
+                .willReturn(page3);
+        given(animalRepository.findExistingDesertionNos(any())).willReturn(List.of());
+        given(animalMapper.toEntity(any())).willReturn(테스트용_Animal_생성());
+
+        // when
+        animalSyncService.resumeUnfinished();
+
+        // then
+        verify(animalApiClient, never()).fetchAbandonedAnimals(any(), any(), eq(2));
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(animalSyncRunService).recordPage(any(), eq(3));
+        verify(animalSyncRunService).complete(7L);
+        verify(animalSyncRunService, never()).start(any(), any(), any(), any());
+        verify(eventPublisher).publishEvent(new AnimalSyncCompletedEvent(500));
+    }
+
+    @Test
+    @DisplayName("재개할 때마다 실패하는 실행은 시도 횟수에 도달하면 포기하고 새 동기화는 계속 진행")
+    void 재개할_때마다_실패하는_실행은_시도_횟수에_도달하면_포기하고_새_동기화는_계속_진행() {
+        // given
+        테스트용_파이프라인_설정();
+        ReflectionTestUtils.setField(animalSyncService, "maxRunAttempts", 2);
+        AnimalSyncRun stuck = AnimalSyncRun.builder()
+                .syncType(AnimalSyncType.DAILY)
+                .mode(AnimalSyncMode.INSERT_ONLY)
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2024, 1, 2))
+                .build();
+        ReflectionTestUtils.setField(stuck, "id", 7L);
+        given(animalSyncRunService.findUnfinished())
+                .willReturn(Optional.of(stuck), Optional.of(stuck), Optional.empty());
+        given(animalSyncRunService.resume(7L)).willAnswer(invocation -> {
+            stuck.resume();
+            return stuck;
+        });
+        given(animalApiClient.fetchAbandonedAnimals(eq(stuck.getStartDate()), eq(stuck.getEndDate()), anyInt()))
+                .willThrow(new GeneralException(ErrorStatus.ANIMAL_API_TIMEOUT));
+        AnimalSyncRun today = 테스트용_실행_생성(1L, AnimalSyncType.DAILY);
+        AnimalApiResponse page1 = 테스트용_응답_생성(0, 500);
+        given(animalApiClient.fetchAbandonedAnimals(today.getStartDate(), today.getEndDate(), 1)).willReturn(page1);
+        given(animalRepository.findExistingDesertionNos(any())).willReturn(List.of());
+        given(animalMapper.toEntity(any())).willReturn(테스트용_Animal_생성());
+
+        // when
+        animalSyncService.dailySync(AnimalSyncMode.INSERT_ONLY);
+        animalSyncService.dailySync(AnimalSyncMode.INSERT_ONLY);
+
+        // then
+        verify(animalSyncRunService, times(1)).resume(7L);
+        verify(animalSyncRunService).fail(eq(7L), anyString());
+        verify(animalSyncRunService).abandon(7L);
+        verify(animalSyncRunService, times(2)).complete(1L);
+        verify(eventPublisher, times(2)).publishEvent(new AnimalSyncCompletedEvent(500));
+    }
+
+    @Test
+    @DisplayName("다른 동기화가 진행 중이면 실행을 남기지 않고 예외 발생")
+    void 다른_동기화가_진행_중이면_실행을_남기지_않고_예외_발생() {
+        // given
+        ((AtomicBoolean) ReflectionTestUtils.getField(animalSyncService, "running")).set(true);
+
+        // when & then
+        assertThatThrownBy(() -> animalSyncService.dailySync(AnimalSyncMode.UPSERT))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code")
+                .isEqualTo(ErrorStatus.ANIMAL_SYNC_IN_PROGRESS);
+        verify(animalSyncRunService, never()).start(any(), any(), any(), any());
+        verify(animalApiClient, never()).fetchAbandonedAnimals(any(), any(), anyInt());
     }
 
     // 테스트 헬퍼 메서드
+    private void 테스트용_파이프라인_설정() {
+        ReflectionTestUtils.setField(animalSyncService, "fetchParallelism", 2);
+        ReflectionTestUtils.setField(animalSyncService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(animalSyncService, "maxFetchAttempts", 2);
+        ReflectionTestUtils.setField(animalSyncService, "baseBackoffMillis", 0L);
+        ReflectionTestUtils.setField(animalSyncService, "maxBackoffMillis", 0L);
+        ReflectionTestUtils.setField(animalSyncService, "maxRunAttempts", 3);
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        AnimalSyncRun run = 테스트용_실행_생성(1L, AnimalSyncType.DAILY);
+        lenient().when(animalSyncRunService.start(any(), any(), any(), any())).thenReturn(run);
+    }
+
+    private AnimalSyncRun 테스트용_실행_생성(Long id, AnimalSyncType syncType) {
+        LocalDate endDate = LocalDate.of(2024, 11, 12);
+        AnimalSyncRun run = AnimalSyncRun.builder()
+                .syncType(syncType)
+                .mode(AnimalSyncMode.INSERT_ONLY)
+                .startDate(endDate.minusDays(syncType.getDays()))
+                .endDate(endDate)
+                .build();
+        ReflectionTestUtils.setField(run, "id", id);
+        return run;
+    }
+
+    private AnimalApiResponse 테스트용_응답_생성(int firstNo, int itemCount) {
+        List<AnimalApiItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(테스트용_Item_생성(String.format("TEST%05d", firstNo + i)));
+        }
+        AnimalApiResponse response = mock(AnimalApiResponse.class, RETURNS_DEEP_STUBS);
+        given(response.getResponse().getBody().getItems().getItem()).willReturn(items);
+        return response;
+    }
+
+    private AnimalApiItem 테스트용_Item_생성(String desertionNo) {
+        AnimalApiItem item = new AnimalApiItem();
+        ReflectionTestUtils.setField(item, "desertionNo", desertionNo);
+        return item;
+    }
+
     private Animal 테스트용_Animal_생성() {
         return Animal.builder()
                 .desertionNo("TEST001")
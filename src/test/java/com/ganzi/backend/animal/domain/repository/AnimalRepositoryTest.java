@@ -116,6 +116,28 @@ class AnimalRepositoryTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("ID 목록으로 이미지와 함께 일괄 조회")
+    void ID_목록으로_이미지와_함께_일괄_조회() {
+        // given
+        testAnimal1.addImages(List.of("http://example.com/1.jpg", "http://example.com/2.jpg"));
+        animalRepository.saveAndFlush(testAnimal1);
+
+        // when
+        List<Animal> animals = animalRepository.findAllWithImagesByDesertionNoIn(
+                List.of("REPO_TEST_001", "REPO_TEST_002", "NOTFOUND"));
+
+        // then
+        assertThat(animals).hasSize(2);
+        assertThat(animals).extracting("desertionNo")
+                .containsExactlyInAnyOrder("REPO_TEST_001", "REPO_TEST_002");
+        Animal withImages = animals.stream()
+                .filter(animal -> animal.getDesertionNo().equals("REPO_TEST_001"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(withImages.getImages()).hasSize(2);
+    }
+
     @Test
     @DisplayName("모든 동물 조회")
     void 모든_동물_조회() {
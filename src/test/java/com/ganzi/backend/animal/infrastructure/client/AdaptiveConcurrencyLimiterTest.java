@@ -0,0 +1,100 @@
+package com.ganzi.backend.animal.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AdaptiveConcurrencyLimiter 단위 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("상한만큼 연속으로 성공하면 상한이 1 증가")
+    void 상한만큼_연속으로_성공하면_상한이_1_증가() throws InterruptedException {
+        // given
+        AdaptiveConcurrencyLimiter limiter = 테스트용_리미터_생성(4, 1, 16);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+            limiter.onSuccess();
+        }
+
+        // then
+        assertThat(limiter.limit()).isEqualTo(4);
+        limiter.acquire();
+        limiter.onSuccess();
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("과부하 신호는 cooldown 동안 한 번만 상한을 절반으로 줄임")
+    void 과부하_신호는_cooldown_동안_한_번만_상한을_절반으로_줄임() throws InterruptedException {
+        // given
+        AdaptiveConcurrencyLimiter limiter = 테스트용_리미터_생성(8, 1, 16);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire();
+        }
+
+        // when
+        limiter.onOverload();
+        limiter.onOverload();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        limiter.onOverload();
+
+        // then
+        assertThat(limiter.limit()).isEqualTo(2);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("상한은 min 아래로 내려가지 않음")
+    void 상한은_min_아래로_내려가지_않음() throws InterruptedException {
+        // given
+        AdaptiveConcurrencyLimiter limiter = 테스트용_리미터_생성(2, 2, 16);
+
+        // when
+        limiter.acquire();
+        limiter.onOverload();
+
+        // then
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상한에 도달하면 슬롯이 반환될 때까지 대기")
+    void 상한에_도달하면_슬롯이_반환될_때까지_대기() throws InterruptedException {
+        // given
+        AdaptiveConcurrencyLimiter limiter = 테스트용_리미터_생성(1, 1, 1);
+        limiter.acquire();
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // when
+        waiter.start();
+        boolean acquiredBeforeRelease = acquired.await(100, TimeUnit.MILLISECONDS);
+        limiter.onIgnore();
+
+        // then
+        assertThat(acquiredBeforeRelease).isFalse();
+        assertThat(acquired.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    // 테스트 헬퍼 메서드
+    private AdaptiveConcurrencyLimiter 테스트용_리미터_생성(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimiter(initial, min, max, 1000, clock::get);
+    }
+}
@@ -0,0 +1,112 @@
+package com.ganzi.backend.animal.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TokenBucketRateLimiter 단위 테스트")
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("burst만큼은 기다리지 않고 바로 사용")
+    void burst만큼은_기다리지_않고_바로_사용() {
+        // given
+        TokenBucketRateLimiter limiter = 테스트용_리미터_생성(1.0, 3);
+
+        // when
+        long first = limiter.tryAcquire();
+        long second = limiter.tryAcquire();
+        long third = limiter.tryAcquire();
+        long fourth = limiter.tryAcquire();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isZero();
+        assertThat(fourth).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("흐른 시간만큼 토큰이 다시 채워짐")
+    void 흐른_시간만큼_토큰이_다시_채워짐() {
+        // given
+        TokenBucketRateLimiter limiter = 테스트용_리미터_생성(2.0, 1);
+        limiter.tryAcquire();
+
+        // when
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+        long halfway = limiter.tryAcquire();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+        long refilled = limiter.tryAcquire();
+
+        // then
+        assertThat(halfway).isEqualTo(TimeUnit.MILLISECONDS.toNanos(250));
+        assertThat(refilled).isZero();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 burst 이상 쌓이지 않음")
+    void 오래_쉬어도_burst_이상_쌓이지_않음() {
+        // given
+        TokenBucketRateLimiter limiter = 테스트용_리미터_생성(1.0, 2);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        // then
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isPositive();
+    }
+
+    @Test
+    @DisplayName("permitsPerSecond가 0이면 제한하지 않음")
+    void permitsPerSecond가_0이면_제한하지_않음() {
+        // given
+        TokenBucketRateLimiter limiter = 테스트용_리미터_생성(0, 1);
+
+        // when & then
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 채워질 때까지 대기")
+    void 토큰이_없으면_채워질_때까지_대기() throws InterruptedException {
+        // given
+        TokenBucketRateLimiter limiter = 테스트용_리미터_생성(20.0, 1);
+        limiter.tryAcquire();
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // when
+        waiter.start();
+        boolean acquiredBeforeRefill = acquired.await(200, TimeUnit.MILLISECONDS);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+
+        // then
+        assertThat(acquiredBeforeRefill).isFalse();
+        assertThat(acquired.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    // 테스트 헬퍼 메서드
+    private TokenBucketRateLimiter 테스트용_리미터_생성(double permitsPerSecond, int burst) {
+        return new TokenBucketRateLimiter(permitsPerSecond, burst, clock::get);
+    }
+}
@@ -0,0 +1,170 @@
+package com.ganzi.backend.animal.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ganzi.backend.animal.infrastructure.dto.EmbeddingData;
+import com.ganzi.backend.animal.infrastructure.dto.UpstageEmbeddingResponse;
+import com.ganzi.backend.global.code.status.ErrorStatus;
+import com.ganzi.backend.global.exception.GeneralException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpstageEmbeddingClient 단위 테스트")
+class UpstageEmbeddingClientTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long MAX_BACKOFF_MILLIS = 200;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("429 응답은 재시도 후 성공")
+    void 응답_429는_재시도_후_성공() {
+        // given
+        UpstageEmbeddingClient client = 테스트용_클라이언트_생성();
+        given(restTemplate.postForObject(any(URI.class), any(), eq(UpstageEmbeddingResponse.class)))
+                .willThrow(테스트용_429_예외_생성(null))
+                .willReturn(테스트용_응답_생성());
+
+        // when
+        List<float[]> vectors = client.embedTexts(List.of("text"));
+
+        // then
+        assertThat(vectors).hasSize(1);
+        verify(restTemplate, times(2)).postForObject(any(URI.class), any(), eq(UpstageEmbeddingResponse.class));
+        assertThat(meterRegistry.counter("upstage.embedding.retries").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 재시도 후 성공")
+    void 응답_5xx는_재시도_후_성공() {
+        // given
+        UpstageEmbeddingClient client = 테스트용_클라이언트_생성();
+        given(restTemplate.postForObject(any(URI.class), any(), eq(UpstageEmbeddingResponse.class)))
+                .willThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+                .willThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY))
+                .willReturn(테스트용_응답_생성());
+
+        // when
+        List<float[]> vectors = client.embedTexts(List.of("text"));
+
+        // then
+        assertThat(vectors).hasSize(1);
+        assertThat(meterRegistry.counter("upstage.embedding.retries").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("소켓 타임아웃은 재시도 후 성공")
+    void 소켓_타임아웃은_재시도_후_성공() {
+        // given
+        UpstageEmbeddingClient client = 테스트용_클라이언트_생성();
+        given(restTemplate.postForObject(any(URI.class), any(), eq(UpstageEmbeddingResponse.class)))
+                .willThrow(new ResourceAccessException("timeout", new SocketTimeoutException("Read timed out")))
+                .willReturn(테스트용_응답_생성());
+
+        // when
+        List<float[]> vectors = client.embedTexts(List.of("text"));
+
+        // then
+        assertThat(vectors).hasSize(1);
+        verify(restTemplate, times(2)).postForObject(any(URI.class), any(), eq(UpstageEmbeddingResponse.class));
+    }
+
+    @Test
+    @DisplayName("429/5xx가 아닌 4xx 응답은 재시도하지 않음")
+    void 응답_4xx는_재시도하지_않음() {
+        // given
+        UpstageEmbeddingClient client = 테스트용_클라이언트_생성();
+        given(restTemplate.postForObject(any(URI.class), any(), eq(UpstageEmbeddingResponse.class)))
+                .willThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        // when & then
+        assertThatThrownBy(() -> client.embedTexts(List.of("text")))
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("code", ErrorStatus.UPSTAGE_API_CALL_FAILED);
+        verify(restTemplate, times(1)).postForObject(any(URI.class), any(), eq(UpstageEmbeddingResponse.class));
+        assertThat(meterRegistry.counter("upstage.embedding.retries").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Retry-After만큼 기다리되 max-backoff를 넘지 않음")
+    void Retry_After만큼_기다리되_max_backoff를_넘지_않음() {
+        // given
+        UpstageEmbeddingClient client = 테스트용_클라이언트_생성();
+        given(restTemplate.postForObject(any(URI.class), any(), eq(UpstageEmbeddingResponse.class)))
+                .willThrow(테스트용_429_예외_생성("60"))
+                .willReturn(테스트용_응답_생성());
+
+        // when
+        long startedAt = System.nanoTime();
+        client.embedTexts(List.of("text"));
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000L;
+
+        // then
+        assertThat(elapsedMillis).isBetween(MAX_BACKOFF_MILLIS, 5_000L);
+    }
+
+    @Test
+    @DisplayName("max-attempts까지 실패하면 마지막 오류 상태로 예외 발생")
+    void max_attempts까지_실패하면_마지막_오류_상태로_예외_발생() {
+        // given
+        UpstageEmbeddingClient client = 테스트용_클라이언트_생성();
+        given(restTemplate.postForObject(any(URI.class), any(), eq(UpstageEmbeddingResponse.class)))
+                .willThrow(new ResourceAccessException("timeout", new SocketTimeoutException("Read timed out")));
+
+        // when & then
+        assertThatThrownBy(() -> client.embedTexts(List.of("text")))
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("code", ErrorStatus.UPSTAGE_API_TIMEOUT);
+        verify(restTemplate, times(MAX_ATTEMPTS)).postForObject(any(URI.class), any(), eq(UpstageEmbeddingResponse.class));
+        assertThat(meterRegistry.counter("upstage.embedding.retries").count()).isEqualTo(MAX_ATTEMPTS - 1);
+    }
+
+    // 테스트 헬퍼 메서드
+    private UpstageEmbeddingClient 테스트용_클라이언트_생성() {
+        // 속도 제한은 끄고 백오프 기본값은 0으로 두어 Retry-After만 대기 시간에 반영되도록 구성
+        return new UpstageEmbeddingClient(restTemplate, meterRegistry, "https://api.upstage.ai", "test-key",
+                "/solar/embeddings", "solar-embedding-1-large-passage", 0, 1, 2, 1, 16,
+                MAX_ATTEMPTS, 0L, MAX_BACKOFF_MILLIS);
+    }
+
+    private HttpClientErrorException 테스트용_429_예외_생성(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null);
+    }
+
+    private UpstageEmbeddingResponse 테스트용_응답_생성() {
+        EmbeddingData data = new EmbeddingData();
+        ReflectionTestUtils.setField(data, "embedding", List.of(0.6f, 0.8f));
+        UpstageEmbeddingResponse response = new UpstageEmbeddingResponse();
+        ReflectionTestUtils.setField(response, "data", List.of(data));
+        return response;
+    }
+}
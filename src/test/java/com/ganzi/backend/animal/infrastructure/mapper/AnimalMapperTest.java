@@ -12,6 +12,8 @@ import java.lang.reflect.Field;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 @DisplayName("AnimalMapper 테스트")
 class AnimalMapperTest {
@@ -259,6 +261,59 @@ class AnimalMapperTest {
         assertThat(animal.getImages().get(2).getImageOrder()).isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("같은 항목의 fingerprint는 항상 같음")
+    void 같은_항목의_fingerprint는_항상_같음() throws Exception {
+        // given
+        AnimalApiItem item = 정상_데이터_생성();
+        AnimalApiItem same = 정상_데이터_생성();
+
+        // when
+        String fingerprint = mapper.toFingerprint(item);
+
+        // then
+        assertThat(fingerprint).hasSize(64);
+        assertThat(fingerprint).isEqualTo(mapper.toFingerprint(item));
+        assertThat(fingerprint).isEqualTo(mapper.toFingerprint(same));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "desertionNo", "rfidCd", "kindNm", "upKindCd", "age", "sexCd", "neuterYn", "weight", "colorCd",
+            "happenDt", "happenPlace", "noticeSdt", "noticeEdt", "processState", "careNm", "careTel", "careAddr",
+            "orgNm", "specialMark", "sfeHealth", "vaccinationChk", "healthChk", "sfeSoci",
+            "popfile1", "popfile2", "popfile3", "popfile4", "popfile5", "popfile6", "popfile7", "popfile8"
+    })
+    @DisplayName("저장되는 필드가 하나라도 바뀌면 fingerprint가 바뀜")
+    void 저장되는_필드가_하나라도_바뀌면_fingerprint가_바뀜(String fieldName) throws Exception {
+        // given
+        AnimalApiItem item = 정상_데이터_생성();
+        String before = mapper.toFingerprint(item);
+
+        // when
+        setField(item, fieldName, "changed");
+
+        // then
+        assertThat(mapper.toFingerprint(item)).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("null과 빈 문자열은 서로 다른 fingerprint")
+    void null과_빈_문자열은_서로_다른_fingerprint() throws Exception {
+        // given
+        AnimalApiItem withNull = 정상_데이터_생성();
+        AnimalApiItem withEmpty = 정상_데이터_생성();
+        setField(withNull, "rfidCd", null);
+        setField(withEmpty, "rfidCd", "");
+
+        // when
+        String nullFingerprint = mapper.toFingerprint(withNull);
+        String emptyFingerprint = mapper.toFingerprint(withEmpty);
+
+        // then
+        assertThat(nullFingerprint).isNotEqualTo(emptyFingerprint);
+    }
+
     // 테스트 헬퍼 메서드
 
     private AnimalApiItem 정상_데이터_생성() throws Exception {
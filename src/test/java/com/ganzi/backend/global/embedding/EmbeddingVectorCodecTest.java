@@ -0,0 +1,111 @@
+package com.ganzi.backend.global.embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EmbeddingVectorCodec 단위 테스트")
+class EmbeddingVectorCodecTest {
+
+    @Test
+    @DisplayName("FLOAT32 인코딩은 손실 없이 복원")
+    void FLOAT32_인코딩은_손실_없이_복원() {
+        // given
+        float[] vector = 테스트용_벡터_생성(4096);
+
+        // when
+        byte[] encoded = EmbeddingVectorCodec.encode(vector, EmbeddingStorageFormat.FLOAT32);
+        float[] decoded = EmbeddingVectorCodec.decode(encoded);
+
+        // then
+        assertThat(encoded).hasSize(1 + 4096 * Float.BYTES);
+        assertThat(encoded[0]).isEqualTo(EmbeddingStorageFormat.FLOAT32.getCode());
+        assertThat(decoded).containsExactly(vector);
+    }
+
+    @Test
+    @DisplayName("FLOAT32 본문은 little-endian으로 저장")
+    void FLOAT32_본문은_little_endian으로_저장() {
+        // given
+        float[] vector = {1.0f};
+
+        // when
+        byte[] encoded = EmbeddingVectorCodec.encode(vector, EmbeddingStorageFormat.FLOAT32);
+
+        // then
+        // 1.0f = 0x3F800000
+        assertThat(encoded).containsExactly(EmbeddingStorageFormat.FLOAT32.getCode(),
+                (byte) 0x00, (byte) 0x00, (byte) 0x80, (byte) 0x3F);
+    }
+
+    @Test
+    @DisplayName("FLOAT16 인코딩은 절반 크기로 근사 복원")
+    void FLOAT16_인코딩은_절반_크기로_근사_복원() {
+        // given
+        float[] vector = 테스트용_벡터_생성(4096);
+
+        // when
+        byte[] encoded = EmbeddingVectorCodec.encode(vector, EmbeddingStorageFormat.FLOAT16);
+        float[] decoded = EmbeddingVectorCodec.decode(encoded);
+
+        // then
+        assertThat(encoded).hasSize(1 + 4096 * Short.BYTES);
+        for (int i = 0; i < vector.length; i++) {
+            assertThat(decoded[i]).isCloseTo(vector[i], within(1e-3f));
+        }
+    }
+
+    @Test
+    @DisplayName("INT8 인코딩은 최대 절댓값 기준 스케일로 근사 복원")
+    void INT8_인코딩은_최대_절댓값_기준_스케일로_근사_복원() {
+        // given
+        float[] vector = 테스트용_벡터_생성(4096);
+        float maxAbs = 0f;
+        for (float value : vector) {
+            maxAbs = Math.max(maxAbs, Math.abs(value));
+        }
+
+        // when
+        byte[] encoded = EmbeddingVectorCodec.encode(vector, EmbeddingStorageFormat.INT8);
+        float[] decoded = EmbeddingVectorCodec.decode(encoded);
+
+        // then
+        assertThat(encoded).hasSize(1 + Float.BYTES + 4096);
+        float tolerance = maxAbs / Byte.MAX_VALUE / 2 + 1e-6f;
+        for (int i = 0; i < vector.length; i++) {
+            assertThat(decoded[i]).isCloseTo(vector[i], within(tolerance));
+        }
+    }
+
+    @Test
+    @DisplayName("영벡터도 INT8로 복원 가능")
+    void 영벡터도_INT8로_복원_가능() {
+        // given
+        float[] vector = new float[8];
+
+        // when
+        float[] decoded = EmbeddingVectorCodec.decode(EmbeddingVectorCodec.encode(vector, EmbeddingStorageFormat.INT8));
+
+        // then
+        assertThat(decoded).containsExactly(vector);
+    }
+
+    @Test
+    @DisplayName("null 또는 빈 바이트는 null로 복원")
+    void null_또는_빈_바이트는_null로_복원() {
+        assertThat(EmbeddingVectorCodec.decode(null)).isNull();
+        assertThat(EmbeddingVectorCodec.decode(new byte[0])).isNull();
+    }
+
+    private float[] 테스트용_벡터_생성(int dimension) {
+        Random random = new Random(7);
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian() * 0.05f;
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,95 @@
+package com.ganzi.backend.recommendation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.ganzi.backend.animal.application.event.AnimalProtectionEndedEvent;
+import com.ganzi.backend.animal.domain.AnimalType;
+import com.ganzi.backend.animal.domain.ProcessState;
+import com.ganzi.backend.animal.domain.repository.AnimalRepository;
+import com.ganzi.backend.animal.domain.repository.ProtectingAnimalRow;
+import com.ganzi.backend.recommendation.application.index.AnimalFilter;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ColdStartRanking 단위 테스트")
+class ColdStartRankingTest {
+
+    @Mock
+    private AnimalRepository animalRepository;
+
+    @Test
+    @DisplayName("최근 발견되고 공고 마감이 임박한 동물이 먼저 추천")
+    void 최근_발견되고_공고_마감이_임박한_동물이_먼저_추천() {
+        // given
+        ColdStartRanking ranking = 테스트용_순위_생성(0, 1.0, List.of(
+                테스트용_동물("OLD", AnimalType.DOG, "보호소A", 60, 30),
+                테스트용_동물("URGENT", AnimalType.DOG, "보호소B", 20, 0),
+                테스트용_동물("RECENT", AnimalType.CAT, "보호소C", 0, 10)
+        ));
+
+        // when
+        List<String> result = ranking.top(3, AnimalFilter.PROTECTING_ONLY);
+
+        // then
+        assertThat(result).containsExactly("URGENT", "RECENT", "OLD");
+    }
+
+    @Test
+    @DisplayName("보호소와 동물 종류 상한을 넘는 동물은 뒤로 밀림")
+    void 보호소와_동물_종류_상한을_넘는_동물은_뒤로_밀림() {
+        // given
+        ColdStartRanking ranking = 테스트용_순위_생성(1, 0.5, List.of(
+                테스트용_동물("A1", AnimalType.DOG, "보호소A", 0, 0),
+                테스트용_동물("A2", AnimalType.DOG, "보호소A", 0, 1),
+                테스트용_동물("B1", AnimalType.DOG, "보호소B", 0, 2),
+                테스트용_동물("C1", AnimalType.CAT, "보호소C", 10, 10)
+        ));
+
+        // when
+        List<String> result = ranking.top(4, AnimalFilter.PROTECTING_ONLY);
+
+        // then
+        assertThat(result).containsExactly("A1", "B1", "C1", "A2");
+    }
+
+    @Test
+    @DisplayName("필터 조건과 보호 종료 여부를 반영")
+    void 필터_조건과_보호_종료_여부를_반영() {
+        // given
+        ColdStartRanking ranking = 테스트용_순위_생성(0, 1.0, List.of(
+                테스트용_동물("A1", AnimalType.DOG, "보호소A", 0, 0),
+                테스트용_동물("A2", AnimalType.CAT, "보호소A", 0, 1),
+                테스트용_동물("A3", AnimalType.CAT, "보호소B", 0, 2)
+        ));
+
+        // when
+        ranking.onProtectionEnded(new AnimalProtectionEndedEvent("A2", ProcessState.ADOPTED));
+        List<String> result = ranking.top(3, new AnimalFilter(null, null, AnimalType.CAT, true));
+
+        // then
+        assertThat(result).containsExactly("A3");
+    }
+
+    private ColdStartRanking 테스트용_순위_생성(int maxPerShelter, double maxAnimalTypeRatio, List<ProtectingAnimalRow> rows) {
+        given(animalRepository.findRowsByStatus(ProcessState.PROTECTING)).willReturn(rows);
+        ColdStartRanking ranking = new ColdStartRanking(animalRepository, 7, 3, maxPerShelter, maxAnimalTypeRatio);
+        ranking.refresh();
+        return ranking;
+    }
+
+    private ProtectingAnimalRow 테스트용_동물(String desertionNo, AnimalType animalType, String shelterName,
+                                        int daysSinceFound, int daysUntilNoticeEnd) {
+        LocalDate today = LocalDate.now();
+        return new ProtectingAnimalRow(desertionNo, animalType, "서울특별시", "강남구", shelterName,
+                today.minusDays(daysSinceFound).format(DateTimeFormatter.BASIC_ISO_DATE),
+                today.plusDays(daysUntilNoticeEnd).format(DateTimeFormatter.BASIC_ISO_DATE));
+    }
+}
@@ -0,0 +1,67 @@
+package com.ganzi.backend.recommendation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ganzi.backend.recommendation.application.index.AnimalFilter;
+import com.ganzi.backend.user.application.event.UserEmbeddingChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RecommendationCache 단위 테스트")
+class RecommendationCacheTest {
+
+    private final RecommendationCache cache = new RecommendationCache(new SimpleMeterRegistry(), true, 1_000_000, 60);
+
+    @Test
+    @DisplayName("같은 인덱스 version과 요청 조건이면 캐시된 결과 반환")
+    void 같은_인덱스_version과_요청_조건이면_캐시된_결과_반환() {
+        // given
+        cache.put(1L, cache.token(1L), 7L, 8, AnimalFilter.PROTECTING_ONLY, List.of("A1", "A2"));
+
+        // when & then
+        assertThat(cache.get(1L, 7L, 8, AnimalFilter.PROTECTING_ONLY)).contains(List.of("A1", "A2"));
+        assertThat(cache.get(1L, 7L, 4, AnimalFilter.PROTECTING_ONLY)).isEmpty();
+        assertThat(cache.get(2L, 7L, 8, AnimalFilter.PROTECTING_ONLY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인덱스 version이 바뀌면 캐시 미스")
+    void 인덱스_version이_바뀌면_캐시_미스() {
+        // given
+        cache.put(1L, cache.token(1L), 7L, 8, AnimalFilter.PROTECTING_ONLY, List.of("A1"));
+
+        // when & then
+        assertThat(cache.get(1L, 8L, 8, AnimalFilter.PROTECTING_ONLY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자 임베딩 변경 이벤트로 해당 사용자 캐시 제거")
+    void 사용자_임베딩_변경_이벤트로_해당_사용자_캐시_제거() {
+        // given
+        cache.put(1L, cache.token(1L), 7L, 8, AnimalFilter.PROTECTING_ONLY, List.of("A1"));
+        cache.put(2L, cache.token(2L), 7L, 8, AnimalFilter.PROTECTING_ONLY, List.of("A2"));
+
+        // when
+        cache.onUserEmbeddingChanged(new UserEmbeddingChangedEvent(1L));
+
+        // then
+        assertThat(cache.get(1L, 7L, 8, AnimalFilter.PROTECTING_ONLY)).isEmpty();
+        assertThat(cache.get(2L, 7L, 8, AnimalFilter.PROTECTING_ONLY)).contains(List.of("A2"));
+    }
+
+    @Test
+    @DisplayName("계산 도중 무효화되면 결과를 저장하지 않음")
+    void 계산_도중_무효화되면_결과를_저장하지_않음() {
+        // given
+        long token = cache.token(1L);
+        cache.invalidate(1L);
+
+        // when
+        cache.put(1L, token, 7L, 8, AnimalFilter.PROTECTING_ONLY, List.of("A1"));
+
+        // then
+        assertThat(cache.get(1L, 7L, 8, AnimalFilter.PROTECTING_ONLY)).isEmpty();
+    }
+}
@@ -0,0 +1,165 @@
+package com.ganzi.backend.recommendation.application.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ganzi.backend.animal.application.event.AnimalAttributesChangedEvent;
+import com.ganzi.backend.animal.application.event.AnimalAttributesChangedEvent.ChangedAnimal;
+import com.ganzi.backend.animal.domain.AnimalType;
+import com.ganzi.backend.animal.domain.ProcessState;
+import com.ganzi.backend.animal.domain.repository.AnimalEmbeddingRepository;
+import com.ganzi.backend.global.embedding.EmbeddingVectorReader;
+import com.ganzi.backend.recommendation.application.index.AnimalEmbeddingIndex.Snapshot;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnimalEmbeddingIndex 단위 테스트")
+class AnimalEmbeddingIndexTest {
+
+    @Mock
+    private AnimalEmbeddingRepository animalEmbeddingRepository;
+
+    @Mock
+    private EmbeddingVectorReader embeddingVectorReader;
+
+    @InjectMocks
+    private AnimalEmbeddingIndex animalEmbeddingIndex;
+
+    @Test
+    @DisplayName("새 동물은 마지막 행으로 추가")
+    void 새_동물은_마지막_행으로_추가() {
+        // given
+        animalEmbeddingIndex.upsert("A1", new float[]{1f, 0f, 0f}, 테스트용_속성_생성("서울특별시"));
+
+        // when
+        animalEmbeddingIndex.upsert("A2", new float[]{0f, 1f, 0f}, 테스트용_속성_생성("부산광역시"));
+
+        // then
+        Snapshot snapshot = animalEmbeddingIndex.snapshot();
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(snapshot.dimension()).isEqualTo(3);
+        assertThat(snapshot.rowOf("A2")).isEqualTo(1);
+        assertThat(snapshot.desertionNo(1)).isEqualTo("A2");
+        assertThat(snapshot.block(0)[3 + 1]).isEqualTo(1f);
+        assertThat(snapshot.attributes(1).province()).isEqualTo("부산광역시");
+    }
+
+    @Test
+    @DisplayName("이미 있는 동물은 같은 행을 덮어씀")
+    void 이미_있는_동물은_같은_행을_덮어씀() {
+        // given
+        animalEmbeddingIndex.upsert("A1", new float[]{1f, 0f, 0f}, 테스트용_속성_생성("서울특별시"));
+
+        // when
+        animalEmbeddingIndex.upsert("A1", new float[]{0f, 0f, 1f}, 테스트용_속성_생성("부산광역시"));
+
+        // then
+        Snapshot snapshot = animalEmbeddingIndex.snapshot();
+        assertThat(snapshot.size()).isEqualTo(1);
+        assertThat(snapshot.rowOf("A1")).isZero();
+        assertThat(snapshot.block(0)).startsWith(0f, 0f, 1f);
+        assertThat(snapshot.attributes(0).province()).isEqualTo("부산광역시");
+    }
+
+    @Test
+    @DisplayName("차원이 다른 벡터는 반영하지 않음")
+    void 차원이_다른_벡터는_반영하지_않음() {
+        // given
+        animalEmbeddingIndex.upsert("A1", new float[]{1f, 0f, 0f}, 테스트용_속성_생성("서울특별시"));
+        Snapshot before = animalEmbeddingIndex.snapshot();
+
+        // when
+        animalEmbeddingIndex.upsert("A2", new float[]{1f, 0f}, 테스트용_속성_생성("서울특별시"));
+
+        // then
+        Snapshot after = animalEmbeddingIndex.snapshot();
+        assertThat(after.accepts(new float[]{1f, 0f})).isFalse();
+        assertThat(after.rowOf("A2")).isEqualTo(-1);
+        assertThat(after.size()).isEqualTo(1);
+        assertThat(after.version()).isEqualTo(before.version());
+    }
+
+    @Test
+    @DisplayName("변경할 때마다 버전이 증가")
+    void 변경할_때마다_버전이_증가() {
+        // given
+        long initial = animalEmbeddingIndex.snapshot().version();
+
+        // when
+        animalEmbeddingIndex.upsert("A1", new float[]{1f, 0f, 0f}, 테스트용_속성_생성("서울특별시"));
+        long afterInsert = animalEmbeddingIndex.snapshot().version();
+        animalEmbeddingIndex.upsert("A1", new float[]{0f, 1f, 0f}, 테스트용_속성_생성("서울특별시"));
+        long afterReplace = animalEmbeddingIndex.snapshot().version();
+        animalEmbeddingIndex.updateStatus("A1", ProcessState.ADOPTED);
+        long afterStatus = animalEmbeddingIndex.snapshot().version();
+
+        // then
+        assertThat(afterInsert).isGreaterThan(initial);
+        assertThat(afterReplace).isGreaterThan(afterInsert);
+        assertThat(afterStatus).isGreaterThan(afterReplace);
+    }
+
+    @Test
+    @DisplayName("변경 전에 얻은 스냅샷은 그대로 유지")
+    void 변경_전에_얻은_스냅샷은_그대로_유지() {
+        // given
+        animalEmbeddingIndex.upsert("A1", new float[]{1f, 0f, 0f}, 테스트용_속성_생성("서울특별시"));
+        Snapshot before = animalEmbeddingIndex.snapshot();
+
+        // when
+        animalEmbeddingIndex.upsert("A1", new float[]{0f, 1f, 0f}, 테스트용_속성_생성("부산광역시"));
+        animalEmbeddingIndex.updateStatus("A1", ProcessState.ADOPTED);
+        animalEmbeddingIndex.upsert("A2", new float[]{0f, 0f, 1f}, 테스트용_속성_생성("서울특별시"));
+
+        // then
+        assertThat(before.size()).isEqualTo(1);
+        assertThat(before.block(0)).startsWith(1f, 0f, 0f);
+        assertThat(before.attributes(0)).isEqualTo(테스트용_속성_생성("서울특별시"));
+        assertThat(animalEmbeddingIndex.snapshot().attributes(0).status()).isEqualTo(ProcessState.ADOPTED);
+    }
+
+    @Test
+    @DisplayName("임베딩 변경 없이 지역만 바뀐 동물도 필터에 반영")
+    void 임베딩_변경_없이_지역만_바뀐_동물도_필터에_반영() {
+        // given
+        animalEmbeddingIndex.upsert("A1", new float[]{1f, 0f, 0f}, 테스트용_속성_생성("서울특별시"));
+        long before = animalEmbeddingIndex.snapshot().version();
+        AnimalAttributesChangedEvent event = new AnimalAttributesChangedEvent(List.of(
+                new ChangedAnimal("A1", AnimalType.DOG, "부산광역시", "강남구", ProcessState.PROTECTING)));
+
+        // when
+        animalEmbeddingIndex.onAttributesChanged(event);
+
+        // then
+        Snapshot snapshot = animalEmbeddingIndex.snapshot();
+        assertThat(snapshot.filter(new AnimalFilter("부산광역시", null, null, false)).get(0)).isTrue();
+        assertThat(snapshot.filter(new AnimalFilter("서울특별시", null, null, false)).isEmpty()).isTrue();
+        assertThat(snapshot.block(0)).startsWith(1f, 0f, 0f);
+        assertThat(snapshot.version()).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("속성이 그대로면 버전을 올리지 않음")
+    void 속성이_그대로면_버전을_올리지_않음() {
+        // given
+        animalEmbeddingIndex.upsert("A1", new float[]{1f, 0f, 0f}, 테스트용_속성_생성("서울특별시"));
+        long before = animalEmbeddingIndex.snapshot().version();
+
+        // when
+        animalEmbeddingIndex.updateAttributes(Map.of("A1", 테스트용_속성_생성("서울특별시"), "A9", 테스트용_속성_생성("부산광역시")));
+
+        // then
+        assertThat(animalEmbeddingIndex.snapshot().version()).isEqualTo(before);
+    }
+
+    // 테스트 헬퍼 메서드
+    private AnimalAttributes 테스트용_속성_생성(String province) {
+        return new AnimalAttributes(AnimalType.DOG, province, "강남구", ProcessState.PROTECTING);
+    }
+}
@@ -0,0 +1,152 @@
+package com.ganzi.backend.recommendation.application.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ganzi.backend.global.embedding.EmbeddingVectors;
+import com.ganzi.backend.recommendation.application.scoring.DotProductKernel;
+import com.ganzi.backend.recommendation.application.scoring.DotProductKernels;
+import com.ganzi.backend.recommendation.application.scoring.TopKSelector;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("HnswIndex 단위 테스트")
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+    private static final int ROWS = 3000;
+    private static final int K = 10;
+
+    private final DotProductKernel kernel = DotProductKernels.scalar();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("전수 스코어링 대비 recall@10이 0.9 이상")
+    void 전수_스코어링_대비_recall_10이_0_9_이상() {
+        // given
+        Random random = new Random(7);
+        List<float[]> vectors = 테스트용_벡터_생성(random, ROWS);
+        HnswIndex index = 테스트용_인덱스_생성(vectors);
+
+        // when
+        int hits = 0;
+        int queries = 100;
+        for (int q = 0; q < queries; q++) {
+            float[] query = 단위_벡터(random);
+            Set<String> expected = 전수_상위_K(vectors, query, K);
+            for (String id : index.search(query, K, 64)) {
+                if (expected.contains(id)) {
+                    hits++;
+                }
+            }
+        }
+
+        // then
+        double recall = (double) hits / (queries * K);
+        assertThat(recall).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    @DisplayName("삭제된 동물은 검색 결과에서 제외")
+    void 삭제된_동물은_검색_결과에서_제외() {
+        // given
+        Random random = new Random(11);
+        List<float[]> vectors = 테스트용_벡터_생성(random, 500);
+        HnswIndex index = 테스트용_인덱스_생성(vectors);
+        float[] query = vectors.get(42);
+
+        // when
+        boolean removed = index.remove("A42");
+        List<String> result = index.search(query, K, 64);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(result).hasSize(K).doesNotContain("A42");
+        assertThat(index.size()).isEqualTo(499);
+        assertThat(index.contains("A42")).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 id로 다시 추가하면 새 벡터로 교체")
+    void 같은_id로_다시_추가하면_새_벡터로_교체() {
+        // given
+        Random random = new Random(13);
+        List<float[]> vectors = 테스트용_벡터_생성(random, 500);
+        HnswIndex index = 테스트용_인덱스_생성(vectors);
+        float[] replacement = 단위_벡터(random);
+
+        // when
+        index.add("A7", replacement);
+
+        // then
+        assertThat(index.size()).isEqualTo(500);
+        assertThat(index.vectorOf("A7")).containsExactly(replacement);
+        assertThat(index.search(replacement, 1, 64)).containsExactly("A7");
+    }
+
+    @Test
+    @DisplayName("파일로 저장 후 불러오면 같은 검색 결과 반환")
+    void 파일로_저장_후_불러오면_같은_검색_결과_반환() throws Exception {
+        // given
+        Random random = new Random(17);
+        List<float[]> vectors = 테스트용_벡터_생성(random, 800);
+        HnswIndex index = 테스트용_인덱스_생성(vectors);
+        index.remove("A3");
+        Path path = tempDir.resolve("animal-hnsw.idx");
+        float[] query = 단위_벡터(random);
+
+        // when
+        index.save(path);
+        HnswIndex loaded = HnswIndex.load(path, kernel);
+
+        // then
+        assertThat(loaded.size()).isEqualTo(index.size());
+        assertThat(loaded.contains("A3")).isFalse();
+        assertThat(loaded.search(query, K, 64)).containsExactlyElementsOf(index.search(query, K, 64));
+    }
+
+    private HnswIndex 테스트용_인덱스_생성(List<float[]> vectors) {
+        HnswIndex index = new HnswIndex(kernel, DIMENSION, 16, 100);
+        for (int i = 0; i < vectors.size(); i++) {
+            index.add("A" + i, vectors.get(i));
+        }
+        return index;
+    }
+
+    private Set<String> 전수_상위_K(List<float[]> vectors, float[] query, int k) {
+        TopKSelector selector = new TopKSelector(k);
+        for (int i = 0; i < vectors.size(); i++) {
+            selector.offer(i, kernel.dot(query, vectors.get(i), 0, DIMENSION));
+        }
+        Set<String> ids = new HashSet<>();
+        for (int row : selector.sortedIds()) {
+            ids.add("A" + row);
+        }
+        return ids;
+    }
+
+    private List<float[]> 테스트용_벡터_생성(Random random, int rows) {
+        List<float[]> vectors = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            vectors.add(단위_벡터(random));
+        }
+        return vectors;
+    }
+
+    private float[] 단위_벡터(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        EmbeddingVectors.normalizeInPlace(vector);
+        return vector;
+    }
+}
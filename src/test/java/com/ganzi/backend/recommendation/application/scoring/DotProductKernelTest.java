@@ -0,0 +1,64 @@
+package com.ganzi.backend.recommendation.application.scoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DotProductKernel 단위 테스트")
+class DotProductKernelTest {
+
+    private final DotProductKernel scalar = DotProductKernels.scalar();
+    private final DotProductKernel best = DotProductKernels.best();
+
+    @Test
+    @DisplayName("Vector API 모듈이 있으면 Vector API 커널이 선택됨")
+    void Vector_API_모듈이_있으면_Vector_API_커널이_선택됨() {
+        // Gradle 테스트 태스크처럼 --add-modules jdk.incubator.vector로 실행한 경우에만 확인
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+
+        assertThat(best.name()).startsWith("vector-api");
+    }
+
+    @Test
+    @DisplayName("SIMD 커널과 스칼라 커널의 내적 결과가 일치")
+    void SIMD_커널과_스칼라_커널의_내적_결과가_일치() {
+        // given
+        Random random = new Random(1);
+        // 레인 수로 나누어떨어지지 않는 차원도 포함
+        for (int dimension : new int[]{1, 7, 16, 100, 4096, 4099}) {
+            float[] query = 랜덤_벡터(random, dimension);
+            float[] matrix = 랜덤_벡터(random, dimension * 3);
+
+            for (int row = 0; row < 3; row++) {
+                // when
+                float expected = 정확한_내적(query, matrix, row * dimension);
+                float simd = best.dot(query, matrix, row * dimension, dimension);
+                float scalarResult = scalar.dot(query, matrix, row * dimension, dimension);
+
+                // then
+                assertThat(simd).isCloseTo(expected, within(1e-3f));
+                assertThat(scalarResult).isCloseTo(expected, within(1e-3f));
+            }
+        }
+    }
+
+    private float 정확한_내적(float[] a, float[] b, int offset) {
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += (double) a[i] * b[offset + i];
+        }
+        return (float) sum;
+    }
+
+    private float[] 랜덤_벡터(Random random, int length) {
+        float[] vector = new float[length];
+        for (int i = 0; i < length; i++) {
+            vector[i] = (float) (random.nextGaussian() / Math.sqrt(length));
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,129 @@
+package com.ganzi.backend.recommendation.application.scoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ganzi.backend.animal.domain.AnimalType;
+import com.ganzi.backend.animal.domain.ProcessState;
+import com.ganzi.backend.global.embedding.EmbeddingVectors;
+import com.ganzi.backend.recommendation.application.index.AnimalAttributes;
+import com.ganzi.backend.recommendation.application.index.AnimalEmbeddingIndex;
+import com.ganzi.backend.recommendation.application.index.AnimalFilter;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RecommendationScoringEngine 단위 테스트")
+class RecommendationScoringEngineTest {
+
+    private static final int DIMENSION = 64;
+    private static final AnimalAttributes PROTECTING_DOG =
+            new AnimalAttributes(AnimalType.DOG, "서울특별시", "강남구", ProcessState.PROTECTING);
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("병렬 스코어링 결과는 직렬 스코어링 결과와 동일")
+    void 병렬_스코어링_결과는_직렬_스코어링_결과와_동일() {
+        // given
+        Random random = new Random(3);
+        AnimalEmbeddingIndex.Snapshot snapshot = 테스트용_스냅샷_생성(random, 1000);
+        float[] query = 단위_벡터(random);
+        RecommendationScoringEngine serial = new RecommendationScoringEngine(false, pool, 128, Integer.MAX_VALUE);
+        RecommendationScoringEngine parallel = new RecommendationScoringEngine(false, pool, 128, 0);
+
+        // when
+        int[] serialTop = serial.topK(query, snapshot, 8).sortedIds();
+        int[] parallelTop = parallel.topK(query, snapshot, 8).sortedIds();
+
+        // then
+        assertThat(parallelTop).hasSize(8).containsExactly(serialTop);
+    }
+
+    @Test
+    @DisplayName("가장 유사한 벡터가 1순위로 선택됨")
+    void 가장_유사한_벡터가_1순위로_선택됨() {
+        // given
+        Random random = new Random(5);
+        AnimalEmbeddingIndex index = new AnimalEmbeddingIndex(null, null);
+        float[] target = 단위_벡터(random);
+        for (int i = 0; i < 300; i++) {
+            index.upsert("A" + i, i == 217 ? target.clone() : 단위_벡터(random), PROTECTING_DOG);
+        }
+        RecommendationScoringEngine engine = new RecommendationScoringEngine(true, pool, 128, 0);
+
+        // when
+        int[] top = engine.topK(target, index.snapshot(), 3).sortedIds();
+
+        // then
+        assertThat(index.snapshot().desertionNo(top[0])).isEqualTo("A217");
+    }
+
+    @Test
+    @DisplayName("요청 개수가 카탈로그보다 크면 카탈로그 크기만큼 반환")
+    void 요청_개수가_카탈로그보다_크면_카탈로그_크기만큼_반환() {
+        // given
+        Random random = new Random(9);
+        AnimalEmbeddingIndex.Snapshot snapshot = 테스트용_스냅샷_생성(random, 5);
+        RecommendationScoringEngine engine = new RecommendationScoringEngine(false, pool, 128, 0);
+
+        // when
+        TopKSelector selector = engine.topK(단위_벡터(random), snapshot, 8);
+
+        // then
+        assertThat(selector.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("필터에 맞지 않는 동물은 유사도가 높아도 제외")
+    void 필터에_맞지_않는_동물은_유사도가_높아도_제외() {
+        // given
+        Random random = new Random(21);
+        AnimalEmbeddingIndex index = new AnimalEmbeddingIndex(null, null);
+        float[] target = 단위_벡터(random);
+        AnimalAttributes adoptedDog = PROTECTING_DOG.withStatus(ProcessState.ADOPTED);
+        AnimalAttributes protectingCat = new AnimalAttributes(AnimalType.CAT, "부산광역시", "해운대구", ProcessState.PROTECTING);
+        for (int i = 0; i < 600; i++) {
+            AnimalAttributes attributes = i % 3 == 0 ? adoptedDog : i % 3 == 1 ? protectingCat : PROTECTING_DOG;
+            index.upsert("A" + i, i < 3 ? target.clone() : 단위_벡터(random), attributes);
+        }
+        AnimalEmbeddingIndex.Snapshot snapshot = index.snapshot();
+        AnimalFilter filter = new AnimalFilter("서울특별시", null, AnimalType.DOG, true);
+        RecommendationScoringEngine engine = new RecommendationScoringEngine(false, pool, 128, 0);
+
+        // when
+        BitSet allowed = snapshot.filter(filter);
+        int[] top = engine.topK(target, snapshot, 5, allowed).sortedIds();
+
+        // then
+        assertThat(allowed.cardinality()).isEqualTo(200);
+        assertThat(snapshot.desertionNo(top[0])).isEqualTo("A2");
+        for (int row : top) {
+            assertThat(filter.matches(snapshot.attributes(row))).isTrue();
+        }
+    }
+
+    private AnimalEmbeddingIndex.Snapshot 테스트용_스냅샷_생성(Random random, int rows) {
+        AnimalEmbeddingIndex index = new AnimalEmbeddingIndex(null, null);
+        for (int i = 0; i < rows; i++) {
+            index.upsert("A" + i, 단위_벡터(random), PROTECTING_DOG);
+        }
+        return index.snapshot();
+    }
+
+    private float[] 단위_벡터(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        EmbeddingVectors.normalizeInPlace(vector);
+        return vector;
+    }
+}
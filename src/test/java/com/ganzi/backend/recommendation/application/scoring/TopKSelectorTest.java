@@ -0,0 +1,110 @@
+package com.ganzi.backend.recommendation.application.scoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TopKSelector 단위 테스트")
+class TopKSelectorTest {
+
+    @Test
+    @DisplayName("점수 상위 K개를 내림차순으로 반환")
+    void 점수_상위_K개를_내림차순으로_반환() {
+        // given
+        TopKSelector selector = new TopKSelector(3);
+
+        // when
+        selector.offer(0, 0.1);
+        selector.offer(1, 0.9);
+        selector.offer(2, 0.5);
+        selector.offer(3, 0.7);
+        selector.offer(4, 0.3);
+
+        // then
+        assertThat(selector.sortedIds()).containsExactly(1, 3, 2);
+        assertThat(selector.threshold()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("후보가 K보다 적으면 전부 반환")
+    void 후보가_K보다_적으면_전부_반환() {
+        // given
+        TopKSelector selector = new TopKSelector(8);
+
+        // when
+        selector.offer(0, 0.2);
+        selector.offer(1, 0.4);
+
+        // then
+        assertThat(selector.isFull()).isFalse();
+        assertThat(selector.threshold()).isEqualTo(Double.NEGATIVE_INFINITY);
+        assertThat(selector.sortedIds()).containsExactly(1, 0);
+    }
+
+    @Test
+    @DisplayName("NaN 점수는 무시")
+    void NaN_점수는_무시() {
+        // given
+        TopKSelector selector = new TopKSelector(2);
+
+        // when
+        selector.offer(0, Double.NaN);
+        selector.offer(1, 0.1);
+
+        // then
+        assertThat(selector.sortedIds()).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("병합 결과는 전체 정렬 결과와 동일")
+    void 병합_결과는_전체_정렬_결과와_동일() {
+        // given
+        Random random = new Random(42);
+        double[] scores = random.doubles(1000).toArray();
+        TopKSelector left = new TopKSelector(10);
+        TopKSelector right = new TopKSelector(10);
+        for (int i = 0; i < scores.length; i++) {
+            (i % 2 == 0 ? left : right).offer(i, scores[i]);
+        }
+
+        // when
+        left.merge(right);
+
+        // then
+        int[] expected = IntStream.range(0, scores.length).boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> scores[i]).reversed())
+                .limit(10)
+                .mapToInt(Integer::intValue)
+                .toArray();
+        assertThat(left.sortedIds()).containsExactly(expected);
+    }
+
+    @Test
+    @DisplayName("sortedIds 호출은 힙 상태를 바꾸지 않음")
+    void sortedIds_호출은_힙_상태를_바꾸지_않음() {
+        // given
+        TopKSelector selector = new TopKSelector(2);
+        selector.offer(0, 0.3);
+        selector.offer(1, 0.6);
+
+        // when
+        int[] first = selector.sortedIds();
+        selector.offer(2, 0.5);
+
+        // then
+        assertThat(first).containsExactly(1, 0);
+        assertThat(selector.sortedIds()).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("음수 크기로 생성하면 예외 발생")
+    void 음수_크기로_생성하면_예외_발생() {
+        assertThatThrownBy(() -> new TopKSelector(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ganzi.backend.user.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ganzi.backend.user.application.event.UserInterestChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserEmbeddingUpdateQueue 단위 테스트")
+class UserEmbeddingUpdateQueueTest {
+
+    @Mock
+    private UserInterestService userInterestService;
+
+    private MeterRegistry meterRegistry;
+    private UserEmbeddingUpdateQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new UserEmbeddingUpdateQueue(userInterestService, Runnable::run, meterRegistry, 500);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 이벤트는 한 번의 반영으로 합쳐짐")
+    void 같은_사용자의_이벤트는_한_번의_반영으로_합쳐짐() {
+        // given
+        queue.onInterestChanged(new UserInterestChangedEvent(1L, "A1", 0.2));
+        queue.onInterestChanged(new UserInterestChangedEvent(1L, "A1", 1.0));
+        queue.onInterestChanged(new UserInterestChangedEvent(1L, "A2", 0.3));
+        queue.onInterestChanged(new UserInterestChangedEvent(2L, "A1", -1.0));
+
+        // when
+        queue.flush();
+
+        // then
+        verify(userInterestService, times(1)).applyWeightDeltas(eq(1L), eq(Map.of("A1", 1.2, "A2", 0.3)));
+        verify(userInterestService, times(1)).applyWeightDeltas(eq(2L), eq(Map.of("A1", -1.0)));
+        assertThat(queue.depth()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 중인 사용자 수를 메트릭으로 노출")
+    void 대기_중인_사용자_수를_메트릭으로_노출() {
+        // given
+        queue.onInterestChanged(new UserInterestChangedEvent(1L, "A1", 0.1));
+        queue.onInterestChanged(new UserInterestChangedEvent(2L, "A1", 0.1));
+
+        // when
+        double depth = meterRegistry.get("user.embedding.queue.depth").gauge().value();
+        double lag = meterRegistry.get("user.embedding.queue.lag").gauge().value();
+
+        // then
+        assertThat(depth).isEqualTo(2.0);
+        assertThat(lag).isGreaterThanOrEqualTo(0.0);
+    }
+}
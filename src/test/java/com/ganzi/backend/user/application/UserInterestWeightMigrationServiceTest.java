@@ -0,0 +1,92 @@
+package com.ganzi.backend.user.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.ganzi.backend.user.domain.UserInterestWeightBackfill;
+import com.ganzi.backend.user.domain.repository.UserInterestWeightBackfillRepository;
+import com.ganzi.backend.user.infrastructure.persistence.UserInterestWeightJdbcRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserInterestWeightMigrationService 단위 테스트")
+class UserInterestWeightMigrationServiceTest {
+
+    @Mock
+    private UserInterestWeightBackfillRepository backfillRepository;
+
+    @Mock
+    private UserInterestWeightJdbcRepository userInterestWeightJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<UserInterestWeightBackfill> backfillCaptor;
+
+    private UserInterestWeightMigrationService migrationService;
+
+    @BeforeEach
+    void setUp() {
+        migrationService = new UserInterestWeightMigrationService(
+                backfillRepository, userInterestWeightJdbcRepository, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("이관 기록이 없으면 기록을 남기고 cutoff 이전 원본만 이관")
+    void 이관_기록이_없으면_기록을_남기고_cutoff_이전_원본만_이관() {
+        // given
+        given(backfillRepository.existsById(UserInterestWeightMigrationService.BACKFILL_NAME)).willReturn(false);
+
+        // when
+        migrationService.migrateOnStartup();
+
+        // then
+        verify(backfillRepository).saveAndFlush(backfillCaptor.capture());
+        LocalDateTime cutoff = backfillCaptor.getValue().getCutoff();
+        verify(userInterestWeightJdbcRepository).backfillBefore(cutoff);
+    }
+
+    @Test
+    @DisplayName("이관 기록이 있으면 다시 이관하지 않음")
+    void 이관_기록이_있으면_다시_이관하지_않음() {
+        // given
+        given(backfillRepository.existsById(UserInterestWeightMigrationService.BACKFILL_NAME)).willReturn(true);
+
+        // when
+        migrationService.migrateOnStartup();
+
+        // then
+        assertThat(migrationService.isCompleted()).isTrue();
+        verify(backfillRepository, never()).saveAndFlush(any());
+        verify(userInterestWeightJdbcRepository, never()).backfillBefore(any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 이관하면 중복 이관하지 않음")
+    void 다른_인스턴스가_먼저_이관하면_중복_이관하지_않음() {
+        // given
+        given(backfillRepository.existsById(UserInterestWeightMigrationService.BACKFILL_NAME)).willReturn(false);
+        given(backfillRepository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        migrationService.migrateOnStartup();
+
+        // then
+        verify(userInterestWeightJdbcRepository, never()).backfillBefore(any());
+    }
+}
@@ -0,0 +1,116 @@
+package com.ganzi.backend.user.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ganzi.backend.user.application.UserInterestWriteBuffer.OverflowPolicy;
+import com.ganzi.backend.user.application.dto.UserInterestRecord;
+import com.ganzi.backend.user.application.event.UserInterestChangedEvent;
+import com.ganzi.backend.user.infrastructure.persistence.UserInterestJdbcRepository;
+import com.ganzi.backend.user.infrastructure.persistence.UserInterestWeightJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserInterestWriteBuffer 단위 테스트")
+class UserInterestWriteBufferTest {
+
+    @Mock
+    private UserInterestJdbcRepository userInterestJdbcRepository;
+
+    @Mock
+    private UserInterestWeightJdbcRepository userInterestWeightJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Captor
+    private ArgumentCaptor<List<UserInterestRecord>> recordsCaptor;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("쌓인 관심 기록을 한 번에 저장하고 이벤트 발행")
+    void 쌓인_관심_기록을_한_번에_저장하고_이벤트_발행() {
+        // given
+        UserInterestWriteBuffer buffer = 테스트용_버퍼_생성(10, OverflowPolicy.DROP);
+        buffer.add(1L, "A1", 5);
+        buffer.add(1L, "A2", null);
+        buffer.add(2L, "A1", 100);
+        given(userInterestJdbcRepository.insertAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        buffer.flush();
+
+        // then
+        verify(userInterestJdbcRepository, times(1)).insertAll(recordsCaptor.capture());
+        assertThat(recordsCaptor.getValue()).extracting(UserInterestRecord::desertionNo)
+                .containsExactly("A1", "A2", "A1");
+        verify(userInterestWeightJdbcRepository).addAll(List.of(
+                new UserInterestChangedEvent(1L, "A1", 0.2),
+                new UserInterestChangedEvent(1L, "A2", 0.1),
+                new UserInterestChangedEvent(2L, "A1", 0.3)));
+        verify(eventPublisher).publishEvent(new UserInterestChangedEvent(1L, "A2", 0.1));
+        verify(eventPublisher).publishEvent(new UserInterestChangedEvent(2L, "A1", 0.3));
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("DROP 정책은 버퍼가 가득 차면 버리고 집계")
+    void DROP_정책은_버퍼가_가득_차면_버리고_집계() {
+        // given
+        UserInterestWriteBuffer buffer = 테스트용_버퍼_생성(2, OverflowPolicy.DROP);
+
+        // when
+        buffer.add(1L, "A1", 1);
+        buffer.add(1L, "A2", 1);
+        buffer.add(1L, "A3", 1);
+
+        // then
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("user.interest.buffer.dropped").counter().count()).isEqualTo(1.0);
+        verify(userInterestJdbcRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS 정책은 버퍼가 가득 차면 요청 스레드에서 저장")
+    void CALLER_RUNS_정책은_버퍼가_가득_차면_요청_스레드에서_저장() {
+        // given
+        UserInterestWriteBuffer buffer = 테스트용_버퍼_생성(1, OverflowPolicy.CALLER_RUNS);
+        given(userInterestJdbcRepository.insertAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        buffer.add(1L, "A1", 1);
+
+        // when
+        buffer.add(1L, "A2", 1);
+
+        // then
+        verify(userInterestJdbcRepository).insertAll(recordsCaptor.capture());
+        assertThat(recordsCaptor.getValue()).extracting(UserInterestRecord::desertionNo).containsExactly("A2");
+        assertThat(buffer.size()).isEqualTo(1);
+    }
+
+    // flush는 테스트에서 직접 호출하도록 비동기 실행은 버림
+    private UserInterestWriteBuffer 테스트용_버퍼_생성(int capacity, OverflowPolicy overflowPolicy) {
+        return new UserInterestWriteBuffer(userInterestJdbcRepository, userInterestWeightJdbcRepository,
+                new TransactionTemplate(transactionManager), eventPublisher, command -> {
+        }, meterRegistry, capacity, 100, overflowPolicy);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ganzi.backend.user.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UserEmbedding 단위 테스트")
+class UserEmbeddingTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("증분 반영 결과가 전체 재계산 결과와 동일")
+    void 증분_반영_결과가_전체_재계산_결과와_동일() {
+        // given
+        float[] first = {1.0f, 0.0f, 0.0f};
+        float[] second = {0.0f, 2.0f, 0.0f};
+        UserEmbedding incremental = UserEmbedding.builder().build();
+        incremental.resetWeightedSum(scaled(first, 0.3), 0.3, NOW);
+
+        // when
+        incremental.applyWeightDelta(second, 1.0, 1.0);
+
+        // then
+        UserEmbedding full = UserEmbedding.builder().build();
+        float[] sum = scaled(first, 0.3);
+        sum[1] += 2.0f;
+        full.resetWeightedSum(sum, 1.3, NOW);
+        assertThat(incremental.getTotalWeight()).isCloseTo(1.3, within(1e-9));
+        assertThat(incremental.getEmbedding()).containsExactly(full.getEmbedding(), within(1e-6f));
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 해당 벡터를 누적 합에서 제거")
+    void 좋아요_취소는_해당_벡터를_누적_합에서_제거() {
+        // given
+        float[] interest = {0.0f, 0.0f, 1.0f};
+        float[] liked = {1.0f, 0.0f, 0.0f};
+        UserEmbedding userEmbedding = UserEmbedding.builder().build();
+        userEmbedding.resetWeightedSum(scaled(interest, 0.2), 0.2, NOW);
+        userEmbedding.applyWeightDelta(liked, 1.0, 1.0);
+
+        // when
+        userEmbedding.applyWeightDelta(liked, -1.0, -1.0);
+
+        // then
+        assertThat(userEmbedding.getTotalWeight()).isCloseTo(0.2, within(1e-9));
+        assertThat(userEmbedding.getEmbedding()).containsExactly(new float[]{0.0f, 0.0f, 1.0f}, within(1e-6f));
+    }
+
+    @Test
+    @DisplayName("감쇠 후 새 관심은 오래된 관심보다 큰 비중으로 반영")
+    void 감쇠_후_새_관심은_오래된_관심보다_큰_비중으로_반영() {
+        // given
+        float[] old = {1.0f, 0.0f};
+        float[] recent = {0.0f, 1.0f};
+        UserEmbedding userEmbedding = UserEmbedding.builder().build();
+        userEmbedding.resetWeightedSum(scaled(old, 1.0), 1.0, NOW);
+
+        // when
+        userEmbedding.decayTo(0.25, NOW.plusDays(60));
+        userEmbedding.applyWeightDelta(recent, 1.0, 1.0);
+
+        // then
+        assertThat(userEmbedding.getTotalWeight()).isCloseTo(1.25, within(1e-9));
+        assertThat(userEmbedding.getWeightedSumAt()).isEqualTo(NOW.plusDays(60));
+        assertThat(userEmbedding.getEmbedding()[1]).isGreaterThan(userEmbedding.getEmbedding()[0] * 3.9f);
+    }
+
+    private float[] scaled(float[] vector, double scale) {
+        float[] result = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            result[i] = (float) (vector[i] * scale);
+        }
+        return result;
+    }
+}
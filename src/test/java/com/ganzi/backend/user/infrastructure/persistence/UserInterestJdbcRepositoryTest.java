@@ -0,0 +1,89 @@
+package com.ganzi.backend.user.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ganzi.backend.user.application.dto.UserInterestRecord;
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserInterestJdbcRepository 단위 테스트")
+class UserInterestJdbcRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private UserInterestJdbcRepository userInterestJdbcRepository;
+
+    @Test
+    @DisplayName("실패 후에도 계속 실행한 배치는 실패한 건만 다시 저장")
+    void 실패_후에도_계속_실행한_배치는_실패한_건만_다시_저장() {
+        // given
+        List<UserInterestRecord> records = 테스트용_기록_생성("A1", "A2", "A3");
+        테스트용_배치_실패_설정(new int[]{1, Statement.EXECUTE_FAILED, 1});
+        given(jdbcTemplate.update(anyString(), eq(1L), eq("A2"), any(), any(), any(), any()))
+                .willThrow(new DataIntegrityViolationException("fk"));
+
+        // when
+        List<UserInterestRecord> inserted = userInterestJdbcRepository.insertAll(records);
+
+        // then
+        assertThat(inserted).extracting(UserInterestRecord::desertionNo).containsExactly("A1", "A3");
+        verify(jdbcTemplate, times(1)).update(anyString(), eq(1L), eq("A2"), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("실패 지점에서 중단한 배치는 실행되지 않은 건까지 다시 저장")
+    void 실패_지점에서_중단한_배치는_실행되지_않은_건까지_다시_저장() {
+        // given
+        List<UserInterestRecord> records = 테스트용_기록_생성("A1", "A2", "A3");
+        테스트용_배치_실패_설정(new int[]{1});
+        given(jdbcTemplate.update(anyString(), eq(1L), eq("A2"), any(), any(), any(), any()))
+                .willThrow(new DataIntegrityViolationException("fk"));
+
+        // when
+        List<UserInterestRecord> inserted = userInterestJdbcRepository.insertAll(records);
+
+        // then
+        assertThat(inserted).extracting(UserInterestRecord::desertionNo).containsExactly("A1", "A3");
+        verify(jdbcTemplate, never()).update(anyString(), eq(1L), eq("A1"), any(), any(), any(), any());
+        verify(jdbcTemplate, times(1)).update(anyString(), eq(1L), eq("A3"), any(), any(), any(), any());
+    }
+
+    // 테스트 헬퍼 메서드
+    @SuppressWarnings("unchecked")
+    private void 테스트용_배치_실패_설정(int[] updateCounts) {
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new DataIntegrityViolationException("batch failed",
+                        new BatchUpdateException(updateCounts)));
+    }
+
+    private List<UserInterestRecord> 테스트용_기록_생성(String... desertionNos) {
+        LocalDateTime viewedAt = LocalDateTime.of(2024, 11, 1, 12, 0);
+        return Arrays.stream(desertionNos)
+                .map(desertionNo -> new UserInterestRecord(1L, desertionNo, 10, viewedAt))
+                .toList();
+    }
+}